@@ -0,0 +1,194 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.RollupPointDto;
+import com.example.cms.entity.ActivityRollup;
+import com.example.cms.entity.RollupGranularity;
+import com.example.cms.entity.RollupMetric;
+import com.example.cms.event.ChatRoomStatusChangedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.repository.ActivityRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ActivityRollupService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityRollupService 테스트")
+class ActivityRollupServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 14, 30, 20);
+
+    @Mock
+    private ActivityRollupRepository rollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ActivityRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = Clock.fixed(NOW.atZone(zone).toInstant(), zone);
+        rollupService = new ActivityRollupService(rollupRepository, transactionManager, clock);
+    }
+
+    @Test
+    @DisplayName("이벤트는 분/시간/일 버킷에 모두 누적되어야 한다")
+    void shouldRecordIntoEveryGranularity() {
+        // given
+        rollupService.onPostCreated(new PostCreatedEvent(1L, 1L, 1L, true, NOW));
+        rollupService.onPostCreated(new PostCreatedEvent(2L, 1L, 1L, false, NOW.plusSeconds(10)));
+        when(rollupRepository.incrementCount(any(), any(), any(), anyLong())).thenReturn(1);
+
+        // when
+        rollupService.flush();
+
+        // then
+        verify(rollupRepository).incrementCount(RollupMetric.POSTS, RollupGranularity.MINUTE,
+                LocalDateTime.of(2024, 3, 15, 14, 30), 2L);
+        verify(rollupRepository).incrementCount(RollupMetric.POSTS, RollupGranularity.HOUR,
+                LocalDateTime.of(2024, 3, 15, 14, 0), 2L);
+        verify(rollupRepository).incrementCount(RollupMetric.POSTS, RollupGranularity.DAY,
+                LocalDateTime.of(2024, 3, 15, 0, 0), 2L);
+        verify(rollupRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("버킷이 없으면 새로 생성해야 한다")
+    void shouldInsertMissingBucket() {
+        // given
+        rollupService.record(RollupMetric.SIGNUPS, NOW);
+        when(rollupRepository.incrementCount(any(), any(), any(), anyLong())).thenReturn(0);
+
+        // when
+        rollupService.flush();
+
+        // then
+        verify(rollupRepository).saveAndFlush(
+                new ActivityRollup(RollupMetric.SIGNUPS, RollupGranularity.HOUR, LocalDateTime.of(2024, 3, 15, 14, 0), 1L));
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 누적분을 유지하고 다음 주기에 재시도해야 한다")
+    void shouldKeepPendingDeltaWhenFlushFails() {
+        // given
+        rollupService.record(RollupMetric.COMMENTS, NOW);
+        when(rollupRepository.incrementCount(any(), any(), any(), anyLong()))
+                .thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        rollupService.flush();
+
+        // then
+        List<RollupPointDto> series = rollupService.getSeries(RollupMetric.COMMENTS, RollupGranularity.DAY,
+                NOW, NOW);
+        assertThat(series).extracting(RollupPointDto::count).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("구간 조회 시 빈 버킷은 0으로 채우고 미반영분을 더해야 한다")
+    void shouldFillGapsAndIncludePending() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 3, 15, 12, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 3, 15, 14, 59);
+        when(rollupRepository.findByMetricAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                eq(RollupMetric.CHAT_ROOMS_CLOSED), eq(RollupGranularity.HOUR), any(), any()))
+                .thenReturn(List.of(new ActivityRollup(RollupMetric.CHAT_ROOMS_CLOSED, RollupGranularity.HOUR,
+                        LocalDateTime.of(2024, 3, 15, 12, 0), 4L)));
+        rollupService.onChatRoomStatusChanged(new ChatRoomStatusChangedEvent(1L, true, false, true, NOW));
+        rollupService.onChatRoomStatusChanged(new ChatRoomStatusChangedEvent(2L, false, true, false, NOW));
+
+        // when
+        List<RollupPointDto> series = rollupService.getSeries(RollupMetric.CHAT_ROOMS_CLOSED,
+                RollupGranularity.HOUR, from, to);
+
+        // then
+        assertThat(series).extracting(RollupPointDto::bucketStart).containsExactly(
+                LocalDateTime.of(2024, 3, 15, 12, 0),
+                LocalDateTime.of(2024, 3, 15, 13, 0),
+                LocalDateTime.of(2024, 3, 15, 14, 0));
+        assertThat(series).extracting(RollupPointDto::count).containsExactly(4L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("최대 버킷 수를 넘는 구간은 조회할 수 없어야 한다")
+    void shouldRejectTooLongRange() {
+        assertThatThrownBy(() -> rollupService.getSeries(RollupMetric.POSTS, RollupGranularity.MINUTE,
+                NOW.minusDays(30), NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> rollupService.getSeries(RollupMetric.POSTS, RollupGranularity.DAY,
+                NOW, NOW.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("분/시간 단위는 보존 기간 이전 구간을 조회할 수 없어야 한다")
+    void shouldRejectRangeOlderThanRetention() {
+        assertThatThrownBy(() -> rollupService.getSeries(RollupMetric.POSTS, RollupGranularity.MINUTE,
+                NOW.minusDays(3), NOW.minusDays(3).plusMinutes(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> rollupService.getSeries(RollupMetric.POSTS, RollupGranularity.HOUR,
+                NOW.minusDays(91), NOW.minusDays(90)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(rollupService.getSeries(RollupMetric.POSTS, RollupGranularity.MINUTE,
+                NOW.minusDays(1), NOW.minusDays(1).plusMinutes(2))).hasSize(3);
+        assertThat(rollupService.getSeries(RollupMetric.POSTS, RollupGranularity.DAY,
+                NOW.minusDays(365), NOW)).hasSize(366);
+    }
+
+    @Test
+    @DisplayName("종료된 버킷을 정리한 뒤 늦게 도착한 이벤트도 다음 반영에 포함되어야 한다")
+    void shouldKeepLateEventsForClosedBuckets() {
+        // given - 이미 반영되어 0이 된 종료 버킷
+        LocalDateTime closed = NOW.minusMinutes(10);
+        rollupService.record(RollupMetric.SIGNUPS, closed);
+        when(rollupRepository.incrementCount(any(), any(), any(), anyLong())).thenReturn(1);
+        rollupService.flush();
+        rollupService.flush();
+
+        // when
+        rollupService.record(RollupMetric.SIGNUPS, closed);
+        rollupService.flush();
+
+        // then
+        verify(rollupRepository, times(2)).incrementCount(RollupMetric.SIGNUPS, RollupGranularity.MINUTE,
+                LocalDateTime.of(2024, 3, 15, 14, 20), 1L);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 분/시간 버킷만 정리해야 한다")
+    void shouldCompactAgedFineGrainedBuckets() {
+        // when
+        rollupService.compact();
+
+        // then
+        verify(rollupRepository).deleteByGranularityAndBucketStartBefore(RollupGranularity.MINUTE,
+                LocalDateTime.of(2024, 3, 13, 14, 30));
+        verify(rollupRepository).deleteByGranularityAndBucketStartBefore(RollupGranularity.HOUR,
+                LocalDateTime.of(2023, 12, 16, 14, 0));
+        verify(rollupRepository, never()).deleteByGranularityAndBucketStartBefore(eq(RollupGranularity.DAY), any());
+    }
+}
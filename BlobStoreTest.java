@@ -0,0 +1,132 @@
+package com.example.cms.service;
+
+import com.example.cms.controller.FileApiController;
+import com.example.cms.dto.StoredBlobDto;
+import com.example.cms.repository.StoredBlobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BlobStore 통합 테스트
+ */
+@DataJpaTest
+@Import(BlobStore.class)
+@DisplayName("BlobStore 테스트")
+class BlobStoreTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    static Path blobDirectory;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("cms.storage.blob-dir", blobDirectory::toString);
+        registry.add("cms.storage.max-upload-size", () -> 100);
+    }
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private StoredBlobRepository storedBlobRepository;
+
+    @Test
+    @DisplayName("SHA-256 해시 이름으로 저장하고 같은 내용은 한 번만 저장해야 한다")
+    void shouldStoreByContentHash() throws Exception {
+        // when
+        StoredBlobDto first = blobStore.store(new ByteArrayInputStream(CONTENT), "image/png");
+        StoredBlobDto second = blobStore.store(new ByteArrayInputStream(CONTENT), "text/plain");
+
+        // then
+        String expectedHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+        assertThat(first.hash()).isEqualTo(expectedHash);
+        assertThat(first.size()).isEqualTo(CONTENT.length);
+        assertThat(first.url()).isEqualTo("/api/files/" + expectedHash);
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.readAllBytes(blobStore.resolve(expectedHash))).isEqualTo(CONTENT);
+        assertThat(storedBlobRepository.count()).isEqualTo(1);
+        try (var temp = Files.list(blobDirectory.resolve("tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("빈 파일과 최대 크기를 넘는 파일은 거부하고 임시 파일을 남기지 않아야 한다")
+    void shouldRejectEmptyAndOversizedFiles() throws Exception {
+        assertThatThrownBy(() -> blobStore.store(new ByteArrayInputStream(new byte[0]), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> blobStore.store(new ByteArrayInputStream(new byte[101]), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        try (var temp = Files.list(blobDirectory.resolve("tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 해시는 조회되지 않아야 한다")
+    void shouldIgnoreInvalidHash() {
+        assertThat(blobStore.find("../../etc/passwd")).isEmpty();
+        assertThat(blobStore.find("A".repeat(64))).isEmpty();
+        assertThat(blobStore.find("0".repeat(64))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다운로드는 ETag 조건부 요청과 Range 요청을 지원해야 한다")
+    void shouldServeConditionalAndRangeRequests() throws Exception {
+        // given
+        StoredBlobDto blob = blobStore.store(new ByteArrayInputStream(CONTENT), "image/png");
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new FileApiController(blobStore, mock(ImageVariantService.class)))
+                .build();
+        String etag = "\"" + blob.hash() + "\"";
+
+        // then
+        mockMvc.perform(get(blob.url()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(content().bytes(CONTENT));
+        mockMvc.perform(get(blob.url()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(blob.url()).header(HttpHeaders.RANGE, "bytes=5-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+                .andExpect(content().string("56789"));
+        mockMvc.perform(get(blob.url()).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("hij"));
+        mockMvc.perform(get(blob.url()).header(HttpHeaders.RANGE, "bytes=5-9").header(HttpHeaders.IF_RANGE, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+        mockMvc.perform(get(blob.url()).header(HttpHeaders.RANGE, "bytes=50-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+        mockMvc.perform(get("/api/files/" + "0".repeat(64)))
+                .andExpect(status().isNotFound());
+    }
+}
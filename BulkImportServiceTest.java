@@ -0,0 +1,260 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.ImportJobDto;
+import com.example.cms.entity.Category;
+import com.example.cms.entity.ImportCheckpoint;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.repository.EntityTableMapping;
+import com.example.cms.repository.IdentityAdjuster;
+import com.example.cms.repository.ImportCheckpointRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BulkImportService 통합 테스트
+ */
+@DataJpaTest(properties = {"cms.import.batch-size=2", "cms.import.node-id=node-a"})
+@Import({BulkImportService.class, TagResolver.class, EntityTableMapping.class, IdentityAdjuster.class,
+        BulkImportServiceTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("BulkImportService 테스트")
+class BulkImportServiceTest {
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        ExecutorService bulkJobExecutor() {
+            return Executors.newSingleThreadExecutor();
+        }
+
+        @Bean
+        ExecutorService importValidationExecutor() {
+            return Executors.newFixedThreadPool(2);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            author = User.builder().email("author@example.com").password("password").name("작성자")
+                    .role(UserRole.CUSTOMER).build();
+            entityManager.persist(author);
+            entityManager.persist(Category.builder().name("공지사항").build());
+        });
+    }
+
+    @Test
+    @DisplayName("CSV 사용자 가져오기는 잘못된 행만 거부하고 나머지를 반영해야 한다")
+    void shouldImportUsersFromCsv() throws InterruptedException {
+        // given
+        String csv = """
+                email,name,password,role
+                kim@example.com,김철수,password123,CUSTOMER
+                "lee@example.com","이, 영희",password123,admin
+                not-an-email,박민수,password123,
+                author@example.com,중복,password123,
+                """;
+
+        // when
+        ImportJobDto job = await(bulkImportService.start(ImportKind.USERS, ImportFormat.CSV, input(csv), "users.csv"));
+
+        // then
+        assertThat(job.status()).isEqualTo(ImportCheckpoint.COMPLETED);
+        assertThat(job.committedRecords()).isEqualTo(4);
+        assertThat(job.importedRows()).isEqualTo(2);
+        assertThat(job.rejectedRows()).isEqualTo(2);
+        assertThat(job.errors()).hasSize(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM users WHERE email = 'lee@example.com'", String.class))
+                .isEqualTo("이, 영희");
+        assertThat(jdbcTemplate.queryForObject("SELECT role FROM users WHERE email = 'lee@example.com'", String.class))
+                .isEqualTo("ADMIN");
+    }
+
+    @Test
+    @DisplayName("JSONL 게시글 가져오기는 카테고리/태그를 해석하고 자동 증가 값을 뒤로 옮겨야 한다")
+    void shouldImportPostsWithTags() throws InterruptedException {
+        // given
+        String jsonl = """
+                {"id": 100, "authorEmail": "author@example.com", "title": "이전 게시글", "content": "본문", "category": "공지사항", "tags": ["Java", "Spring"], "published": true, "createdAt": "2020-03-01 10:00:00"}
+                {"authorEmail": "AUTHOR@example.com", "title": "새 게시글", "content": "본문", "tags": "Java|JPA"}
+                {"authorEmail": "nobody@example.com", "title": "작성자 없음", "content": "본문"}
+                not json
+                """;
+
+        // when
+        ImportJobDto job = await(bulkImportService.start(ImportKind.POSTS, ImportFormat.JSONL, input(jsonl), "posts.jsonl"));
+
+        // then
+        assertThat(job.status()).isEqualTo(ImportCheckpoint.COMPLETED);
+        assertThat(job.importedRows()).isEqualTo(2);
+        assertThat(job.rejectedRows()).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE id = 100 AND published = true")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM post_tags")).isEqualTo(4);
+        assertThat(count("SELECT COUNT(*) FROM tags")).isEqualTo(3);
+
+        // 가져온 뒤 일반 저장도 ID가 겹치지 않아야 한다
+        Long newId = transactionTemplate.execute(status -> {
+            Post post = Post.builder().title("일반 게시글").content("본문")
+                    .author(entityManager.find(User.class, author.getId())).build();
+            entityManager.persist(post);
+            return post.getId();
+        });
+        assertThat(newId).isGreaterThan(100L);
+    }
+
+    @Test
+    @DisplayName("댓글 가져오기는 같은 묶음의 상위 댓글을 참조할 수 있어야 한다")
+    void shouldImportCommentsWithReplies() throws InterruptedException {
+        // given
+        Long postId = transactionTemplate.execute(status -> {
+            Post post = Post.builder().title("게시글").content("본문").author(entityManager.find(User.class, author.getId()))
+                    .published(true).build();
+            entityManager.persist(post);
+            return post.getId();
+        });
+        String jsonl = """
+                {"id": 500, "postId": %d, "authorEmail": "author@example.com", "content": "댓글"}
+                {"id": 501, "postId": %d, "parentId": 500, "authorEmail": "author@example.com", "content": "답글"}
+                {"postId": %d, "parentId": 999, "authorEmail": "author@example.com", "content": "부모 없음"}
+                """.formatted(postId, postId, postId);
+
+        // when
+        ImportJobDto job = await(bulkImportService.start(ImportKind.COMMENTS, ImportFormat.JSONL, input(jsonl), "comments.jsonl"));
+
+        // then
+        assertThat(job.importedRows()).isEqualTo(2);
+        assertThat(job.rejectedRows()).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE parent_comment_id = 500")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 체크포인트 다음 레코드부터 재개해야 한다")
+    void shouldResumeFromCheckpoint() throws Exception {
+        // given - 앞의 2건은 이미 반영된 상태로 실패한 작업
+        Path file = Files.createTempFile("import", ".jsonl");
+        Files.writeString(file, """
+                {"email": "one@example.com", "name": "하나", "password": "password123"}
+                {"email": "two@example.com", "name": "둘", "password": "password123"}
+                {"email": "three@example.com", "name": "셋", "password": "password123"}
+                """);
+        ImportCheckpoint checkpoint = new ImportCheckpoint("resume-job", ImportKind.USERS, ImportFormat.JSONL,
+                "users.jsonl", file.toString());
+        checkpoint.advance(2, 2, 0);
+        checkpoint.changeStatus(ImportCheckpoint.FAILED, "connection reset");
+        checkpointRepository.save(checkpoint);
+
+        // when
+        ImportJobDto job = await(bulkImportService.resume("resume-job"));
+
+        // then
+        assertThat(job.status()).isEqualTo(ImportCheckpoint.COMPLETED);
+        assertThat(job.committedRecords()).isEqualTo(3);
+        assertThat(job.importedRows()).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE email IN ('one@example.com', 'two@example.com')")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM users WHERE email = 'three@example.com'")).isEqualTo(1);
+        assertThat(file).doesNotExist();
+        assertThatThrownBy(() -> bulkImportService.resume("resume-job"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("기동 시에는 이 노드가 실행하던 작업만 중단 상태로 표시해야 한다")
+    void shouldMarkOnlyOwnJobsInterrupted() {
+        // given
+        checkpointRepository.save(running("own-job", "node-a"));
+        checkpointRepository.save(running("other-job", "node-b"));
+
+        // when
+        bulkImportService.markInterruptedJobs();
+
+        // then
+        assertThat(checkpointRepository.findById("own-job").orElseThrow().getStatus())
+                .isEqualTo(ImportCheckpoint.INTERRUPTED);
+        assertThat(checkpointRepository.findById("other-job").orElseThrow().getStatus())
+                .isEqualTo(ImportCheckpoint.RUNNING);
+    }
+
+    private static ImportCheckpoint running(String jobId, String owner) {
+        ImportCheckpoint checkpoint = new ImportCheckpoint(jobId, ImportKind.USERS, ImportFormat.JSONL,
+                "users.jsonl", "/tmp/" + jobId + ".jsonl");
+        checkpoint.claim(owner);
+        checkpoint.changeStatus(ImportCheckpoint.RUNNING, null);
+        return checkpoint;
+    }
+
+    private ImportJobDto await(ImportJobDto submitted) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ImportJobDto job = bulkImportService.getJob(submitted.jobId()).orElseThrow();
+            if (job.status().equals(ImportCheckpoint.COMPLETED) || job.status().equals(ImportCheckpoint.FAILED)) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("작업이 끝나지 않았습니다: " + submitted.jobId());
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
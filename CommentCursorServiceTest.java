@@ -0,0 +1,224 @@
+package com.example.cms.service;
+
+import com.example.cms.controller.CommentCursorApiController;
+import com.example.cms.dto.CommentNodeDto;
+import com.example.cms.dto.CommentSliceDto;
+import com.example.cms.entity.Comment;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CommentCursorService 통합 테스트
+ */
+@DataJpaTest
+@Import(CommentCursorService.class)
+@DisplayName("CommentCursorService 테스트")
+class CommentCursorServiceTest {
+
+    @Autowired
+    private CommentCursorService commentCursorService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .email("author@example.com")
+                .password("password")
+                .name("작성자")
+                .role(UserRole.CUSTOMER)
+                .build());
+        post = entityManager.persist(Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author(author)
+                .published(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 최상위 댓글을 빠짐없이 작성 순으로 읽어야 한다")
+    void shouldWalkTopLevelCommentsByCursor() {
+        // given
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Comment comment = write("댓글 " + i, null);
+            expected.add(comment.getId());
+            write("답글 " + i, comment);
+        }
+
+        // when
+        List<Long> read = new ArrayList<>();
+        List<Boolean> hasMore = new ArrayList<>();
+        String cursor = null;
+        do {
+            CommentSliceDto slice = commentCursorService.getComments(post.getId(), cursor, 2);
+            slice.comments().forEach(comment -> read.add(comment.id()));
+            hasMore.add(slice.hasMore());
+            cursor = slice.nextCursor();
+        } while (hasMore.get(hasMore.size() - 1));
+
+        // then
+        assertThat(read).containsExactlyElementsOf(expected);
+        assertThat(hasMore).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("답글도 커서로 나누어 읽어야 한다")
+    void shouldPageReplies() {
+        // given
+        Comment parent = write("댓글", null);
+        Comment first = write("답글 1", parent);
+        Comment second = write("답글 2", parent);
+        Comment third = write("답글 3", parent);
+        write("다른 댓글", null);
+
+        // when
+        CommentSliceDto page = commentCursorService.getReplies(parent.getId(), null, 2);
+        CommentSliceDto next = commentCursorService.getReplies(parent.getId(), page.nextCursor(), 2);
+
+        // then
+        assertThat(page.comments()).extracting(CommentNodeDto::id).containsExactly(first.getId(), second.getId());
+        assertThat(page.comments()).extracting(CommentNodeDto::authorName).containsOnly("작성자");
+        assertThat(next.comments()).extracting(CommentNodeDto::id).containsExactly(third.getId());
+        assertThat(next.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 커서 이후의 새 댓글과 답글을 커서 앞 구간의 댓글과 함께 가져와야 한다")
+    void shouldReturnNewCommentsSinceCursor() {
+        // given
+        Comment old = write("기존 댓글", null);
+        String latest = commentCursorService.latestCursor(post.getId()).orElseThrow();
+
+        // when
+        CommentSliceDto none = commentCursorService.getCommentsSince(post.getId(), latest, 10);
+        Comment reply = write("새 답글", old);
+        Comment added = write("새 댓글", null);
+        CommentSliceDto since = commentCursorService.getCommentsSince(post.getId(), latest, 10);
+        CommentSliceDto after = commentCursorService.getCommentsSince(post.getId(), since.nextCursor(), 10);
+
+        // then - 커서 앞 구간은 다시 포함되므로 클라이언트가 ID로 중복 제거
+        assertThat(none.comments()).extracting(CommentNodeDto::id).containsExactly(old.getId());
+        assertThat(none.nextCursor()).isEqualTo(latest);
+        assertThat(since.comments()).extracting(CommentNodeDto::id)
+                .containsExactly(old.getId(), reply.getId(), added.getId());
+        assertThat(since.comments().get(1).parentId()).isEqualTo(old.getId());
+        assertThat(after.comments()).extracting(CommentNodeDto::id)
+                .containsExactly(old.getId(), reply.getId(), added.getId());
+        assertThat(after.nextCursor()).isEqualTo(since.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서보다 이른 작성 시각으로 늦게 커밋된 댓글도 새 댓글 조회에 포함되어야 한다")
+    void shouldIncludeLateCommittedComments() {
+        // given
+        Comment seen = write("받은 댓글", null);
+        String latest = commentCursorService.latestCursor(post.getId()).orElseThrow();
+        Comment late = write("늦게 커밋된 댓글", null);
+        Comment expired = write("오래된 댓글", null);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Comment c SET c.createdAt = :createdAt WHERE c.id = :id")
+                .setParameter("createdAt", seen.getCreatedAt().minusSeconds(1))
+                .setParameter("id", late.getId())
+                .executeUpdate();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Comment c SET c.createdAt = :createdAt WHERE c.id = :id")
+                .setParameter("createdAt", seen.getCreatedAt().minusMinutes(5))
+                .setParameter("id", expired.getId())
+                .executeUpdate();
+
+        // when
+        CommentSliceDto since = commentCursorService.getCommentsSince(post.getId(), latest, 10);
+
+        // then
+        assertThat(since.comments()).extracting(CommentNodeDto::id).containsExactly(late.getId(), seen.getId());
+        assertThat(since.nextCursor()).isEqualTo(latest);
+        assertThat(since.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("임시저장 글의 댓글은 작성자와 관리자만 조회할 수 있어야 한다")
+    void shouldHideDraftComments() throws Exception {
+        // given
+        Post draft = entityManager.persist(Post.builder()
+                .title("임시저장")
+                .content("내용")
+                .author(author)
+                .published(false)
+                .build());
+        Comment comment = entityManager.persist(Comment.builder().content("댓글").author(author).post(draft).build());
+        entityManager.flush();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CommentCursorApiController(commentCursorService)).build();
+        UsernamePasswordAuthenticationToken other = UsernamePasswordAuthenticationToken.authenticated(
+                "other@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+
+        // when & then
+        assertThat(commentCursorService.canView(draft.getId(), "author@example.com", false)).isTrue();
+        assertThat(commentCursorService.canView(draft.getId(), null, true)).isTrue();
+        assertThat(commentCursorService.canView(post.getId(), null, false)).isTrue();
+        assertThat(commentCursorService.canView(999L, null, false)).isFalse();
+        mockMvc.perform(get("/api/comments/post/" + draft.getId()))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(get("/api/comments/" + comment.getId() + "/replies").principal(other))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/comments/post/" + draft.getId() + "/since")
+                        .param("cursor", commentCursorService.latestCursor(draft.getId()).orElseThrow())
+                        .principal(other))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400으로 응답해야 한다")
+    void shouldRejectMalformedCursor() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CommentCursorApiController(commentCursorService)).build();
+
+        // when & then
+        assertThatThrownBy(() -> commentCursorService.getComments(post.getId(), "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        mockMvc.perform(get("/api/comments/post/" + post.getId() + "/since?cursor=bm9wZQ"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(get("/api/comments/post/" + post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    private Comment write(String content, Comment parent) {
+        Comment comment = entityManager.persist(Comment.builder()
+                .content(content)
+                .author(author)
+                .post(post)
+                .parentComment(parent)
+                .build());
+        entityManager.flush();
+        return comment;
+    }
+}
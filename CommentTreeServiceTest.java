@@ -0,0 +1,210 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.CommentNodeDto;
+import com.example.cms.entity.Comment;
+import com.example.cms.entity.CommentPath;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.event.CommentCreatedEvent;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.repository.CommentPathRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CommentTreeService 통합 테스트
+ */
+@DataJpaTest
+@Import(CommentTreeService.class)
+@DisplayName("CommentTreeService 테스트")
+class CommentTreeServiceTest {
+
+    @Autowired
+    private CommentTreeService commentTreeService;
+
+    @Autowired
+    private CommentPathRepository commentPathRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .email("author@example.com")
+                .password("password")
+                .name("작성자")
+                .role(UserRole.CUSTOMER)
+                .build());
+        post = entityManager.persist(Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author(author)
+                .published(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("여러 깊이의 답글을 작성 순서대로 트리로 조립해야 한다")
+    void shouldAssembleNestedTree() {
+        // given
+        Comment first = write("첫 댓글", null);
+        Comment second = write("둘째 댓글", null);
+        Comment reply = write("첫 댓글의 답글", first);
+        Comment nested = write("답글의 답글", reply);
+        Comment secondReply = write("첫 댓글의 둘째 답글", first);
+        write("둘째 댓글의 답글", second);
+
+        // when
+        Page<CommentNodeDto> page = commentTreeService.getCommentTree(post.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(CommentNodeDto::id).containsExactly(first.getId(), second.getId());
+        CommentNodeDto root = page.getContent().get(0);
+        assertThat(root.authorName()).isEqualTo("작성자");
+        assertThat(root.replies()).extracting(CommentNodeDto::id).containsExactly(reply.getId(), secondReply.getId());
+        CommentNodeDto child = root.replies().get(0);
+        assertThat(child.parentId()).isEqualTo(first.getId());
+        assertThat(child.depth()).isEqualTo(1);
+        assertThat(child.replies()).extracting(CommentNodeDto::id).containsExactly(nested.getId());
+        assertThat(child.replies().get(0).depth()).isEqualTo(2);
+        assertThat(page.getContent().get(1).replies()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("페이지는 최상위 댓글 단위로 나뉘고 답글은 함께 포함되어야 한다")
+    void shouldPageByRootComments() {
+        // given
+        write("첫 댓글", null);
+        Comment second = write("둘째 댓글", null);
+        write("둘째 댓글의 답글", second);
+        write("셋째 댓글", null);
+
+        // when
+        Page<CommentNodeDto> page = commentTreeService.getCommentTree(post.getId(), PageRequest.of(1, 1));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(CommentNodeDto::id).containsExactly(second.getId());
+        assertThat(page.getContent().get(0).replies()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("댓글을 삭제하면 그 아래 답글 경로까지 함께 지워야 한다")
+    void shouldDeleteSubtreePaths() {
+        // given
+        Comment first = write("첫 댓글", null);
+        Comment reply = write("답글", first);
+        write("답글의 답글", reply);
+        Comment other = write("다른 댓글", null);
+
+        // when
+        eventPublisher.publishEvent(new CommentDeletedEvent(first.getId(), post.getId(), 3));
+
+        // then
+        assertThat(commentPathRepository.findAll()).extracting(path -> path.getCommentId())
+                .containsExactly(other.getId());
+    }
+
+    @Test
+    @DisplayName("경로가 없는 기존 댓글은 보정 작업으로 채워야 한다")
+    void shouldBackfillMissingPaths() {
+        // given
+        Comment first = persist("첫 댓글", null);
+        Comment reply = persist("답글", first);
+        persist("다른 댓글", null);
+
+        // when
+        int posts = commentTreeService.backfillMissing();
+        Page<CommentNodeDto> page = commentTreeService.getCommentTree(post.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(posts).isEqualTo(1);
+        assertThat(commentPathRepository.count()).isEqualTo(3);
+        assertThat(page.getContent().get(0).replies()).extracting(CommentNodeDto::id).containsExactly(reply.getId());
+        assertThat(commentTreeService.backfillMissing()).isZero();
+    }
+
+    @Test
+    @DisplayName("부모 경로가 없는 답글이 작성되면 게시글 경로를 다시 만들어야 한다")
+    void shouldRebuildWhenParentPathMissing() {
+        // given
+        Comment first = persist("경로 없는 댓글", null);
+
+        // when
+        Comment reply = write("답글", first);
+        List<CommentNodeDto> tree = commentTreeService.getCommentTree(post.getId(), PageRequest.of(0, 10)).getContent();
+
+        // then
+        assertThat(tree).extracting(CommentNodeDto::id).containsExactly(first.getId());
+        assertThat(tree.get(0).replies()).extracting(CommentNodeDto::id).containsExactly(reply.getId());
+    }
+
+    @Test
+    @DisplayName("경로 깊이 상한보다 깊은 답글은 가장 깊은 단계의 형제로 붙고 경로 길이를 넘지 않아야 한다")
+    void shouldFlattenRepliesBelowMaxDepth() {
+        // given
+        Comment root = write("댓글", null);
+        Comment parent = root;
+        for (int i = 1; i < CommentPath.MAX_DEPTH + 5; i++) {
+            parent = write("답글 " + i, parent);
+        }
+
+        // when
+        List<CommentNodeDto> tree = commentTreeService.getCommentTree(post.getId(), PageRequest.of(0, 10)).getContent();
+        CommentNodeDto deepest = tree.get(0);
+        for (int depth = 1; depth < CommentPath.MAX_DEPTH - 1; depth++) {
+            deepest = deepest.replies().get(0);
+        }
+
+        // then
+        assertThat(commentPathRepository.count()).isEqualTo(CommentPath.MAX_DEPTH + 5);
+        assertThat(commentPathRepository.findAll()).allSatisfy(path ->
+                assertThat(path.getPath().length()).isLessThanOrEqualTo(CommentPath.PATH_LENGTH));
+        assertThat(tree).hasSize(1);
+        assertThat(deepest.replies()).hasSize(6)
+                .allSatisfy(reply -> {
+                    assertThat(reply.depth()).isEqualTo(CommentPath.MAX_DEPTH - 1);
+                    assertThat(reply.replies()).isEmpty();
+                });
+        assertThat(deepest.replies().get(5).id()).isEqualTo(parent.getId());
+    }
+
+    private Comment write(String content, Comment parent) {
+        Comment comment = persist(content, parent);
+        eventPublisher.publishEvent(new CommentCreatedEvent(comment.getId(), post.getId(),
+                parent == null ? null : parent.getId(), comment.getCreatedAt()));
+        return comment;
+    }
+
+    private Comment persist(String content, Comment parent) {
+        Comment comment = entityManager.persist(Comment.builder()
+                .content(content)
+                .author(author)
+                .post(post)
+                .parentComment(parent)
+                .build());
+        entityManager.flush();
+        return comment;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.cms.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ContentCodec / ContentDictionaryTrainer 단위 테스트
+ */
+@DisplayName("ContentCodec 테스트")
+class ContentCodecTest {
+
+    private final ContentCodec codec = ContentCodec.shared();
+
+    @BeforeEach
+    void setUp() {
+        codec.reset();
+        codec.setMinLength(64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        codec.reset();
+    }
+
+    @Test
+    @DisplayName("긴 본문은 압축되고 원래 값으로 복원되어야 한다")
+    void roundTrip() {
+        String content = article(0);
+
+        String encoded = codec.encode(content);
+
+        assertThat(codec.isCompressed(encoded)).isTrue();
+        assertThat(encoded.length()).isLessThan(content.length());
+        assertThat(codec.decode(encoded)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("짧은 값과 압축되지 않은 기존 값은 그대로 통과해야 한다")
+    void passThrough() {
+        assertThat(codec.encode("<p>짧은 글</p>")).isEqualTo("<p>짧은 글</p>");
+        assertThat(codec.encode(null)).isNull();
+        assertThat(codec.decode("<p>기존 본문</p>")).isEqualTo("<p>기존 본문</p>");
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("표식으로 시작하는 일반 값은 압축 값으로 오인되지 않고 그대로 복원되어야 한다")
+    void markerPrefixedPlainValue() {
+        String shortValue = ContentCodec.MARKER + "0:짧은 값";
+        String escapeLike = ContentCodec.ESCAPE + "값";
+        String compressed = codec.encode(article(1));
+
+        assertThat(codec.decode(codec.encode(shortValue))).isEqualTo(shortValue);
+        assertThat(codec.decode(codec.encode(escapeLike))).isEqualTo(escapeLike);
+        assertThat(codec.decode(codec.encode(compressed))).isEqualTo(compressed);
+        assertThat(codec.recode(codec.encode(shortValue), false)).isEqualTo(codec.encode(shortValue));
+        assertThat(codec.recode(compressed, true)).isEqualTo(compressed);
+        assertThat(codec.decode(codec.recode(compressed, false))).isEqualTo(article(1));
+    }
+
+    @Test
+    @DisplayName("복원 크기가 제한을 넘는 압축 값은 예외가 발생해야 한다")
+    void decodedLengthLimit() {
+        String encoded = codec.encode("가".repeat(100_000));
+        codec.setMaxDecodedLength(10_000);
+
+        assertThat(codec.isCompressed(encoded)).isTrue();
+        assertThatThrownBy(() -> codec.decode(encoded))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("제한");
+    }
+
+    @Test
+    @DisplayName("학습한 사전을 사용하면 압축률이 좋아지고, 이전 사전으로 압축한 값도 복원되어야 한다")
+    void dictionary() {
+        List<String> samples = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            samples.add(article(i));
+        }
+        String content = article(100);
+        String withoutDictionary = codec.encode(content);
+
+        byte[] dictionary = ContentDictionaryTrainer.train(samples, ContentDictionaryTrainer.MAX_DICTIONARY_SIZE);
+        codec.register(1, dictionary, true);
+        String withDictionary = codec.encode(content);
+
+        assertThat(dictionary.length).isPositive().isLessThanOrEqualTo(ContentDictionaryTrainer.MAX_DICTIONARY_SIZE);
+        assertThat(withDictionary).startsWith(ContentCodec.MARKER + "1:");
+        assertThat(withDictionary.length()).isLessThan(withoutDictionary.length());
+        assertThat(codec.decode(withDictionary)).isEqualTo(content);
+        assertThat(codec.decode(withoutDictionary)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 사전은 조회 함수로 가져오고, 없으면 예외가 발생해야 한다")
+    void dictionaryLoader() {
+        byte[] dictionary = ContentDictionaryTrainer.train(List.of(article(1), article(2), article(3)), 4096);
+        codec.register(7, dictionary, true);
+        String encoded = codec.encode(article(4));
+
+        codec.reset();
+        codec.setMinLength(64);
+        assertThatThrownBy(() -> codec.decode(encoded)).isInstanceOf(IllegalStateException.class);
+
+        codec.setDictionaryLoader(id -> id == 7 ? dictionary : null);
+        assertThat(codec.decode(encoded)).isEqualTo(article(4));
+    }
+
+    private static String article(int seed) {
+        StringBuilder html = new StringBuilder();
+        html.append("<h2>공지사항 ").append(seed).append("</h2>");
+        for (int i = 0; i < 6; i++) {
+            html.append("<p style=\"text-align:justify;\">안녕하세요, 고객지원팀입니다. 문의하신 내용 ")
+                    .append(seed * 31 + i)
+                    .append("번에 대해 안내드립니다. <strong>서비스 점검</strong> 일정은 아래와 같습니다.</p>");
+        }
+        html.append("<figure class=\"image\"><img src=\"/uploads/").append(seed)
+                .append(".png\" alt=\"안내 이미지\"></figure>");
+        html.append("<ul><li>점검 시간: 02:00 ~ 04:00</li><li>대상: 전체 서비스</li></ul>");
+        return html.toString();
+    }
+}
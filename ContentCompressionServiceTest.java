@@ -0,0 +1,129 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.CompressionJobDto;
+import com.example.cms.entity.PostRenderedContent;
+import com.example.cms.repository.EntityTableMapping;
+import com.example.cms.repository.PostRenderedContentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ContentCompressionService 통합 테스트
+ */
+@DataJpaTest(properties = {"cms.compression.min-length=100", "cms.compression.migration.chunk-size=2"})
+@Import({ContentCompressionService.class, EntityTableMapping.class, ContentCompressionServiceTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("ContentCompressionService 테스트")
+class ContentCompressionServiceTest {
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        ExecutorService bulkJobExecutor() {
+            return Executors.newSingleThreadExecutor();
+        }
+    }
+
+    private static final String LONG_HTML = "<p>" + "반복되는 긴 본문입니다. ".repeat(40) + "</p>";
+
+    @Autowired
+    private ContentCompressionService compressionService;
+
+    @Autowired
+    private PostRenderedContentRepository renderedContentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        ContentCodec.shared().reset();
+    }
+
+    @Test
+    @DisplayName("컨버터가 적용된 컬럼은 압축 저장되고 조회 시 복원되어야 한다")
+    void converter() {
+        transactionTemplate.executeWithoutResult(status ->
+                renderedContentRepository.save(new PostRenderedContent(1L, LONG_HTML, "hash", 1)));
+
+        assertThat(rawHtml(1L)).startsWith(ContentCodec.MARKER);
+        assertThat(renderedContentRepository.findHtml(1L, 1)).contains(LONG_HTML);
+    }
+
+    @Test
+    @DisplayName("전환 작업은 압축되지 않은 기존 행을 압축하고, 복원 작업은 원래 값으로 되돌려야 한다")
+    void migrate() throws InterruptedException {
+        insertRaw(1L, LONG_HTML);
+        insertRaw(2L, "<p>짧은 글</p>");
+        insertRaw(3L, LONG_HTML + "<p>추가</p>");
+        insertRaw(4L, LONG_HTML);
+        insertRaw(5L, LONG_HTML);
+
+        CompressionJobDto job = await(compressionService.submit(CompressionTarget.RENDERED_HTML, true));
+
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.scanned()).isEqualTo(5);
+        assertThat(job.rewritten()).isEqualTo(4);
+        assertThat(job.getRatio()).isLessThan(1.0);
+        assertThat(rawHtml(1L)).startsWith(ContentCodec.MARKER);
+        assertThat(rawHtml(2L)).isEqualTo("<p>짧은 글</p>");
+        assertThat(renderedContentRepository.findHtml(3L, 1)).contains(LONG_HTML + "<p>추가</p>");
+
+        CompressionJobDto again = await(compressionService.submit(CompressionTarget.RENDERED_HTML, true));
+        assertThat(again.rewritten()).isZero();
+
+        CompressionJobDto restore = await(compressionService.submit(CompressionTarget.RENDERED_HTML, false));
+        assertThat(restore.rewritten()).isEqualTo(4);
+        assertThat(rawHtml(5L)).isEqualTo(LONG_HTML);
+    }
+
+    @Test
+    @DisplayName("게시글 본문 압축은 설정으로 켜지 않으면 등록되지 않아야 한다")
+    void postContentDisabled() {
+        assertThatThrownBy(() -> compressionService.submit(CompressionTarget.POST_CONTENT, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void insertRaw(Long postId, String html) {
+        jdbcTemplate.update("INSERT INTO post_rendered_contents (post_id, html, source_hash, renderer_version, rendered_at) "
+                + "VALUES (?, ?, 'hash', 1, CURRENT_TIMESTAMP)", postId, html);
+    }
+
+    private String rawHtml(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT html FROM post_rendered_contents WHERE post_id = ?",
+                String.class, postId);
+    }
+
+    private CompressionJobDto await(CompressionJobDto submitted) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            CompressionJobDto job = compressionService.getJob(submitted.jobId()).orElseThrow();
+            if (job.finishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("작업이 끝나지 않았습니다: " + submitted.jobId());
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.cms.service;
+
+import com.example.cms.config.ConditionalGetInterceptor;
+import com.example.cms.entity.ChatMessage;
+import com.example.cms.entity.ChatRoom;
+import com.example.cms.entity.Comment;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.service.ContentVersionService.ContentVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ContentVersionService와 조건부 GET 처리 통합 테스트
+ */
+@DataJpaTest
+@Import({ContentVersionService.class, PostViewCounterService.class})
+@DisplayName("ContentVersionService 테스트")
+class ContentVersionServiceTest {
+
+    private static final String AUTHOR = "author@example.com";
+
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Autowired
+    private PostViewCounterService postViewCounterService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private Post post;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .email(AUTHOR)
+                .password("password")
+                .name("작성자")
+                .role(UserRole.CUSTOMER)
+                .build());
+        post = entityManager.persist(Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author(author)
+                .published(true)
+                .build());
+        entityManager.persist(Comment.builder().content("첫 댓글").author(author).post(post).build());
+        chatRoom = entityManager.persist(new ChatRoom(author));
+        entityManager.persist(new ChatMessage(chatRoom, author, "안녕하세요"));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("댓글 추가/삭제는 댓글 목록 버전을 바꿔야 한다")
+    void commentsVersionShouldChange() {
+        // given
+        ContentVersion initial = contentVersionService.commentsVersion(post.getId(), null).orElseThrow();
+
+        // when
+        Comment added = entityManager.persist(Comment.builder().content("둘째 댓글").author(author).post(post).build());
+        entityManager.flush();
+        ContentVersion afterAdd = contentVersionService.commentsVersion(post.getId(), null).orElseThrow();
+        entityManager.remove(added);
+        entityManager.flush();
+        ContentVersion afterDelete = contentVersionService.commentsVersion(post.getId(), null).orElseThrow();
+
+        // then
+        assertThat(afterAdd.tag()).isNotEqualTo(initial.tag());
+        assertThat(afterDelete.tag()).isEqualTo(initial.tag());
+        assertThat(contentVersionService.commentsVersion(post.getId(), null)).contains(initial);
+    }
+
+    @Test
+    @DisplayName("게시글 버전은 수정 시각을 Last-Modified로 제공하고, 없는 게시글은 빈 값이어야 한다")
+    void postVersion() {
+        ContentVersion version = contentVersionService.postVersion(post.getId(), null).orElseThrow();
+
+        assertThat(version.lastModified()).isPositive();
+        assertThat(contentVersionService.postVersion(999L, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 메시지와 읽음 처리는 채팅 기록 버전을 바꿔야 한다")
+    void chatHistoryVersionShouldChange() {
+        // given
+        ContentVersion initial = contentVersionService.chatHistoryVersion(chatRoom.getId(), AUTHOR).orElseThrow();
+
+        // when
+        entityManager.getEntityManager()
+                .createQuery("UPDATE ChatMessage m SET m.readByRecipient = true WHERE m.chatRoom.id = :chatRoomId")
+                .setParameter("chatRoomId", chatRoom.getId())
+                .executeUpdate();
+        ContentVersion afterRead = contentVersionService.chatHistoryVersion(chatRoom.getId(), AUTHOR).orElseThrow();
+        entityManager.persist(new ChatMessage(chatRoom, author, "문의드립니다"));
+        entityManager.flush();
+        ContentVersion afterMessage = contentVersionService.chatHistoryVersion(chatRoom.getId(), AUTHOR).orElseThrow();
+
+        // then
+        assertThat(afterRead.tag()).isNotEqualTo(initial.tag());
+        assertThat(afterMessage.tag()).isNotEqualTo(afterRead.tag());
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 컨트롤러를 실행하지 않고 304로 응답해야 한다")
+    void shouldShortCircuitUnchangedResponses() throws Exception {
+        // given
+        StubController controller = new StubController();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new ConditionalGetInterceptor(contentVersionService, postViewCounterService))
+                .build();
+        String commentsUrl = "/comments/post/" + post.getId();
+
+        // when
+        String etag = mockMvc.perform(get(commentsUrl))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(commentsUrl).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(commentsUrl + "?page=1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        entityManager.persist(Comment.builder().content("새 댓글").author(author).post(post).build());
+        entityManager.flush();
+        mockMvc.perform(get(commentsUrl).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        String postEtag = mockMvc.perform(get("/posts/" + post.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/posts/" + post.getId()).header(HttpHeaders.IF_NONE_MATCH, postEtag))
+                .andExpect(status().isNotModified());
+
+        // then
+        assertThat(etag).startsWith("W/\"");
+        assertThat(controller.calls.get()).isEqualTo(4);
+        assertThat(postViewCounterService.getViewCount(post.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임시저장 글과 참여하지 않은 채팅방은 작성자/참여자가 아니면 버전을 제공하지 않아야 한다")
+    void shouldHideVersionsFromOtherViewers() {
+        // given
+        Post draft = entityManager.persist(Post.builder()
+                .title("임시저장")
+                .content("내용")
+                .author(author)
+                .published(false)
+                .build());
+        entityManager.flush();
+
+        // then
+        assertThat(contentVersionService.postVersion(draft.getId(), AUTHOR)).isPresent();
+        assertThat(contentVersionService.postVersion(draft.getId(), "other@example.com")).isEmpty();
+        assertThat(contentVersionService.postVersion(draft.getId(), null)).isEmpty();
+        assertThat(contentVersionService.commentsVersion(draft.getId(), "other@example.com")).isEmpty();
+        assertThat(contentVersionService.commentsVersion(post.getId(), "other@example.com")).isPresent();
+        assertThat(contentVersionService.chatHistoryVersion(chatRoom.getId(), "other@example.com")).isEmpty();
+        assertThat(contentVersionService.chatHistoryVersion(chatRoom.getId(), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("볼 수 없는 게시글은 ETag가 같아도 304 없이 컨트롤러가 처리해야 한다")
+    void shouldNotShortCircuitForOtherViewers() throws Exception {
+        // given
+        Post draft = entityManager.persist(Post.builder()
+                .title("임시저장")
+                .content("내용")
+                .author(author)
+                .published(false)
+                .build());
+        entityManager.flush();
+        StubController controller = new StubController();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new ConditionalGetInterceptor(contentVersionService, postViewCounterService))
+                .build();
+        String url = "/posts/" + draft.getId();
+
+        // when
+        String etag = mockMvc.perform(get(url).principal(() -> AUTHOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(url).principal(() -> AUTHOR).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(etag).isNotNull();
+        assertThat(controller.calls.get()).isEqualTo(2);
+    }
+
+    @RestController
+    static class StubController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @GetMapping("/comments/post/{postId}")
+        String comments(@PathVariable Long postId) {
+            calls.incrementAndGet();
+            return "{\"success\":true}";
+        }
+
+        @GetMapping("/posts/{id}")
+        String post(@PathVariable Long id) {
+            calls.incrementAndGet();
+            return "post";
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.cms.service;
+
+import com.example.cms.event.ChatRoomCreatedEvent;
+import com.example.cms.event.ChatRoomStatusChangedEvent;
+import com.example.cms.event.CommentCreatedEvent;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.event.NotificationCreatedEvent;
+import com.example.cms.event.NotificationsReadEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import com.example.cms.event.UserRegisteredEvent;
+import com.example.cms.event.UserStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DashboardCounterService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardCounterService 테스트")
+class DashboardCounterServiceTest {
+
+    @Mock
+    private DashboardCountSource countSource;
+
+    private ExecutorService queryExecutor;
+    private DashboardCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        when(countSource.count(DashboardMetric.TOTAL_USERS)).thenReturn(100L);
+        when(countSource.count(DashboardMetric.TOTAL_POSTS)).thenReturn(50L);
+        when(countSource.count(DashboardMetric.TOTAL_COMMENTS)).thenReturn(200L);
+        when(countSource.count(DashboardMetric.ACTIVE_CHAT_ROOMS)).thenReturn(5L);
+        when(countSource.count(DashboardMetric.TOTAL_CHAT_ROOMS)).thenReturn(25L);
+        when(countSource.count(DashboardMetric.UNREAD_NOTIFICATIONS)).thenReturn(10L);
+
+        queryExecutor = Executors.newFixedThreadPool(DashboardMetric.values().length);
+        counterService = new DashboardCounterService(countSource, event -> { }, queryExecutor, 500);
+        counterService.seed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("기동 시 데이터베이스 값으로 한 번만 적재해야 한다")
+    void shouldSeedOnce() {
+        // when
+        counterService.seed();
+        DashboardCounterSnapshot snapshot = counterService.getSnapshot();
+
+        // then
+        assertThat(snapshot.getTotalUsers()).isEqualTo(100L);
+        assertThat(snapshot.getTotalPosts()).isEqualTo(50L);
+        assertThat(snapshot.getTotalComments()).isEqualTo(200L);
+        assertThat(snapshot.getActiveChatRooms()).isEqualTo(5L);
+        assertThat(snapshot.getTotalChatRooms()).isEqualTo(25L);
+        assertThat(snapshot.getUnreadNotifications()).isEqualTo(10L);
+        assertThat(snapshot.lastUpdated()).isNotNull();
+        verify(countSource, times(1)).count(DashboardMetric.TOTAL_USERS);
+    }
+
+    @Test
+    @DisplayName("도메인 이벤트로 카운터가 증감해야 한다")
+    void shouldApplyDomainEvents() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        counterService.onUserRegistered(new UserRegisteredEvent(101L, now));
+        counterService.onUserStatusChanged(new UserStatusChangedEvent(3L, true, false));
+        counterService.onPostCreated(new PostCreatedEvent(1L, 1L, 1L, true, now));
+        counterService.onPostCreated(new PostCreatedEvent(2L, 1L, 1L, false, now));
+        counterService.onPostPublicationChanged(new PostPublicationChangedEvent(3L, 1L, 1L, false, now));
+        counterService.onCommentCreated(new CommentCreatedEvent(1L, 1L, null, now));
+        counterService.onCommentDeleted(new CommentDeletedEvent(2L, 1L, 3));
+        counterService.onChatRoomCreated(new ChatRoomCreatedEvent(1L, false, now));
+        counterService.onChatRoomStatusChanged(new ChatRoomStatusChangedEvent(1L, false, true, false, now));
+        counterService.onNotificationCreated(new NotificationCreatedEvent(1L, 1L, now));
+        counterService.onNotificationsRead(new NotificationsReadEvent(1L, 4));
+
+        // then
+        DashboardCounterSnapshot snapshot = counterService.getSnapshot();
+        assertThat(snapshot.getTotalUsers()).isEqualTo(100L);
+        assertThat(snapshot.getTotalPosts()).isEqualTo(50L);
+        assertThat(snapshot.getTotalComments()).isEqualTo(198L);
+        assertThat(snapshot.getActiveChatRooms()).isEqualTo(6L);
+        assertThat(snapshot.getTotalChatRooms()).isEqualTo(26L);
+        assertThat(snapshot.getUnreadNotifications()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("보정 시 데이터베이스 값과의 차이를 바로잡아야 한다")
+    void shouldReconcileDrift() {
+        // given
+        counterService.onCommentCreated(new CommentCreatedEvent(1L, 1L, null, LocalDateTime.now()));
+        when(countSource.count(DashboardMetric.TOTAL_COMMENTS)).thenReturn(250L);
+
+        // when
+        counterService.reconcile();
+
+        // then
+        assertThat(counterService.getSnapshot().getTotalComments()).isEqualTo(250L);
+        assertThat(counterService.getLastReconciled()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("COUNT 실행 중 이벤트가 반영된 항목은 이번 보정을 건너뛰고 다음 보정에서 맞춰야 한다")
+    void shouldSkipAmbiguousReconcileWhenEventsArriveDuringCount() {
+        // given - COUNT 실행 중 댓글 2개가 반영됨 (COUNT 결과에 포함 여부는 알 수 없음)
+        when(countSource.count(DashboardMetric.TOTAL_COMMENTS)).thenAnswer(invocation -> {
+            counterService.add(DashboardMetric.TOTAL_COMMENTS, 2);
+            return 210L;
+        });
+
+        // when
+        counterService.reconcile();
+        long afterAmbiguous = counterService.current(DashboardMetric.TOTAL_COMMENTS);
+        doReturn(212L).when(countSource).count(DashboardMetric.TOTAL_COMMENTS);
+        counterService.reconcile();
+
+        // then
+        assertThat(afterAmbiguous).isEqualTo(202L);
+        assertThat(counterService.current(DashboardMetric.TOTAL_COMMENTS)).isEqualTo(212L);
+    }
+
+    @Test
+    @DisplayName("상태가 바뀌지 않은 사용자 상태 변경 이벤트는 카운터를 바꾸지 않아야 한다")
+    void shouldIgnoreRedundantUserStatusChange() {
+        // when
+        counterService.onUserStatusChanged(new UserStatusChangedEvent(3L, true, true));
+        counterService.onUserStatusChanged(new UserStatusChangedEvent(4L, false, false));
+        counterService.onUserStatusChanged(new UserStatusChangedEvent(5L, true, false));
+
+        // then
+        assertThat(counterService.current(DashboardMetric.TOTAL_USERS)).isEqualTo(99L);
+    }
+
+    @Test
+    @DisplayName("적재 전 조회 시 먼저 적재해야 한다")
+    void shouldSeedLazilyOnFirstSnapshot() {
+        // given
+        DashboardCounterService lazyService = new DashboardCounterService(countSource, event -> { }, queryExecutor, 500);
+
+        // when
+        DashboardCounterSnapshot snapshot = lazyService.getSnapshot();
+
+        // then
+        assertThat(snapshot.getTotalUsers()).isEqualTo(100L);
+        verify(countSource, times(2)).count(DashboardMetric.TOTAL_USERS);
+    }
+
+    @Test
+    @DisplayName("느린 쿼리가 시간 초과되면 이전 값을 유지하고 stale로 표시해야 한다")
+    void shouldFallBackToStaleValueOnTimeout() {
+        // given
+        when(countSource.count(DashboardMetric.TOTAL_COMMENTS)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return 999L;
+        });
+        when(countSource.count(DashboardMetric.TOTAL_POSTS)).thenReturn(60L);
+
+        // when
+        long started = System.nanoTime();
+        counterService.reconcile();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // then
+        DashboardCounterSnapshot snapshot = counterService.getSnapshot();
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(snapshot.getTotalPosts()).isEqualTo(60L);
+        assertThat(snapshot.getTotalComments()).isEqualTo(200L);
+        assertThat(snapshot.isStale(DashboardMetric.TOTAL_COMMENTS)).isTrue();
+        assertThat(snapshot.isStale(DashboardMetric.TOTAL_POSTS)).isFalse();
+        assertThat(snapshot.isPartial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패했던 항목은 다음 보정에서 stale 표시가 해제되어야 한다")
+    void shouldClearStaleAfterSuccessfulReconcile() {
+        // given
+        when(countSource.count(DashboardMetric.UNREAD_NOTIFICATIONS)).thenThrow(new IllegalStateException("DB 오류"));
+        counterService.reconcile();
+        assertThat(counterService.getStaleMetrics()).containsExactly(DashboardMetric.UNREAD_NOTIFICATIONS);
+
+        // when
+        doReturn(12L).when(countSource).count(DashboardMetric.UNREAD_NOTIFICATIONS);
+        counterService.reconcile();
+
+        // then
+        assertThat(counterService.getStaleMetrics()).isEmpty();
+        assertThat(counterService.getSnapshot().getUnreadNotifications()).isEqualTo(12L);
+    }
+}
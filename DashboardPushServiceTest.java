@@ -0,0 +1,136 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.DashboardUpdateDto;
+import com.example.cms.event.DashboardCountersChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DashboardPushService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardPushService 테스트")
+class DashboardPushServiceTest {
+
+    @Mock
+    private DashboardCounterService counterService;
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private DashboardPushService pushService;
+
+    @BeforeEach
+    void setUp() {
+        pushService = new DashboardPushService(counterService, messagingTemplate, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pushService.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 시 전체 값을 받아야 한다")
+    void shouldReturnFullUpdateOnSubscribe() {
+        // given
+        when(counterService.getSnapshot()).thenReturn(snapshot(100L, 50L));
+
+        // when
+        DashboardUpdateDto update = pushService.getFullUpdate();
+
+        // then
+        assertThat(update.full()).isTrue();
+        assertThat(update.values()).containsEntry(DashboardMetric.TOTAL_USERS, 100L)
+                .containsEntry(DashboardMetric.TOTAL_POSTS, 50L)
+                .hasSize(DashboardMetric.values().length);
+    }
+
+    @Test
+    @DisplayName("바뀐 항목만 변경분으로 전송해야 한다")
+    void shouldPushOnlyChangedMetrics() {
+        // given
+        when(counterService.getSnapshot()).thenReturn(snapshot(100L, 50L), snapshot(101L, 50L));
+        pushService.getFullUpdate();
+
+        // when
+        pushService.push();
+
+        // then
+        ArgumentCaptor<DashboardUpdateDto> captor = ArgumentCaptor.forClass(DashboardUpdateDto.class);
+        verify(messagingTemplate).convertAndSend(eq(DashboardPushService.DESTINATION), captor.capture());
+        DashboardUpdateDto update = captor.getValue();
+        assertThat(update.full()).isFalse();
+        assertThat(update.sequence()).isEqualTo(1L);
+        assertThat(update.values()).containsExactly(Map.entry(DashboardMetric.TOTAL_USERS, 101L));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 전송하지 않아야 한다")
+    void shouldNotPushWithoutChanges() {
+        // given
+        when(counterService.getSnapshot()).thenReturn(snapshot(100L, 50L));
+        pushService.getFullUpdate();
+
+        // when
+        pushService.push();
+
+        // then
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("연속된 변경은 초당 최대 전송 횟수로 합쳐져야 한다")
+    void shouldCoalesceBurstOfChanges() throws InterruptedException {
+        // given
+        long[] users = {100L};
+        when(counterService.getSnapshot()).thenAnswer(invocation -> snapshot(++users[0], 50L));
+
+        // when - 짧은 시간에 1000번 변경
+        for (int i = 0; i < 1_000; i++) {
+            pushService.onCountersChanged(new DashboardCountersChangedEvent(DashboardMetric.TOTAL_USERS));
+        }
+        Thread.sleep(200);
+        for (int i = 0; i < 1_000; i++) {
+            pushService.onCountersChanged(new DashboardCountersChangedEvent(DashboardMetric.TOTAL_USERS));
+        }
+
+        // then - 첫 전송은 즉시, 두 번째는 500ms 간격 이후 한 번만
+        verify(messagingTemplate, timeout(1_000).times(2))
+                .convertAndSend(eq(DashboardPushService.DESTINATION), any(DashboardUpdateDto.class));
+        Thread.sleep(600);
+        verify(messagingTemplate, times(2))
+                .convertAndSend(eq(DashboardPushService.DESTINATION), any(DashboardUpdateDto.class));
+    }
+
+    private DashboardCounterSnapshot snapshot(long users, long posts) {
+        Map<DashboardMetric, Long> values = new EnumMap<>(DashboardMetric.class);
+        for (DashboardMetric metric : DashboardMetric.values()) {
+            values.put(metric, 0L);
+        }
+        values.put(DashboardMetric.TOTAL_USERS, users);
+        values.put(DashboardMetric.TOTAL_POSTS, posts);
+        return new DashboardCounterSnapshot(values, Set.of(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.ExportFilter;
+import com.example.cms.entity.Category;
+import com.example.cms.entity.ChatMessage;
+import com.example.cms.entity.ChatRoom;
+import com.example.cms.entity.Comment;
+import com.example.cms.entity.MessageType;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.repository.EntityTableMapping;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DataExportService 통합 테스트
+ */
+@DataJpaTest
+@Import({DataExportService.class, EntityTableMapping.class})
+@DisplayName("DataExportService 테스트")
+class DataExportServiceTest {
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private User author;
+    private Post published;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder().email("author@example.com").password("password")
+                .name("작성자").role(UserRole.CUSTOMER).build());
+        Category category = entityManager.persist(Category.builder().name("공지사항").build());
+        published = entityManager.persist(Post.builder().title("발행 게시글").content("<p>본문</p>")
+                .author(author).category(category).published(true).build());
+        entityManager.persist(Post.builder().title("임시저장").content("초안").author(author).build());
+        Comment comment = entityManager.persist(Comment.builder().content("쉼표, \"따옴표\"\n줄바꿈")
+                .author(author).post(published).build());
+        entityManager.persist(Comment.builder().content("답글").author(author).post(published)
+                .parentComment(comment).build());
+        ChatRoom chatRoom = entityManager.persist(new ChatRoom(author));
+        entityManager.persist(new ChatMessage(chatRoom, author, "안녕하세요"));
+        entityManager.persist(new ChatMessage(chatRoom, author, "photo.png", MessageType.IMAGE));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("게시글을 조건에 맞게 NDJSON으로 내보내야 한다")
+    void shouldExportPostsAsNdjson() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        long rows = dataExportService.export(ExportKind.POSTS, ExportFormat.NDJSON,
+                new ExportFilter(null, null, null, null, true), false, output);
+
+        // then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines).hasSize(1);
+        JsonNode post = objectMapper.readTree(lines[0]);
+        assertThat(post.get("id").asLong()).isEqualTo(published.getId());
+        assertThat(post.get("title").asText()).isEqualTo("발행 게시글");
+        assertThat(post.get("authorName").asText()).isEqualTo("작성자");
+        assertThat(post.get("categoryName").asText()).isEqualTo("공지사항");
+        assertThat(post.get("published").asBoolean()).isTrue();
+        assertThat(post.get("createdAt").asText()).contains("T");
+    }
+
+    @Test
+    @DisplayName("댓글 CSV는 헤더와 함께 특수 문자를 이스케이프해야 한다")
+    void shouldExportCommentsAsCsv() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        long rows = dataExportService.export(ExportKind.COMMENTS, ExportFormat.CSV,
+                new ExportFilter(null, null, published.getId(), null, null), false, output);
+
+        // then
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isEqualTo(2);
+        assertThat(csv).startsWith("\uFEFFid,postId,parentCommentId,authorId,authorName,content,createdAt\r\n");
+        assertThat(csv).contains("\"쉼표, \"\"따옴표\"\"\n줄바꿈\"");
+    }
+
+    @Test
+    @DisplayName("gzip 내보내기는 압축을 풀면 원래 내용이어야 한다")
+    void shouldExportChatMessagesGzipped() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        long rows = dataExportService.export(ExportKind.CHAT_MESSAGES, ExportFormat.NDJSON,
+                ExportFilter.none(), true, output);
+
+        // then
+        String ndjson;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            ndjson = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(rows).isEqualTo(2);
+        assertThat(ndjson.lines()).hasSize(2);
+        assertThat(objectMapper.readTree(ndjson.lines().toList().get(1)).get("messageType").asText())
+                .isEqualTo("IMAGE");
+    }
+
+    @Test
+    @DisplayName("대상이 없어도 CSV 헤더는 출력해야 한다")
+    void shouldWriteHeaderForEmptyResult() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        long rows = dataExportService.export(ExportKind.COMMENTS, ExportFormat.CSV,
+                new ExportFilter(null, null, 999L, null, null), false, output);
+
+        // then
+        assertThat(rows).isZero();
+        assertThat(output.toString(StandardCharsets.UTF_8)).startsWith("\uFEFFid,postId");
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결이 끊기면 조회를 중단하고 IOException을 전달해야 한다")
+    void shouldAbortWhenClientDisconnects() throws IOException {
+        // given - 출력 버퍼보다 큰 행이 있어 첫 행에서 바로 쓰기가 실패함
+        entityManager.persist(Post.builder().title("큰 게시글").content("가".repeat(100_000))
+                .author(entityManager.find(User.class, author.getId())).published(true).build());
+        entityManager.flush();
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> dataExportService.export(ExportKind.POSTS, ExportFormat.NDJSON,
+                ExportFilter.none(), false, disconnected))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(dataExportService.export(ExportKind.POSTS, ExportFormat.NDJSON, ExportFilter.none(), false,
+                new ByteArrayOutputStream())).isEqualTo(3);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.DraftPatchRequest;
+import com.example.cms.dto.DraftStateDto;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DraftAutosaveService 통합 테스트
+ */
+@DataJpaTest(properties = "cms.drafts.autosave.persist-interval-seconds=3600")
+@Import({DraftAutosaveService.class, PostRenderService.class, PostContentRenderer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("DraftAutosaveService 테스트")
+class DraftAutosaveServiceTest {
+
+    private static final String EMAIL = "author@example.com";
+
+    @Autowired
+    private DraftAutosaveService draftAutosaveService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long draftId;
+    private Long publishedId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = User.builder().email(EMAIL).password("password").name("작성자")
+                    .role(UserRole.CUSTOMER).build();
+            entityManager.persist(author);
+            Post draft = Post.builder().title("임시 제목").content("<p>초안</p>").author(author).published(false).build();
+            Post published = Post.builder().title("발행 글").content("<p>본문</p>").author(author).published(true).build();
+            entityManager.persist(draft);
+            entityManager.persist(published);
+            draftId = draft.getId();
+            publishedId = published.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("변경분은 메모리에만 모였다가 저장 시 마지막 상태만 반영되어야 한다")
+    void coalesce() {
+        DraftStateDto state = draftAutosaveService.open(draftId, EMAIL);
+        for (int i = 1; i <= 5; i++) {
+            state = draftAutosaveService.patch(draftId, EMAIL,
+                    new DraftPatchRequest(state.version(), null, "<p>초안 " + i + "</p>", null));
+        }
+        draftAutosaveService.persistDue();
+
+        assertThat(state.isDirty()).isTrue();
+        assertThat(storedContent()).isEqualTo("<p>초안</p>");
+
+        DraftStateDto saved = draftAutosaveService.save(draftId, EMAIL);
+
+        assertThat(saved.isDirty()).isFalse();
+        assertThat(saved.version()).isEqualTo(state.version());
+        assertThat(storedContent()).isEqualTo("<p>초안 5</p>");
+    }
+
+    @Test
+    @DisplayName("다른 탭이 먼저 수정했으면 이전 버전 기준의 변경분은 충돌로 거부되어야 한다")
+    void conflict() {
+        DraftStateDto firstTab = draftAutosaveService.open(draftId, EMAIL);
+        DraftStateDto secondTab = draftAutosaveService.open(draftId, EMAIL);
+        draftAutosaveService.patch(draftId, EMAIL, new DraftPatchRequest(secondTab.version(), "두 번째 탭", null, null));
+
+        assertThatThrownBy(() -> draftAutosaveService.patch(draftId, EMAIL,
+                new DraftPatchRequest(firstTab.version(), "첫 번째 탭", null, null)))
+                .isInstanceOf(DraftConflictException.class)
+                .satisfies(e -> assertThat(((DraftConflictException) e).getCurrent().title()).isEqualTo("두 번째 탭"));
+    }
+
+    @Test
+    @DisplayName("본문 일부 교체(splice)를 순서대로 적용해야 한다")
+    void splices() {
+        DraftStateDto state = draftAutosaveService.open(draftId, EMAIL);
+
+        DraftStateDto patched = draftAutosaveService.patch(draftId, EMAIL, new DraftPatchRequest(state.version(), null,
+                null, List.of(new DraftPatchRequest.Splice(3, 2, "수정본"), new DraftPatchRequest.Splice(0, 0, "<h2>머리말</h2>"))));
+
+        assertThat(patched.content()).isEqualTo("<h2>머리말</h2><p>수정본</p>");
+        assertThatThrownBy(() -> draftAutosaveService.patch(draftId, EMAIL, new DraftPatchRequest(patched.version(),
+                null, null, List.of(new DraftPatchRequest.Splice(500, 1, "x")))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("편집 세션을 종료하면 남은 변경분을 저장하고 버퍼를 해제해야 한다")
+    void close() {
+        DraftStateDto state = draftAutosaveService.open(draftId, EMAIL);
+        draftAutosaveService.patch(draftId, EMAIL, new DraftPatchRequest(state.version(), null, "<p>마지막</p>", null));
+
+        draftAutosaveService.close(draftId, EMAIL);
+
+        assertThat(storedContent()).isEqualTo("<p>마지막</p>");
+        assertThat(draftAutosaveService.isBuffered(draftId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("발행된 글이나 다른 사용자의 글은 임시저장할 수 없어야 한다")
+    void rejected() {
+        assertThatThrownBy(() -> draftAutosaveService.open(publishedId, EMAIL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> draftAutosaveService.open(draftId, "other@example.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        DraftStateDto state = draftAutosaveService.open(draftId, EMAIL);
+        assertThatThrownBy(() -> draftAutosaveService.patch(draftId, "other@example.com",
+                new DraftPatchRequest(state.version(), "가로채기", null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("버퍼에 변경분이 있는 동안 다른 경로로 수정되었으면 덮어쓰지 않고 충돌을 알려야 한다")
+    void editedElsewhere() {
+        DraftStateDto state = draftAutosaveService.open(draftId, EMAIL);
+        draftAutosaveService.patch(draftId, EMAIL, new DraftPatchRequest(state.version(), null, "<p>자동 저장</p>", null));
+        jdbcTemplate.update("UPDATE posts SET content = ?, updated_at = ? WHERE id = ?",
+                "<p>수정 화면</p>", LocalDateTime.now().plusMinutes(1), draftId);
+
+        assertThatThrownBy(() -> draftAutosaveService.save(draftId, EMAIL))
+                .isInstanceOf(DraftConflictException.class)
+                .satisfies(e -> assertThat(((DraftConflictException) e).getCurrent().content()).isEqualTo("<p>수정 화면</p>"));
+        assertThat(storedContent()).isEqualTo("<p>수정 화면</p>");
+
+        DraftStateDto reopened = draftAutosaveService.open(draftId, EMAIL);
+        draftAutosaveService.patch(draftId, EMAIL, new DraftPatchRequest(reopened.version(), null, "<p>다시 저장</p>", null));
+        draftAutosaveService.save(draftId, EMAIL);
+
+        assertThat(storedContent()).isEqualTo("<p>다시 저장</p>");
+    }
+
+    private String storedContent() {
+        return jdbcTemplate.queryForObject("SELECT content FROM posts WHERE id = ?", String.class, draftId);
+    }
+}
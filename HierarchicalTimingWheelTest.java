@@ -0,0 +1,85 @@
+package com.example.cms.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HierarchicalTimingWheel 단위 테스트
+ */
+@DisplayName("HierarchicalTimingWheel 테스트")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("작업은 만료 시각이 속한 칸에서 한 번만 만료되어야 한다")
+    void expiresWithinTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.schedule("a", START + 250);
+        wheel.schedule("b", START + 730);
+
+        assertThat(wheel.advance(START + 199)).isEmpty();
+        assertThat(wheel.advance(START + 200)).containsExactly("a");
+        assertThat(wheel.advance(START + 600)).isEmpty();
+        assertThat(wheel.advance(START + 700)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("먼 작업은 위 휠에서 아래 휠로 내려와 tick 오차 안에 만료되어야 한다")
+    void cascades() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        long[] deadlines = {START + 950, START + 6_430, START + 51_299, START + 400_000, START + 3_000_000};
+        for (int i = 0; i < deadlines.length; i++) {
+            assertThat(wheel.schedule(i, deadlines[i])).isTrue();
+        }
+
+        List<long[]> fired = new ArrayList<>();
+        for (long now = START; now <= START + 3_100_000; now += 100) {
+            for (Integer key : wheel.advance(now)) {
+                fired.add(new long[]{key, now});
+            }
+        }
+
+        assertThat(fired).hasSize(deadlines.length);
+        for (long[] event : fired) {
+            long deadline = deadlines[(int) event[0]];
+            assertThat(event[1]).isBetween(deadline - 99, deadline + 99);
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 크게 건너뛰어도 지난 작업은 모두 만료되어야 한다")
+    void jump() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        for (int i = 0; i < 20; i++) {
+            wheel.schedule(i, START + 500L * (i + 1));
+        }
+
+        List<Integer> expired = wheel.advance(START + 5_000);
+
+        assertThat(expired).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(wheel.advance(START + 20_000)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 등록한 작업은 이전 시각에 만료되지 않아야 한다")
+    void cancelAndReschedule() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.schedule("a", START + 300);
+        wheel.schedule("b", START + 300);
+
+        assertThat(wheel.cancel("a")).isTrue();
+        wheel.schedule("b", START + 5_000);
+
+        assertThat(wheel.advance(START + 1_000)).isEmpty();
+        assertThat(wheel.deadlineOf("b")).isEqualTo(START + 5_000);
+        assertThat(wheel.schedule("c", START + 900)).isFalse();
+        assertThat(wheel.advance(START + 5_000)).containsExactly("b");
+    }
+}
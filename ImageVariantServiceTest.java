@@ -0,0 +1,217 @@
+package com.example.cms.service;
+
+import com.example.cms.config.ImageVariantConfig;
+import com.example.cms.dto.StoredBlobDto;
+import com.example.cms.entity.ImageVariantJob;
+import com.example.cms.entity.ImageVariantJobStatus;
+import com.example.cms.repository.ImageVariantJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageVariantService 통합 테스트
+ */
+@DataJpaTest
+@Import({BlobStore.class, ImageVariantService.class, ImageVariantConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("ImageVariantService 테스트")
+class ImageVariantServiceTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("cms.storage.blob-dir", () -> directory.resolve("blobs").toString());
+        registry.add("cms.images.variant-dir", () -> directory.resolve("variants").toString());
+    }
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private ImageVariantJobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("업로드된 이미지는 원본보다 작은 크기의 변환본만 백그라운드에서 만들어야 한다")
+    void shouldGenerateSmallerVariants() throws Exception {
+        // when
+        StoredBlobDto blob = blobStore.store(image(800, 400, false), "image/png");
+        await(blob.hash(), ImageVariantJobStatus.DONE);
+
+        // then
+        ImageVariantService.VariantFile thumbnail = imageVariantService.find(blob.hash(), ImageVariant.THUMBNAIL)
+                .orElseThrow();
+        BufferedImage scaled = ImageIO.read(thumbnail.path().toFile());
+        assertThat(thumbnail.contentType()).isEqualTo("image/jpeg");
+        assertThat(scaled.getWidth()).isEqualTo(240);
+        assertThat(scaled.getHeight()).isEqualTo(120);
+        assertThat(imageVariantService.find(blob.hash(), ImageVariant.MEDIUM)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지는 PNG로 변환해야 한다")
+    void shouldKeepTransparency() throws Exception {
+        // when
+        StoredBlobDto blob = blobStore.store(image(1200, 1000, true), "image/png");
+        await(blob.hash(), ImageVariantJobStatus.DONE);
+
+        // then
+        ImageVariantService.VariantFile medium = imageVariantService.find(blob.hash(), ImageVariant.MEDIUM)
+                .orElseThrow();
+        BufferedImage scaled = ImageIO.read(medium.path().toFile());
+        assertThat(medium.contentType()).isEqualTo("image/png");
+        assertThat(scaled.getColorModel().hasAlpha()).isTrue();
+        assertThat(scaled.getWidth()).isEqualTo(960);
+        assertThat(scaled.getHeight()).isEqualTo(800);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 작업을 만들지 않고, 작은 이미지는 변환본 없이 완료되어야 한다")
+    void shouldSkipNonImagesAndSmallImages() throws Exception {
+        // when
+        StoredBlobDto text = blobStore.store(
+                new ByteArrayInputStream("첨부 문서".getBytes(StandardCharsets.UTF_8)), "text/plain");
+        StoredBlobDto small = blobStore.store(image(100, 100, false), "image/png");
+        await(small.hash(), ImageVariantJobStatus.DONE);
+
+        // then
+        assertThat(jobRepository.existsById(text.hash())).isFalse();
+        assertThat(imageVariantService.find(small.hash(), ImageVariant.THUMBNAIL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 이미지는 최대 시도 횟수 후 실패 처리되어야 한다")
+    void shouldFailAfterMaxAttempts() throws Exception {
+        // given
+        StoredBlobDto broken = blobStore.store(
+                new ByteArrayInputStream("PNG가 아닌 내용".getBytes(StandardCharsets.UTF_8)), "image/png");
+        await(broken.hash(), ImageVariantJobStatus.PENDING);
+
+        // when
+        for (int i = 1; i < ImageVariantService.MAX_ATTEMPTS; i++) {
+            imageVariantService.process(broken.hash());
+        }
+
+        // then
+        ImageVariantJob job = jobRepository.findById(broken.hash()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ImageVariantJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(ImageVariantService.MAX_ATTEMPTS);
+        assertThat(job.getLastError()).isNotBlank();
+        assertThat(imageVariantService.process(broken.hash())).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 상태로 남은 작업은 주기 조회로 다시 실행되어야 한다")
+    void shouldDispatchPendingJobs() throws Exception {
+        // given - 대기열이 가득 차서 워커에 넘기지 못한 작업
+        StoredBlobDto blob = blobStore.store(image(100, 100, false), "text/plain");
+        jobRepository.save(new ImageVariantJob(blob.hash()));
+
+        // when
+        imageVariantService.dispatchPending();
+
+        // then
+        await(blob.hash(), ImageVariantJobStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("변환 중인 작업만 대기로 보고, 완료/실패한 작업은 다시 조회하지 않아야 한다")
+    void shouldReportPendingUntilSettled() throws Exception {
+        // given
+        StoredBlobDto small = blobStore.store(image(100, 100, false), "text/plain");
+        jobRepository.save(new ImageVariantJob(small.hash()));
+
+        // when
+        boolean pending = imageVariantService.isPending(small.hash(), "image/png");
+        imageVariantService.dispatchPending();
+        await(small.hash(), ImageVariantJobStatus.DONE);
+        boolean afterDone = imageVariantService.isPending(small.hash(), "image/png");
+        jobRepository.deleteById(small.hash());
+
+        // then
+        assertThat(pending).isTrue();
+        assertThat(afterDone).isFalse();
+        assertThat(imageVariantService.isPending(small.hash(), "image/png")).isFalse();
+        assertThat(jobRepository.existsById(small.hash())).isFalse();
+        assertThat(imageVariantService.isPending(small.hash(), "text/plain")).isFalse();
+    }
+
+    @Test
+    @DisplayName("변환 중 중단되어 최대 시도 횟수를 쓴 작업은 다시 대기로 돌리지 않고 실패 처리해야 한다")
+    void shouldFailStaleJobsAfterMaxAttempts() throws Exception {
+        // given - 변환할 때마다 워커가 중단되어 실행 상태로 남은 작업
+        StoredBlobDto retry = blobStore.store(image(100, 100, false), "text/plain");
+        StoredBlobDto exhausted = blobStore.store(image(120, 100, false), "text/plain");
+        jobRepository.save(new ImageVariantJob(retry.hash()));
+        jobRepository.save(new ImageVariantJob(exhausted.hash()));
+        jdbcTemplate.update("UPDATE image_variant_jobs SET status = 'RUNNING', attempts = ?, updated_at = ? WHERE hash = ?",
+                1, LocalDateTime.now().minusHours(1), retry.hash());
+        jdbcTemplate.update("UPDATE image_variant_jobs SET status = 'RUNNING', attempts = ?, updated_at = ? WHERE hash = ?",
+                ImageVariantService.MAX_ATTEMPTS, LocalDateTime.now().minusHours(1), exhausted.hash());
+
+        // when
+        imageVariantService.dispatchPending();
+
+        // then
+        await(retry.hash(), ImageVariantJobStatus.DONE);
+        ImageVariantJob job = jobRepository.findById(exhausted.hash()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ImageVariantJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(ImageVariantService.MAX_ATTEMPTS);
+        assertThat(job.getLastError()).isNotBlank();
+        assertThat(imageVariantService.process(exhausted.hash())).isFalse();
+    }
+
+    private void await(String hash, ImageVariantJobStatus expected) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ImageVariantJob job = jobRepository.findById(hash).orElse(null);
+            if (job != null && job.getStatus() == expected && job.getAttempts() > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("작업이 " + expected + " 상태가 되지 않았습니다: " + hash);
+    }
+
+    private static ByteArrayInputStream image(int width, int height, boolean alpha) throws IOException {
+        BufferedImage image = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(alpha ? new Color(255, 0, 0, 128) : Color.BLUE);
+        graphics.fillRect(0, 0, width / 2, height / 2);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return new ByteArrayInputStream(output.toByteArray());
+    }
+}
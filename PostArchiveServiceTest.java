@@ -0,0 +1,152 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.ArchiveMonthDto;
+import com.example.cms.dto.PostSummaryDto;
+import com.example.cms.entity.Category;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.event.PostCategoryChangedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostArchiveService 통합 테스트
+ */
+@DataJpaTest
+@Import(PostArchiveService.class)
+@DisplayName("PostArchiveService 테스트")
+class PostArchiveServiceTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+    private static final YearMonth APRIL = YearMonth.of(2024, 4);
+
+    @Autowired
+    private PostArchiveService postArchiveService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private Category notice;
+    private Category tech;
+    private Post march1;
+    private Post march2;
+    private Post april;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .email("author@example.com")
+                .password("password")
+                .name("작성자")
+                .role(UserRole.CUSTOMER)
+                .build());
+        notice = entityManager.persist(Category.builder().name("공지사항").build());
+        tech = entityManager.persist(Category.builder().name("기술").build());
+        march1 = persistPost("3월 첫 글", notice, true, LocalDateTime.of(2024, 3, 5, 10, 0));
+        march2 = persistPost("3월 둘째 글", tech, true, LocalDateTime.of(2024, 3, 20, 9, 0));
+        april = persistPost("4월 글", notice, true, LocalDateTime.of(2024, 4, 1, 0, 0));
+        persistPost("3월 임시 글", notice, false, LocalDateTime.of(2024, 3, 10, 0, 0));
+        postArchiveService.rebuild();
+    }
+
+    @Test
+    @DisplayName("발행된 게시글의 월 목록과 게시글 수를 최신 월부터 반환해야 한다")
+    void shouldListMonthsWithCounts() {
+        assertThat(postArchiveService.getMonths(null))
+                .containsExactly(new ArchiveMonthDto(2024, 4, 1), new ArchiveMonthDto(2024, 3, 2));
+        assertThat(postArchiveService.getMonths(tech.getId()))
+                .containsExactly(new ArchiveMonthDto(2024, 3, 1));
+        assertThat(postArchiveService.getMonths(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("월별 게시글을 최신순 페이지로 반환해야 한다")
+    void shouldPageMonthPosts() {
+        // when
+        Page<PostSummaryDto> first = postArchiveService.getPosts(MARCH, null, PageRequest.of(0, 1));
+        Page<PostSummaryDto> second = postArchiveService.getPosts(MARCH, null, PageRequest.of(1, 1));
+
+        // then
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(PostSummaryDto::id).containsExactly(march2.getId());
+        assertThat(second.getContent()).extracting(PostSummaryDto::id).containsExactly(march1.getId());
+        assertThat(postArchiveService.getPosts(MARCH, notice.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(PostSummaryDto::id).containsExactly(march1.getId());
+        assertThat(postArchiveService.getPosts(YearMonth.of(2023, 1), null, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발행/발행 취소/카테고리 변경/삭제 이벤트로 버킷이 갱신되어야 한다")
+    void shouldApplyEvents() {
+        // given
+        Long authorId = author.getId();
+        LocalDateTime march15 = LocalDateTime.of(2024, 3, 15, 12, 0);
+
+        // when
+        postArchiveService.onPostCreated(new PostCreatedEvent(100L, authorId, tech.getId(), true, march15));
+        postArchiveService.onPostCreated(new PostCreatedEvent(101L, authorId, tech.getId(), false, march15));
+        postArchiveService.onPostPublicationChanged(new PostPublicationChangedEvent(
+                april.getId(), authorId, notice.getId(), false, april.getCreatedAt()));
+        postArchiveService.onPostCategoryChanged(new PostCategoryChangedEvent(march1.getId(), notice.getId(), tech.getId(), true));
+        postArchiveService.onPostDeleted(new PostDeletedEvent(march2.getId(), authorId, tech.getId(), true, march2.getCreatedAt()));
+
+        // then
+        assertThat(postArchiveService.getMonths(null)).containsExactly(new ArchiveMonthDto(2024, 3, 2));
+        assertThat(postArchiveService.getPostIds(MARCH, null, 0, 10)).containsExactly(100L, march1.getId());
+        assertThat(postArchiveService.getPostIds(MARCH, tech.getId(), 0, 10)).containsExactly(100L, march1.getId());
+        assertThat(postArchiveService.getMonths(notice.getId())).isEmpty();
+        assertThat(postArchiveService.countPosts(APRIL, null)).isZero();
+    }
+
+    @Test
+    @DisplayName("재구성은 이벤트 없이 바뀐 데이터를 반영해야 한다")
+    void shouldRebuildFromDatabase() {
+        // given
+        postArchiveService.onPostCreated(new PostCreatedEvent(500L, author.getId(), null, true, LocalDateTime.now()));
+        persistPost("4월 새 글", tech, true, LocalDateTime.of(2024, 4, 2, 0, 0));
+
+        // when
+        postArchiveService.rebuild();
+
+        // then
+        assertThat(postArchiveService.getMonths(null))
+                .containsExactly(new ArchiveMonthDto(2024, 4, 2), new ArchiveMonthDto(2024, 3, 2));
+        assertThat(postArchiveService.getMonths(tech.getId()))
+                .containsExactly(new ArchiveMonthDto(2024, 4, 1), new ArchiveMonthDto(2024, 3, 1));
+    }
+
+    private Post persistPost(String title, Category category, boolean published, LocalDateTime createdAt) {
+        Post post = entityManager.persist(Post.builder()
+                .title(title)
+                .content("내용")
+                .author(author)
+                .category(category)
+                .published(published)
+                .build());
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Post p SET p.createdAt = :createdAt WHERE p.id = :postId")
+                .setParameter("createdAt", createdAt)
+                .setParameter("postId", post.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return entityManager.find(Post.class, post.getId());
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostBulkFilter;
+import com.example.cms.dto.PostBulkJobDto;
+import com.example.cms.dto.PostBulkRequest;
+import com.example.cms.entity.Category;
+import com.example.cms.entity.Comment;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.Tag;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.event.PostCategoryChangedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostBulkService 통합 테스트
+ */
+@DataJpaTest(properties = "cms.posts.bulk.chunk-size=2")
+@Import({PostBulkService.class, PostBulkServiceTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("PostBulkService 테스트")
+class PostBulkServiceTest {
+
+    @TestConfiguration
+    static class TestConfig {
+
+        final List<Object> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Bean
+        ExecutorService bulkJobExecutor() {
+            return Executors.newSingleThreadExecutor();
+        }
+
+        @EventListener
+        void onEvent(Object event) {
+            if (event.getClass().getPackageName().equals("com.example.cms.event")) {
+                events.add(event);
+            }
+        }
+    }
+
+    @Autowired
+    private PostBulkService postBulkService;
+
+    @Autowired
+    private TestConfig testConfig;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User author;
+    private Category notice;
+    private Category free;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            author = User.builder().email("author@example.com").password("password").name("작성자")
+                    .role(UserRole.CUSTOMER).build();
+            entityManager.persist(author);
+            notice = Category.builder().name("공지사항").build();
+            free = Category.builder().name("자유게시판").build();
+            entityManager.persist(notice);
+            entityManager.persist(free);
+            Tag tag = new Tag("스팸");
+            entityManager.persist(tag);
+
+            for (int i = 0; i < 5; i++) {
+                Post post = Post.builder().title("게시글 " + i).content("내용").author(author)
+                        .category(notice).published(i % 2 == 0).build();
+                post.addTag(tag);
+                entityManager.persist(post);
+                postIds.add(post.getId());
+            }
+            Post first = entityManager.find(Post.class, postIds.get(0));
+            Comment comment = Comment.builder().content("댓글").author(author).post(first).build();
+            entityManager.persist(comment);
+            Comment reply = Comment.builder().content("답글").author(author).post(first)
+                    .parentComment(comment).build();
+            entityManager.persist(reply);
+            entityManager.persist(Comment.builder().content("답글의 답글").author(author).post(first)
+                    .parentComment(reply).build());
+        });
+        testConfig.events.clear();
+    }
+
+    @Test
+    @DisplayName("ID 목록으로 일괄 발행하면 변경된 게시글만 반영되어야 한다")
+    void shouldPublishByIds() throws InterruptedException {
+        // when - 0, 2, 4는 이미 발행됨
+        PostBulkJobDto job = await(postBulkService.submit(
+                new PostBulkRequest(PostBulkAction.PUBLISH, postIds, null, null)));
+
+        // then
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.total()).isEqualTo(5);
+        assertThat(job.processed()).isEqualTo(5);
+        assertThat(job.affected()).isEqualTo(2);
+        assertThat(job.getPercent()).isEqualTo(100);
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE published = true")).isEqualTo(5);
+        assertThat(testConfig.events).hasSize(2).allMatch(PostPublicationChangedEvent.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("조건으로 카테고리를 일괄 변경해야 한다")
+    void shouldRecategorizeByFilter() throws InterruptedException {
+        // when
+        PostBulkJobDto job = await(postBulkService.submit(new PostBulkRequest(PostBulkAction.RECATEGORIZE, null,
+                new PostBulkFilter(author.getId(), null, true, null, null), free.getId())));
+
+        // then
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.affected()).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE category_id = " + free.getId())).isEqualTo(3);
+        assertThat(testConfig.events).filteredOn(PostCategoryChangedEvent.class::isInstance).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 여러 깊이의 답글을 포함한 댓글과 태그 연결까지 함께 삭제해야 한다")
+    void shouldDeleteWithCommentsAndTags() throws InterruptedException {
+        // when
+        PostBulkJobDto job = await(postBulkService.submit(
+                new PostBulkRequest(PostBulkAction.DELETE, postIds.subList(0, 3), null, null)));
+
+        // then
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.affected()).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM posts")).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM comments")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM post_tags")).isEqualTo(2);
+        assertThat(testConfig.events).filteredOn(PostDeletedEvent.class::isInstance).hasSize(3);
+        assertThat(testConfig.events).filteredOn(CommentDeletedEvent.class::isInstance)
+                .singleElement()
+                .satisfies(event -> assertThat(((CommentDeletedEvent) event).deletedCount()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("대상이 없거나 ID와 조건을 함께 지정하면 예외가 발생해야 한다")
+    void shouldRejectInvalidRequest() {
+        assertThatThrownBy(() -> postBulkService.submit(
+                new PostBulkRequest(PostBulkAction.DELETE, List.of(), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postBulkService.submit(new PostBulkRequest(PostBulkAction.DELETE, postIds,
+                new PostBulkFilter(author.getId(), null, null, null, null), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postBulkService.submit(
+                new PostBulkRequest(PostBulkAction.RECATEGORIZE, postIds, null, 999L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PostBulkJobDto await(PostBulkJobDto submitted) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            PostBulkJobDto job = postBulkService.getJob(submitted.jobId()).orElseThrow();
+            if (job.finishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("작업이 끝나지 않았습니다: " + submitted.jobId());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
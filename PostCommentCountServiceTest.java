@@ -0,0 +1,215 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostSummaryDto;
+import com.example.cms.entity.Comment;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.event.CommentCreatedEvent;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.repository.PostCommentCountRepository;
+import com.example.cms.repository.PostRepositoryCustom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostCommentCountService 통합 테스트
+ */
+@DataJpaTest
+@Import(PostCommentCountService.class)
+@DisplayName("PostCommentCountService 테스트")
+class PostCommentCountServiceTest {
+
+    @Autowired
+    private PostCommentCountService postCommentCountService;
+
+    @Autowired
+    private PostCommentCountRepository postCommentCountRepository;
+
+    @Autowired
+    private PostRepositoryCustom postRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .email("author@example.com")
+                .password("password")
+                .name("작성자")
+                .role(UserRole.CUSTOMER)
+                .build());
+        post = entityManager.persist(Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author(author)
+                .published(true)
+                .build());
+        eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), author.getId(), null, true, post.getCreatedAt()));
+    }
+
+    @Test
+    @DisplayName("댓글 작성/삭제 시 답글을 포함해 댓글 수를 증감해야 한다")
+    void shouldTrackCreatesAndCascadingDeletes() {
+        // given
+        Comment first = write(null);
+        Comment reply = write(first);
+        write(reply);
+        write(null);
+
+        // when
+        long afterCreate = postCommentCountService.getCommentCount(post.getId());
+        eventPublisher.publishEvent(new CommentDeletedEvent(first.getId(), post.getId(), 3));
+        long afterDelete = postCommentCountService.getCommentCount(post.getId());
+
+        // then
+        assertThat(afterCreate).isEqualTo(4);
+        assertThat(afterDelete).isEqualTo(1);
+        assertThat(postCommentCountService.hasComments(post.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("목록 요약은 비정규화된 댓글 수를 읽어야 한다")
+    void summariesShouldReadDenormalizedCount() {
+        // given
+        write(null);
+        write(null);
+        entityManager.clear();
+
+        // when
+        List<PostSummaryDto> summaries = postRepository.findPostSummariesByIds(List.of(post.getId()));
+
+        // then
+        assertThat(summaries).extracting(PostSummaryDto::commentCount).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("행이 없는 기존 게시글은 보정 작업이 현재 댓글 수로 행을 만들고, 어긋난 값을 고쳐야 한다")
+    void shouldRecoverMissingAndDriftedCounts() {
+        // given
+        Post legacy = entityManager.persist(Post.builder()
+                .title("기존 게시글")
+                .content("내용")
+                .author(author)
+                .published(true)
+                .build());
+        persist(legacy, null);
+        persist(legacy, null);
+        persist(post, null);
+        entityManager.flush();
+
+        // when
+        Comment added = persist(legacy, null);
+        eventPublisher.publishEvent(new CommentCreatedEvent(added.getId(), legacy.getId(), null, added.getCreatedAt()));
+        int corrected = postCommentCountService.reconcile();
+        entityManager.clear();
+        Map<Long, Long> counts = postCommentCountService.getCommentCounts(List.of(post.getId(), legacy.getId(), 999L));
+
+        // then
+        assertThat(corrected).isEqualTo(2);
+        assertThat(counts).containsEntry(post.getId(), 1L)
+                .containsEntry(legacy.getId(), 3L)
+                .containsEntry(999L, 0L);
+        assertThat(postCommentCountService.reconcile()).isZero();
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("행이 없는 기존 게시글은 댓글 트랜잭션이 커밋된 뒤 커밋된 댓글 수로 행을 만들어야 한다")
+    void shouldCreateMissingRowAfterCommit() {
+        // given - 이미 커밋된 기존 게시글과 댓글
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Post legacy = newTransaction.execute(status -> {
+            User writer = entityManager.persist(User.builder()
+                    .email("legacy@example.com")
+                    .password("password")
+                    .name("기존 작성자")
+                    .role(UserRole.CUSTOMER)
+                    .build());
+            Post saved = entityManager.persist(Post.builder()
+                    .title("기존 게시글")
+                    .content("내용")
+                    .author(writer)
+                    .published(true)
+                    .build());
+            entityManager.persist(Comment.builder().content("댓글").author(writer).post(saved).build());
+            entityManager.persist(Comment.builder().content("댓글").author(writer).post(saved).build());
+            return saved;
+        });
+
+        // when
+        Long duringTransaction = newTransaction.execute(status -> {
+            Comment added = entityManager.persist(
+                    Comment.builder().content("댓글").author(legacy.getAuthor()).post(legacy).build());
+            entityManager.flush();
+            eventPublisher.publishEvent(new CommentCreatedEvent(added.getId(), legacy.getId(), null, added.getCreatedAt()));
+            return postCommentCountRepository.findCount(legacy.getId());
+        });
+
+        // then
+        assertThat(duringTransaction).isNull();
+        Long committed = newTransaction.execute(status -> postCommentCountRepository.findCount(legacy.getId()));
+        assertThat(committed).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("게시글이 삭제되면 댓글 수 행도 지워야 한다")
+    void shouldRemoveCountWithPost() {
+        // given
+        write(null);
+
+        // when
+        eventPublisher.publishEvent(new CommentDeletedEvent(null, post.getId(), 1));
+        eventPublisher.publishEvent(new PostDeletedEvent(post.getId(), author.getId(), null, true, post.getCreatedAt()));
+
+        // then
+        assertThat(postCommentCountRepository.existsById(post.getId())).isFalse();
+        assertThat(postCommentCountService.getCommentCount(post.getId())).isZero();
+    }
+
+    private Comment write(Comment parent) {
+        Comment comment = persist(post, parent);
+        eventPublisher.publishEvent(new CommentCreatedEvent(comment.getId(), post.getId(),
+                parent == null ? null : parent.getId(), comment.getCreatedAt()));
+        return comment;
+    }
+
+    private Comment persist(Post target, Comment parent) {
+        Comment comment = entityManager.persist(Comment.builder()
+                .content("댓글")
+                .author(author)
+                .post(target)
+                .parentComment(parent)
+                .build());
+        entityManager.flush();
+        return comment;
+    }
+}
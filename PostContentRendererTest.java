@@ -0,0 +1,89 @@
+package com.example.cms.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostContentRenderer 단위 테스트
+ */
+@DisplayName("PostContentRenderer 테스트")
+class PostContentRendererTest {
+
+    private PostContentRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new PostContentRenderer(Set.of("localhost", "cms.example.com"));
+    }
+
+    @Test
+    @DisplayName("스크립트와 이벤트 핸들러, javascript: 링크는 제거해야 한다")
+    void shouldRemoveDangerousMarkup() {
+        // when
+        String html = renderer.render("<p onclick=\"alert(1)\">본문<script>alert(1)</script></p>"
+                + "<a href=\"javascript:alert(1)\">링크</a><iframe src=\"https://evil.example\"></iframe>");
+
+        // then
+        assertThat(html).doesNotContain("script", "onclick", "javascript:", "iframe");
+        assertThat(html).contains("<p>본문</p>", "링크");
+    }
+
+    @Test
+    @DisplayName("CKEditor 이미지/표 마크업은 유지하고 허용되지 않은 클래스만 제거해야 한다")
+    void shouldKeepCkEditorMarkup() {
+        // when
+        String html = renderer.render("<figure class=\"image evil\"><img src=\"/uploads/a.png\" alt=\"a\">"
+                + "<figcaption>캡션</figcaption></figure>"
+                + "<figure class=\"table\"><table><tbody><tr><td>셀</td></tr></tbody></table></figure>");
+
+        // then
+        assertThat(html).contains("<figure class=\"image\">", "<figure class=\"table\">", "<figcaption>캡션</figcaption>");
+        assertThat(html).contains("src=\"/uploads/a.png\"", "loading=\"lazy\"", "decoding=\"async\"");
+    }
+
+    @Test
+    @DisplayName("크기를 조절한 이미지의 width만 style로 남겨야 한다")
+    void shouldKeepOnlyImageWidthStyle() {
+        // when
+        String html = renderer.render("<figure class=\"image image_resized\" style=\"width:50%;color:red\">"
+                + "<img src=\"/uploads/a.png\" style=\"width: 320px; background:url(javascript:x)\"></figure>"
+                + "<figure class=\"image\" style=\"position:fixed\"><img src=\"/uploads/b.png\"></figure>"
+                + "<p style=\"width:10px\">본문</p>");
+
+        // then
+        assertThat(html).contains("<figure class=\"image image_resized\" style=\"width:50%\">",
+                "style=\"width:320px\"", "<figure class=\"image\">", "<p>본문</p>");
+        assertThat(html).doesNotContain("color", "javascript", "position");
+    }
+
+    @Test
+    @DisplayName("외부 링크에만 rel/target을 붙여야 한다")
+    void shouldRewriteExternalLinks() {
+        // when
+        String html = renderer.render("<p><a href=\"https://other.example/x\">외부</a>"
+                + "<a href=\"https://cms.example.com/posts/1\" target=\"_blank\">내부</a>"
+                + "<a href=\"/posts/2\">상대</a></p>");
+
+        // then
+        assertThat(html).contains(
+                "<a href=\"https://other.example/x\" rel=\"nofollow noopener noreferrer\" target=\"_blank\">외부</a>",
+                "<a href=\"https://cms.example.com/posts/1\">내부</a>",
+                "<a href=\"/posts/2\">상대</a>");
+    }
+
+    @Test
+    @DisplayName("빈 문단은 제거하고 공백 문단(&nbsp;)은 유지해야 한다")
+    void shouldNormalizeParagraphs() {
+        // when
+        String html = renderer.render("<p></p><p>&nbsp;</p><p>내용</p>");
+
+        // then
+        assertThat(html).isEqualTo("<p>&nbsp;</p><p>내용</p>");
+        assertThat(renderer.render(null)).isEmpty();
+    }
+}
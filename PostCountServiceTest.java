@@ -0,0 +1,145 @@
+package com.example.cms.service;
+
+import com.example.cms.entity.Category;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.event.PostCategoryChangedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.spy;
+
+/**
+ * PostCountService 통합 테스트
+ */
+@DataJpaTest
+@Import(PostCountService.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("PostCountService 테스트")
+class PostCountServiceTest {
+
+    @Autowired
+    private PostCountService postCountService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .email("author@example.com")
+                .password("password")
+                .name("작성자")
+                .role(UserRole.CUSTOMER)
+                .build());
+        category = entityManager.persist(Category.builder().name("공지사항").build());
+        persistPost(true);
+        persistPost(true);
+        persistPost(false);
+        postCountService.reconcile();
+    }
+
+    @Test
+    @DisplayName("데이터베이스 집계 값으로 적재되어야 한다")
+    void shouldLoadFromDatabase() {
+        assertThat(postCountService.countPublishedByAuthor(author.getId())).isEqualTo(2L);
+        assertThat(postCountService.countDraftsByAuthor(author.getId())).isEqualTo(1L);
+        assertThat(postCountService.countPublishedByCategory(category.getId())).isEqualTo(2L);
+        assertThat(postCountService.countPublishedByAuthor(999L)).isZero();
+    }
+
+    @Test
+    @DisplayName("생성/발행/카테고리 변경/삭제 이벤트로 증감되어야 한다")
+    void shouldApplyEvents() {
+        // given
+        Long authorId = author.getId();
+        Long categoryId = category.getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        postCountService.onPostCreated(new PostCreatedEvent(10L, authorId, categoryId, false, now));
+        postCountService.onPostPublicationChanged(new PostPublicationChangedEvent(10L, authorId, categoryId, true, now));
+        postCountService.onPostCategoryChanged(new PostCategoryChangedEvent(10L, categoryId, 77L, true));
+        postCountService.onPostDeleted(new PostDeletedEvent(11L, authorId, categoryId, true, now));
+
+        // then
+        assertThat(postCountService.countPublishedByAuthor(authorId)).isEqualTo(2L);
+        assertThat(postCountService.countDraftsByAuthor(authorId)).isEqualTo(1L);
+        assertThat(postCountService.countPublishedByCategory(categoryId)).isEqualTo(1L);
+        assertThat(postCountService.countPublishedByCategory(77L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 어긋난 값을 데이터베이스 값으로 바로잡아야 한다")
+    void shouldReconcileDrift() {
+        // given - 이벤트 없이 변경된 데이터와 잘못 반영된 이벤트
+        persistPost(true);
+        postCountService.onPostDeleted(new PostDeletedEvent(99L, author.getId(), null, false, LocalDateTime.now()));
+        postCountService.onPostCreated(new PostCreatedEvent(98L, 555L, 66L, true, LocalDateTime.now()));
+
+        // when
+        int corrected = postCountService.reconcile();
+
+        // then
+        assertThat(corrected).isEqualTo(5);
+        assertThat(postCountService.countPublishedByAuthor(author.getId())).isEqualTo(3L);
+        assertThat(postCountService.countDraftsByAuthor(author.getId())).isEqualTo(1L);
+        assertThat(postCountService.countPublishedByCategory(category.getId())).isEqualTo(3L);
+        assertThat(postCountService.countPublishedByAuthor(555L)).isZero();
+        assertThat(postCountService.countPublishedByCategory(66L)).isZero();
+        assertThat(postCountService.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("집계 쿼리 실행 중 이벤트가 반영된 키는 이번 보정을 건너뛰고 다음 보정에서 맞춰야 한다")
+    void shouldSkipAmbiguousKeysWhenEventsArriveDuringQuery() {
+        // given - 이벤트가 집계 쿼리와 겹쳐 반영됨 (집계 결과에 포함 여부는 알 수 없음)
+        postCountService.seed();
+        persistPost(true);
+        PostCountService service = spy(postCountService);
+        doAnswer(invocation -> {
+            service.onPostCreated(new PostCreatedEvent(20L, author.getId(), category.getId(), true, LocalDateTime.now()));
+            return invocation.callRealMethod();
+        }).when(service).queryCounts();
+
+        // when
+        service.reconcile();
+        long afterAmbiguous = service.countPublishedByAuthor(author.getId());
+        doCallRealMethod().when(service).queryCounts();
+        service.reconcile();
+
+        // then
+        assertThat(afterAmbiguous).isEqualTo(3L);
+        assertThat(service.countPublishedByAuthor(author.getId())).isEqualTo(3L);
+        assertThat(service.countPublishedByCategory(category.getId())).isEqualTo(3L);
+    }
+
+    private void persistPost(boolean published) {
+        entityManager.persist(Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author(author)
+                .category(category)
+                .published(published)
+                .build());
+        entityManager.flush();
+    }
+}
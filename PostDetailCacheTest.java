@@ -0,0 +1,88 @@
+package com.example.cms.cache;
+
+import com.example.cms.dto.PostDetailDto;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import com.example.cms.event.PostUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostDetailCache 단위 테스트
+ */
+@DisplayName("PostDetailCache 테스트")
+class PostDetailCacheTest {
+
+    private PostDetailCache postDetailCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        postDetailCache = new PostDetailCache(100, Duration.ofMinutes(10));
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 시 캐시가 무효화되어야 한다")
+    void shouldEvictOnUpdate() {
+        // given
+        load(1L);
+
+        // when
+        postDetailCache.onPostUpdated(new PostUpdatedEvent(1L));
+        load(1L);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("발행/발행 취소/삭제 시 캐시가 무효화되어야 한다")
+    void shouldEvictOnPublicationChangeAndDelete() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        load(1L);
+
+        // when & then
+        postDetailCache.onPostPublicationChanged(new PostPublicationChangedEvent(1L, 1L, 1L, false, now));
+        load(1L);
+        postDetailCache.onPostPublicationChanged(new PostPublicationChangedEvent(1L, 1L, 1L, true, now));
+        load(1L);
+        postDetailCache.onPostDeleted(new PostDeletedEvent(1L, 1L, 1L, true, now));
+        load(1L);
+        assertThat(loadCount).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 변경은 캐시에 영향을 주지 않아야 한다")
+    void shouldKeepOtherPosts() {
+        // given
+        load(1L);
+
+        // when
+        postDetailCache.onPostUpdated(new PostUpdatedEvent(2L));
+        Optional<PostDetailDto> result = load(1L);
+
+        // then
+        assertThat(result).map(PostDetailDto::title).contains("게시글 1");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    private Optional<PostDetailDto> load(Long postId) {
+        return postDetailCache.get(postId, id -> {
+            loadCount.incrementAndGet();
+            LocalDateTime now = LocalDateTime.now();
+            return Optional.of(new PostDetailDto(id, "게시글 " + id, "내용", true, 1L, "작성자", null, null,
+                    List.of("Java"), now, now));
+        });
+    }
+}
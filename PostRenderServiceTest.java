@@ -0,0 +1,147 @@
+package com.example.cms.service;
+
+import com.example.cms.entity.Post;
+import com.example.cms.entity.PostRenderedContent;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.repository.PostRenderedContentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostRenderService 통합 테스트
+ */
+@DataJpaTest
+@Import({PostRenderService.class, PostContentRenderer.class})
+@TestPropertySource(properties = "cms.render.internal-hosts=localhost")
+@DisplayName("PostRenderService 테스트")
+class PostRenderServiceTest {
+
+    @Autowired
+    private PostRenderService postRenderService;
+
+    @Autowired
+    private PostRenderedContentRepository renderedContentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("저장 시 렌더링한 HTML을 원본과 별도로 보관해야 한다")
+    void shouldStoreRenderedHtml() {
+        // when
+        String html = postRenderService.renderAndStore(1L, "<p>본문<script>x</script></p>");
+
+        // then
+        assertThat(html).isEqualTo("<p>본문</p>");
+        assertThat(postRenderService.getRenderedHtml(1L)).isEqualTo("<p>본문</p>");
+    }
+
+    @Test
+    @DisplayName("원본이 바뀌지 않았으면 다시 렌더링하지 않아야 한다")
+    void shouldSkipUnchangedSource() {
+        // given
+        postRenderService.renderAndStore(1L, "<p>본문</p>");
+        LocalDateTime renderedAt = renderedContentRepository.findById(1L).orElseThrow().getRenderedAt();
+
+        // when
+        postRenderService.renderAndStore(1L, "<p>본문</p>");
+        postRenderService.renderAndStore(1L, "<p>수정</p>");
+
+        // then
+        PostRenderedContent stored = renderedContentRepository.findById(1L).orElseThrow();
+        assertThat(stored.getHtml()).isEqualTo("<p>수정</p>");
+        assertThat(stored.getRenderedAt()).isAfterOrEqualTo(renderedAt);
+        assertThat(renderedContentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("렌더링 결과가 없는 기존 게시글은 처음 조회할 때 렌더링해야 한다")
+    void shouldRenderLazilyForExistingPosts() {
+        // given
+        User author = entityManager.persist(User.builder().email("author@example.com").password("password")
+                .name("작성자").role(UserRole.CUSTOMER).build());
+        Post post = entityManager.persistAndFlush(Post.builder().title("제목")
+                .content("<p><a href=\"https://other.example\">링크</a></p>").author(author).build());
+
+        // when
+        String html = postRenderService.getRenderedHtml(post.getId());
+
+        // then
+        assertThat(html).contains("rel=\"nofollow noopener noreferrer\"");
+        assertThat(renderedContentRepository.existsById(post.getId())).isTrue();
+        assertThat(postRenderService.getRenderedHtml(999L)).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DirtiesContext
+    @DisplayName("같은 게시글을 동시에 처음 조회해도 모두 렌더링 결과를 받아야 한다")
+    void shouldBackfillOnceUnderConcurrency() throws Exception {
+        // given
+        Long postId = transactionTemplate.execute(status -> {
+            User author = entityManager.persist(User.builder().email("concurrent@example.com").password("password")
+                    .name("작성자").role(UserRole.CUSTOMER).build());
+            return entityManager.persist(Post.builder().title("제목").content("<p>본문</p>").author(author).build())
+                    .getId();
+        });
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return postRenderService.getRenderedHtml(postId);
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("<p>본문</p>");
+        }
+        assertThat(renderedContentRepository.findById(postId)).isPresent();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("게시글 삭제 시 렌더링 결과도 삭제해야 한다")
+    void shouldDeleteOnPostDeleted() {
+        // given - 삭제 이벤트는 게시글 트랜잭션 커밋 후 처리됨
+        postRenderService.renderAndStore(42L, "<p>본문</p>");
+
+        // when
+        postRenderService.onPostDeleted(new PostDeletedEvent(42L, 1L, null, true, LocalDateTime.now()));
+
+        // then
+        assertThat(renderedContentRepository.existsById(42L)).isFalse();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.cms.repository;
+
+import com.example.cms.dto.PostDetailDto;
+import com.example.cms.dto.PostSummaryDto;
+import com.example.cms.entity.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostRepositoryCustom 목록 요약 조회 테스트
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("PostRepositoryCustom 테스트")
+class PostRepositoryCustomTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private User author;
+    private Category category;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        author = User.builder()
+                .email("author@example.com")
+                .password("password123")
+                .name("작성자")
+                .role(UserRole.CUSTOMER)
+                .build();
+        entityManager.persist(author);
+
+        category = Category.builder()
+                .name("기술")
+                .description("기술 게시판")
+                .build();
+        entityManager.persist(category);
+
+        Tag java = Tag.builder().name("Java").color("#FF0000").build();
+        Tag spring = Tag.builder().name("Spring").color("#00FF00").build();
+        entityManager.persist(java);
+        entityManager.persist(spring);
+
+        for (int i = 1; i <= 3; i++) {
+            Post post = Post.builder()
+                    .title("발행된 게시글 " + i)
+                    .content("<p>긴 본문</p>".repeat(100))
+                    .author(author)
+                    .category(category)
+                    .published(true)
+                    .build();
+            post.addTag(java);
+            if (i == 1) {
+                post.addTag(spring);
+            }
+            entityManager.persist(post);
+
+            for (int j = 0; j < i; j++) {
+                entityManager.persist(Comment.builder().content("댓글").author(author).post(post).build());
+            }
+            // 댓글 작성 시 PostCommentCountService가 갱신하는 댓글 수
+            entityManager.persist(new PostCommentCount(post.getId(), i));
+        }
+
+        Post draft = Post.builder()
+                .title("임시저장 게시글")
+                .content("임시저장 내용")
+                .author(author)
+                .published(false)
+                .build();
+        entityManager.persist(draft);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("발행된 게시글 요약을 태그/댓글 수와 함께 조회해야 한다")
+    void findPublishedPostSummaries() {
+        // when
+        Page<PostSummaryDto> result = postRepository.findPublishedPostSummaries(PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(PostSummaryDto::title)
+                .containsExactlyInAnyOrder("발행된 게시글 1", "발행된 게시글 2", "발행된 게시글 3");
+
+        PostSummaryDto first = result.getContent().stream()
+                .filter(summary -> summary.title().equals("발행된 게시글 1"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(first.authorName()).isEqualTo("작성자");
+        assertThat(first.categoryName()).isEqualTo("기술");
+        assertThat(first.tagNames()).containsExactly("Java", "Spring");
+        assertThat(first.commentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 게시글 수와 관계없이 고정된 쿼리 수로 끝나야 한다")
+    void shouldNotIssueQueryPerPost() {
+        // when
+        postRepository.findPublishedPostSummaries(PageRequest.of(0, 10));
+
+        // then - 요약 행 1회 + 태그 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 전체 건수를 조회해야 한다")
+    void shouldCountWhenMorePagesExist() {
+        // when
+        Page<PostSummaryDto> result = postRepository.findPublishedPostSummaries(PageRequest.of(0, 2));
+
+        // then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작성자 게시글 요약은 임시저장 글을 포함해야 한다")
+    void findPostSummariesByAuthor() {
+        // when
+        Page<PostSummaryDto> result = postRepository.findPostSummariesByAuthor(author.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.getContent()).extracting(PostSummaryDto::title).contains("임시저장 게시글");
+    }
+
+    @Test
+    @DisplayName("카테고리별 발행된 게시글 요약 조회")
+    void findPublishedPostSummariesByCategory() {
+        // when
+        Page<PostSummaryDto> result = postRepository.findPublishedPostSummariesByCategory(
+                category.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).allMatch(summary -> summary.categoryId().equals(category.getId()));
+    }
+
+    @Test
+    @DisplayName("최근 게시글 요약 조회")
+    void findRecentPostSummaries() {
+        // when
+        List<PostSummaryDto> result = postRepository.findRecentPostSummaries(2);
+
+        // then
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("게시글 상세는 엔티티를 로딩하지 않고 태그 이름과 함께 조회해야 한다")
+    void findPostDetail() {
+        // given
+        Long postId = postRepository.findPublishedPostSummaries(PageRequest.of(0, 10)).getContent().stream()
+                .filter(summary -> summary.title().equals("발행된 게시글 1"))
+                .findFirst()
+                .orElseThrow()
+                .id();
+        statistics.clear();
+
+        // when
+        PostDetailDto detail = postRepository.findPostDetail(postId).orElseThrow();
+
+        // then
+        assertThat(detail.content()).startsWith("<p>긴 본문</p>");
+        assertThat(detail.published()).isTrue();
+        assertThat(detail.authorName()).isEqualTo("작성자");
+        assertThat(detail.categoryName()).isEqualTo("기술");
+        assertThat(detail.tagNames()).containsExactly("Java", "Spring");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(postRepository.findPostDetail(-1L)).isEmpty();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostRevisionDiffDto;
+import com.example.cms.dto.PostRevisionDto;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.PostRevision;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.repository.PostRevisionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostRevisionService 통합 테스트
+ */
+@DataJpaTest(properties = {"cms.posts.revisions.snapshot-interval=4", "cms.posts.revisions.max-per-post=6"})
+@Import(PostRevisionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("PostRevisionService 테스트")
+class PostRevisionServiceTest {
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private PostRevisionRepository revisionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            author = User.builder().email("author@example.com").password("password")
+                    .name("작성자").role(UserRole.CUSTOMER).build();
+            entityManager.persist(author);
+            post = Post.builder().title("제목").content(body(0)).author(author).published(false).build();
+            entityManager.persist(post);
+        });
+    }
+
+    @Test
+    @DisplayName("주기마다 스냅샷을, 그 사이에는 델타를 저장하고 모든 리비전을 복원할 수 있어야 한다")
+    void snapshotsAndDeltas() {
+        for (int i = 0; i < 6; i++) {
+            edit("제목 " + i, body(i));
+        }
+
+        List<PostRevision> revisions = revisionRepository
+                .findByPostIdAndRevisionNumberBetweenOrderByRevisionNumber(post.getId(), 1, 6);
+        assertThat(revisions).extracting(PostRevision::isSnapshot)
+                .containsExactly(true, false, false, false, true, false);
+        assertThat(revisions.get(1).getData().length()).isLessThan(body(1).length() / 2);
+        for (int i = 0; i < 6; i++) {
+            PostRevisionDto revision = postRevisionService.getRevision(post.getId(), i + 1);
+            assertThat(revision.title()).isEqualTo("제목 " + i);
+            assertThat(revision.content()).isEqualTo(body(i));
+        }
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 새 리비전을 만들지 않아야 한다")
+    void unchanged() {
+        assertThat(postRevisionService.record(post.getId())).contains(1);
+        assertThat(postRevisionService.record(post.getId())).contains(1);
+        assertThat(postRevisionService.record(999L)).isEmpty();
+
+        assertThat(revisionRepository.countByPostId(post.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("두 리비전 사이의 차이를 조회할 수 있어야 한다")
+    void diff() {
+        edit("제목", body(0));
+        edit("새 제목", body(0).replace("문단 1 내용은", "문단 1 새로운 내용은"));
+
+        PostRevisionDiffDto diff = postRevisionService.diff(post.getId(), 1, 2);
+
+        assertThat(diff.isTitleChanged()).isTrue();
+        assertThat(diff.segments()).extracting(PostRevisionDiffDto.Segment::type)
+                .containsExactly("EQUAL", "INSERT", "EQUAL");
+        assertThat(diff.segments().get(1).text()).isEqualTo(" 새로운");
+        assertThatThrownBy(() -> postRevisionService.diff(post.getId(), 1, 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 오래된 리비전을 지우고 남은 리비전은 복원 가능해야 한다")
+    void retention() {
+        for (int i = 0; i < 10; i++) {
+            edit("제목 " + i, body(i));
+        }
+
+        List<PostRevisionDto> summaries = postRevisionService.getRevisions(post.getId());
+        assertThat(summaries).extracting(PostRevisionDto::revisionNumber).containsExactly(10, 9, 8, 7, 6, 5);
+        assertThat(summaries).allMatch(summary -> summary.content() == null);
+        assertThat(revisionRepository.findByPostIdAndRevisionNumber(post.getId(), 5).orElseThrow().isSnapshot())
+                .isTrue();
+        for (int i = 4; i < 10; i++) {
+            assertThat(postRevisionService.getRevision(post.getId(), i + 1).content()).isEqualTo(body(i));
+        }
+    }
+
+    @Test
+    @DisplayName("게시글이 삭제되면 리비전도 삭제되어야 한다")
+    void deletedWithPost() {
+        edit("제목", body(0));
+        edit("제목", body(1));
+
+        postRevisionService.onPostDeleted(new PostDeletedEvent(post.getId(), author.getId(), null, false,
+                LocalDateTime.now()));
+
+        assertThat(revisionRepository.countByPostId(post.getId())).isZero();
+    }
+
+    private void edit(String title, String content) {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Post p SET p.title = :title, p.content = :content WHERE p.id = :postId")
+                .setParameter("title", title)
+                .setParameter("content", content)
+                .setParameter("postId", post.getId())
+                .executeUpdate());
+        postRevisionService.record(post.getId());
+    }
+
+    private static String body(int version) {
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            html.append("<p>문단 ").append(i).append(" 내용은 계속 같습니다.");
+            if (i == version % 8) {
+                html.append(" 버전 ").append(version).append(" 변경.");
+            }
+            html.append("</p>");
+        }
+        return html.toString();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostViewRankDto;
+import com.example.cms.event.PostDeletedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostViewCounterService 통합 테스트
+ */
+@DataJpaTest
+@Import(PostViewCounterService.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("PostViewCounterService 테스트")
+class PostViewCounterServiceTest {
+
+    @Autowired
+    private PostViewCounterService viewCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("조회수는 메모리에 누적되고 반영 전에는 저장되지 않아야 한다")
+    void shouldAccumulateInMemory() {
+        // when
+        viewCounterService.recordView(1L);
+        viewCounterService.recordView(1L);
+
+        // then
+        assertThat(viewCounterService.getViewCount(1L)).isEqualTo(2L);
+        assertThat(storedCount(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 시 새 게시글은 INSERT, 기존 게시글은 증분 UPDATE되어야 한다")
+    void shouldFlushInsertsAndIncrements() {
+        // given
+        viewCounterService.recordView(1L);
+        viewCounterService.flush();
+
+        // when
+        viewCounterService.recordView(1L);
+        viewCounterService.recordView(1L);
+        viewCounterService.recordView(2L);
+        viewCounterService.flush();
+
+        // then
+        assertThat(storedCount(1L)).contains(3L);
+        assertThat(storedCount(2L)).contains(1L);
+    }
+
+    @Test
+    @DisplayName("동시 조회도 누락 없이 집계되어야 한다")
+    void shouldCountConcurrentViews() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    viewCounterService.recordView(7L);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        viewCounterService.flush();
+
+        // then
+        assertThat(viewCounterService.getViewCount(7L)).isEqualTo(8_000L);
+        assertThat(storedCount(7L)).contains(8_000L);
+    }
+
+    @Test
+    @DisplayName("기동 시 저장된 조회수를 적재해야 한다")
+    void shouldLoadPersistedCounts() {
+        // given
+        jdbcTemplate.update("INSERT INTO post_view_counts (post_id, view_count) VALUES (?, ?)", 10L, 500L);
+
+        // when
+        viewCounterService.load();
+        viewCounterService.recordView(10L);
+        viewCounterService.flush();
+
+        // then
+        assertThat(viewCounterService.getViewCount(10L)).isEqualTo(501L);
+        assertThat(storedCount(10L)).contains(501L);
+    }
+
+    @Test
+    @DisplayName("많이 본 게시글은 조회수 내림차순이어야 한다")
+    void shouldRankMostViewed() {
+        // given
+        for (int i = 0; i < 3; i++) viewCounterService.recordView(1L);
+        for (int i = 0; i < 5; i++) viewCounterService.recordView(2L);
+        viewCounterService.recordView(3L);
+        viewCounterService.flush();
+
+        // when
+        List<PostViewRankDto> result = viewCounterService.getMostViewed(2);
+
+        // then
+        assertThat(result).containsExactly(new PostViewRankDto(2L, 5L), new PostViewRankDto(1L, 3L));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("다른 노드가 먼저 만든 행과 충돌하면 이번 분량 전체를 되돌렸다가 다시 반영해야 한다")
+    void shouldRetryWholeBatchOnDuplicateInsert() {
+        // given
+        jdbcTemplate.update("INSERT INTO post_view_counts (post_id, view_count) VALUES (?, ?)", 20L, 100L);
+        viewCounterService.recordView(1L);
+        viewCounterService.recordView(20L);
+
+        // when
+        viewCounterService.flush();
+        viewCounterService.flush();
+
+        // then
+        assertThat(storedCount(1L)).contains(1L);
+        assertThat(storedCount(20L)).contains(101L);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 조회수도 삭제되어야 한다")
+    void shouldRemoveCountOnPostDeleted() {
+        // given
+        viewCounterService.recordView(1L);
+        viewCounterService.flush();
+
+        // when
+        viewCounterService.onPostDeleted(new PostDeletedEvent(1L, 1L, 1L, true, LocalDateTime.now()));
+
+        // then
+        assertThat(viewCounterService.getViewCount(1L)).isZero();
+        assertThat(storedCount(1L)).isEmpty();
+    }
+
+    private Optional<Long> storedCount(Long postId) {
+        return jdbcTemplate.query("SELECT view_count FROM post_view_counts WHERE post_id = ?",
+                (rs, rowNum) -> rs.getLong(1), postId).stream().findFirst();
+    }
+}
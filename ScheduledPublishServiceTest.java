@@ -0,0 +1,149 @@
+package com.example.cms.service;
+
+import com.example.cms.config.ScheduledPublishConfig;
+import com.example.cms.dto.ScheduledPublicationDto;
+import com.example.cms.entity.Post;
+import com.example.cms.entity.ScheduledPublication;
+import com.example.cms.entity.User;
+import com.example.cms.entity.UserRole;
+import com.example.cms.repository.ScheduledPublicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ScheduledPublishService 통합 테스트
+ */
+@DataJpaTest(properties = "cms.posts.scheduled-publish.tick-ms=50")
+@Import({ScheduledPublishService.class, ScheduledPublishConfig.class, DraftAutosaveService.class,
+        PostRenderService.class, PostContentRenderer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("ScheduledPublishService 테스트")
+class ScheduledPublishServiceTest {
+
+    private static final String EMAIL = "author@example.com";
+
+    @Autowired
+    private ScheduledPublishService scheduledPublishService;
+
+    @Autowired
+    private ScheduledPublicationRepository scheduledPublicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = User.builder().email(EMAIL).password("password").name("작성자")
+                    .role(UserRole.CUSTOMER).build();
+            entityManager.persist(author);
+            Post post = Post.builder().title("예약 글").content("<p>본문</p>").author(author).published(false).build();
+            entityManager.persist(post);
+            postId = post.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("예약 시각이 되면 1초 이내에 발행되고 예약이 삭제되어야 한다")
+    void publishesOnTime() throws InterruptedException {
+        LocalDateTime publishAt = LocalDateTime.now().plus(300, ChronoUnit.MILLIS);
+
+        scheduledPublishService.schedule(postId, publishAt, EMAIL, false);
+
+        assertThat(isPublished()).isFalse();
+        LocalDateTime publishedAt = awaitPublished();
+        assertThat(ChronoUnit.MILLIS.between(publishAt, publishedAt)).isLessThan(1000);
+        assertThat(scheduledPublicationRepository.existsById(postId)).isFalse();
+        assertThat(scheduledPublishService.isRegistered(postId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 예약은 한 번만 선점되어 발행되어야 한다")
+    void claimedOnce() {
+        LocalDateTime publishAt = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MILLIS);
+        scheduledPublishService.schedule(postId, publishAt, EMAIL, false);
+
+        assertThat(scheduledPublishService.publish(postId, publishAt)).isTrue();
+        assertThat(scheduledPublishService.publish(postId, publishAt)).isFalse();
+        assertThat(isPublished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("발행 시각이 바뀐 예약은 이전 시각으로 선점할 수 없어야 한다")
+    void rescheduled() {
+        LocalDateTime first = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MILLIS);
+        scheduledPublishService.schedule(postId, first, EMAIL, false);
+        ScheduledPublicationDto moved = scheduledPublishService.schedule(postId, first.plusHours(1), EMAIL, false);
+
+        assertThat(scheduledPublishService.publish(postId, first)).isFalse();
+        assertThat(isPublished()).isFalse();
+        assertThat(scheduledPublishService.getSchedule(postId)).contains(moved);
+    }
+
+    @Test
+    @DisplayName("재기동 중 지난 예약은 적재 직후 발행되어야 한다")
+    void missedWhileDown() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> scheduledPublicationRepository.save(
+                new ScheduledPublication(postId, LocalDateTime.now().minusMinutes(5), EMAIL)));
+
+        scheduledPublishService.reload();
+
+        awaitPublished();
+        assertThat(scheduledPublicationRepository.existsById(postId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("취소된 예약과 잘못된 요청은 발행되지 않아야 한다")
+    void cancelAndValidation() throws InterruptedException {
+        scheduledPublishService.schedule(postId, LocalDateTime.now().plus(200, ChronoUnit.MILLIS), EMAIL, false);
+        assertThat(scheduledPublishService.cancel(postId, EMAIL, false)).isTrue();
+        Thread.sleep(400);
+
+        assertThat(isPublished()).isFalse();
+        assertThatThrownBy(() -> scheduledPublishService.schedule(postId, LocalDateTime.now().minusMinutes(1),
+                EMAIL, false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduledPublishService.schedule(postId, LocalDateTime.now().plusHours(1),
+                "other@example.com", false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private boolean isPublished() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT published FROM posts WHERE id = ?", Boolean.class, postId));
+    }
+
+    private LocalDateTime awaitPublished() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            if (isPublished()) {
+                return LocalDateTime.now();
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("예약 발행되지 않았습니다: " + postId);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.cms.service;
+
+import com.example.cms.entity.Tag;
+import com.example.cms.repository.TagRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TagResolver 통합 테스트
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TagResolver.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("TagResolver 테스트")
+class TagResolverTest {
+
+    @Autowired
+    private TagResolver tagResolver;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tagRepository.save(new Tag("Java"));
+        tagRepository.save(new Tag("Spring"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("기존 태그는 IN 쿼리 한 번으로 해석해야 한다")
+    void shouldResolveExistingTagsInOneQuery() {
+        // when
+        Map<String, Long> result = tagResolver.resolveIds(List.of("Java", "Spring"));
+
+        // then
+        assertThat(result).containsOnlyKeys("Java", "Spring");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 태그는 한 번에 생성해야 한다")
+    void shouldCreateMissingTagsInBulk() {
+        // when
+        Map<String, Long> result = tagResolver.resolveIds(List.of("Java", "새태그1", "새태그2", "새태그3"));
+
+        // then - 조회 1회 + 다중 행 INSERT 1회 + 생성된 ID 조회 1회
+        assertThat(result.keySet()).containsExactly("Java", "새태그1", "새태그2", "새태그3");
+        assertThat(result.values()).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(tagRepository.findByName("새태그2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("이미 해석한 태그는 캐시에서 반환해야 한다")
+    void shouldServeFromCache() {
+        // given
+        tagResolver.resolveIds(List.of("Java", "Spring"));
+        statistics.clear();
+
+        // when
+        Map<String, Long> result = tagResolver.resolveIds(List.of("Spring", "Java"));
+
+        // then
+        assertThat(result.keySet()).containsExactly("Spring", "Java");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("공백/빈 이름/중복은 정리해야 한다")
+    void shouldNormalizeNames() {
+        // when
+        Map<String, Long> result = tagResolver.resolveIds(Arrays.asList(" Java ", "", null, "Java", "  "));
+
+        // then
+        assertThat(result).containsOnlyKeys("Java");
+        assertThat(tagResolver.resolveIds(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 이름은 같은 태그로 보고 처음 이름만 결과에 포함해야 한다")
+    void shouldResolveNamesDifferingOnlyInCase() {
+        // given - 운영 DB처럼 대소문자를 구분하지 않는 collation
+        jdbcTemplate.execute("ALTER TABLE tags ALTER COLUMN name SET DATA TYPE VARCHAR_IGNORECASE(255)");
+        Long javaId = tagRepository.findByName("Java").orElseThrow().getId();
+
+        // when
+        Map<String, Long> result = tagResolver.resolveIds(List.of("java", "JAVA", "spring boot", "Spring Boot"));
+
+        // then - 같은 ID가 두 번 나오면 post_tags 행이 중복됨
+        assertThat(result.keySet()).containsExactly("java", "spring boot");
+        assertThat(result).containsEntry("java", javaId);
+        assertThat(result.values()).doesNotHaveDuplicates();
+        assertThat(tagRepository.count()).isEqualTo(3);
+        assertThat(TagResolver.normalize(List.of("Java", " java ", "Spring"))).containsExactly("Java", "Spring");
+    }
+
+    @Test
+    @DisplayName("같은 새 태그를 동시에 생성해도 하나만 만들어져야 한다")
+    void shouldCreateTagOnceUnderConcurrency() throws Exception {
+        // given
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, Long>>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return tagResolver.resolveIds(List.of("동시태그", "Java"));
+            }));
+        }
+        start.countDown();
+
+        // then
+        Long tagId = null;
+        for (Future<Map<String, Long>> result : results) {
+            Long resolved = result.get(10, TimeUnit.SECONDS).get("동시태그");
+            assertThat(resolved).isNotNull();
+            if (tagId == null) {
+                tagId = resolved;
+            }
+            assertThat(resolved).isEqualTo(tagId);
+        }
+        assertThat(tagRepository.findAll()).filteredOn(tag -> tag.getName().equals("동시태그")).hasSize(1);
+        executor.shutdownNow();
+    }
+}
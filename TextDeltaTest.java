@@ -0,0 +1,68 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostRevisionDiffDto.Segment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TextDelta 단위 테스트
+ */
+@DisplayName("TextDelta 테스트")
+class TextDeltaTest {
+
+    @Test
+    @DisplayName("델타를 적용하면 수정된 본문이 복원되어야 한다")
+    void roundTrip() {
+        String from = "<p>안녕하세요 공지사항입니다.</p><p>점검은 내일 진행됩니다.</p><p>감사합니다.</p>";
+        String to = "<p>안녕하세요 긴급 공지사항입니다.</p><p>점검은 모레 진행됩니다.</p><p>감사합니다.</p><p>추가</p>";
+
+        String delta = TextDelta.encode(from, to);
+
+        assertThat(TextDelta.apply(from, delta)).isEqualTo(to);
+        assertThat(delta.length()).isLessThan(to.length());
+        assertThat(TextDelta.apply("", TextDelta.encode("", to))).isEqualTo(to);
+        assertThat(TextDelta.apply(from, TextDelta.encode(from, ""))).isEmpty();
+        assertThat(TextDelta.apply(from, TextDelta.encode(from, from))).isEqualTo(from);
+    }
+
+    @Test
+    @DisplayName("차이는 단어와 태그 단위로 계산되어야 한다")
+    void diff() {
+        List<Segment> segments = TextDelta.diff("<p>빠른 갈색 여우</p>", "<p>빠른 붉은 여우</p>");
+
+        assertThat(segments).containsExactly(
+                new Segment(Segment.EQUAL, "<p>빠른"),
+                new Segment(Segment.DELETE, " 갈색"),
+                new Segment(Segment.INSERT, " 붉은"),
+                new Segment(Segment.EQUAL, " 여우</p>"));
+    }
+
+    @Test
+    @DisplayName("편집 거리가 상한을 넘어도 델타는 정확해야 한다")
+    void largeRewrite() {
+        StringBuilder from = new StringBuilder();
+        StringBuilder to = new StringBuilder();
+        for (int i = 0; i < TextDelta.MAX_EDIT_DISTANCE; i++) {
+            from.append(" a").append(i);
+            to.append(" b").append(i);
+        }
+
+        String delta = TextDelta.encode(from.toString(), to.toString());
+
+        assertThat(TextDelta.apply(from.toString(), delta)).isEqualTo(to.toString());
+    }
+
+    @Test
+    @DisplayName("기준 본문과 맞지 않는 델타는 거부되어야 한다")
+    void mismatch() {
+        String delta = TextDelta.encode("<p>원본</p>", "<p>수정</p>");
+
+        assertThatThrownBy(() -> TextDelta.apply("<p>다른 본문입니다</p>", delta))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
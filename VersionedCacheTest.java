@@ -0,0 +1,227 @@
+package com.example.cms.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * VersionedCache 단위 테스트
+ */
+@DisplayName("VersionedCache 테스트")
+class VersionedCacheTest {
+
+    private VersionedCache<Long, String> cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VersionedCache<>(100, Duration.ofMinutes(10));
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 번 로딩한 값은 캐시에서 반환해야 한다")
+    void shouldReturnCachedValue() {
+        // when
+        cache.get(1L, id -> load("게시글 v1"));
+        Optional<String> result = cache.get(1L, id -> load("게시글 v2"));
+
+        // then
+        assertThat(result).contains("게시글 v1");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 새로 로딩해야 한다")
+    void shouldReloadAfterInvalidate() {
+        // given
+        cache.get(1L, id -> load("게시글 v1"));
+
+        // when
+        cache.invalidate(1L);
+        Optional<String> result = cache.get(1L, id -> load("게시글 v2"));
+
+        // then
+        assertThat(result).contains("게시글 v2");
+        assertThat(cache.version(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("빈 결과는 캐시하지 않아야 한다")
+    void shouldNotCacheEmptyResult() {
+        // when
+        cache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<String> result = cache.get(1L, id -> load("게시글"));
+
+        // then
+        assertThat(result).contains("게시글");
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("로딩 예외는 그대로 전달하고 캐시하지 않아야 한다")
+    void shouldPropagateLoaderException() {
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("DB 오류");
+
+        assertThat(cache.get(1L, id -> load("게시글"))).contains("게시글");
+    }
+
+    @Test
+    @DisplayName("로딩 중 Error가 발생해도 기다리던 요청에 전달하고 이후 요청은 다시 로딩해야 한다")
+    void shouldReleaseWaitersWhenLoaderThrowsError() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<Optional<String>> failing = executor.submit(() -> cache.get(1L, id -> {
+                started.countDown();
+                await(release);
+                throw new AssertionError("로딩 실패");
+            }));
+            await(started);
+            Future<Optional<String>> waiting = executor.submit(() -> cache.get(1L, id -> load("게시글")));
+            sleep(100);
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+            assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+            assertThat(executor.submit(() -> cache.get(1L, id -> load("게시글"))).get(5, TimeUnit.SECONDS))
+                    .contains("게시글");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 요청은 한 번만 로딩해야 한다 (single-flight)")
+    void shouldLoadOnceForConcurrentRequests() throws Exception {
+        // given
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<String>>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(1L, id -> {
+                    sleep(200);
+                    return load("인기 게시글");
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Optional<String>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).contains("인기 게시글");
+        }
+        assertThat(loadCount).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화되면 진행 중이던 옛 값은 이후 조회에 쓰이지 않아야 한다")
+    void shouldIgnoreInFlightLoadAfterInvalidate() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        Future<Optional<String>> staleLoad = executor.submit(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(invalidated);
+            return load("수정 전");
+        }));
+        loading.await();
+
+        // when
+        cache.invalidate(1L);
+        invalidated.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(cache.get(1L, id -> load("수정 후"))).contains("수정 후");
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("버전 기록은 TTL과 로딩 여유 시간이 지나면 지워지고, 옛 값은 다시 읽히지 않아야 한다")
+    void shouldForgetVersionsAfterTimeToLive() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        VersionedCache<Long, String> ticking = new VersionedCache<>(100, Duration.ofMinutes(10), nanos::get);
+        ticking.get(1L, id -> load("수정 전"));
+        for (long id = 1; id <= 50; id++) {
+            ticking.invalidate(id);
+        }
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(10).plus(VersionedCache.LOAD_GRACE).plusSeconds(1).toNanos());
+
+        // then
+        assertThat(ticking.trackedVersions()).isZero();
+        assertThat(ticking.version(1L)).isZero();
+        assertThat(ticking.get(1L, id -> load("수정 후"))).contains("수정 후");
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 모든 항목을 새로 로딩해야 한다")
+    void shouldReloadEverythingAfterInvalidateAll() {
+        // given
+        cache.get(1L, id -> load("게시글 v1"));
+        cache.invalidate(2L);
+
+        // when
+        cache.invalidateAll();
+
+        // then
+        assertThat(cache.get(1L, id -> load("게시글 v2"))).contains("게시글 v2");
+        assertThat(cache.trackedVersions()).isZero();
+    }
+
+    private Optional<String> load(String value) {
+        loadCount.incrementAndGet();
+        return Optional.of(value);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
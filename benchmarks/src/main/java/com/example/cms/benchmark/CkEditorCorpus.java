@@ -0,0 +1,153 @@
+package com.example.cms.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 CKEditor HTML 코퍼스 생성기
+ * 실제 게시글과 비슷한 마크업(문단, 강조, 목록, 링크, 이미지, 인용, 표)을 고정 시드로 생성하여
+ * 실행마다 동일한 입력을 보장한다.
+ */
+public final class CkEditorCorpus {
+
+    /**
+     * 코퍼스 언어
+     */
+    public enum Language {
+        KO, EN
+    }
+
+    /**
+     * 코퍼스 크기 (대략적인 HTML 문자 수)
+     */
+    public enum Size {
+        SMALL(1_000),
+        MEDIUM(16_000),
+        LARGE(128_000);
+
+        private final int targetLength;
+
+        Size(int targetLength) {
+            this.targetLength = targetLength;
+        }
+
+        public int getTargetLength() {
+            return targetLength;
+        }
+    }
+
+    private static final long SEED = 20240315L;
+
+    private static final List<String> KO_SENTENCES = List.of(
+            "Spring Boot는 설정을 간소화하고 개발 생산성을 높여줍니다.",
+            "이번 업데이트에서는 고객 문의 처리 속도가 크게 개선되었습니다.",
+            "많은 개발자들이 Java를 사용하여 엔터프라이즈 애플리케이션을 개발하고 있습니다.",
+            "댓글 기능과 실시간 상담 채팅을 함께 사용하면 응대 시간이 줄어듭니다.",
+            "데이터베이스 인덱스를 적절히 설계하면 검색 성능이 향상됩니다.",
+            "관리자 대시보드에서 전체 사용자와 게시글 통계를 확인할 수 있습니다.",
+            "자세한 내용은 아래 첨부된 이미지와 표를 참고해 주세요.",
+            "고객 관리 시스템의 알림 기능은 WebSocket을 통해 즉시 전달됩니다."
+    );
+
+    private static final List<String> EN_SENTENCES = List.of(
+            "Spring Boot simplifies configuration and improves developer productivity.",
+            "This release significantly improves the response time for customer inquiries.",
+            "Many developers build enterprise applications with Java every day.",
+            "Combining comments with real-time support chat shortens the time to resolution.",
+            "A well designed database index makes keyword search much faster.",
+            "Administrators can review user and post statistics on the dashboard.",
+            "Please refer to the attached image and the table below for details.",
+            "Notifications in the customer management system are delivered instantly over WebSocket."
+    );
+
+    private static final List<String> KO_KEYWORDS = List.of("Java", "검색", "고객", "Spring Boot");
+    private static final List<String> EN_KEYWORDS = List.of("Java", "search", "customer", "Spring Boot");
+
+    private CkEditorCorpus() {
+    }
+
+    /**
+     * 지정한 언어와 크기의 CKEditor HTML 문서 생성
+     */
+    public static String html(Language language, Size size) {
+        Random random = new Random(SEED + language.ordinal() * 31L + size.ordinal());
+        List<String> sentences = sentences(language);
+        StringBuilder html = new StringBuilder(size.getTargetLength() + 512);
+
+        int block = 0;
+        while (html.length() < size.getTargetLength()) {
+            switch (block++ % 6) {
+                case 0, 3 -> appendParagraph(html, sentences, random);
+                case 1 -> appendList(html, sentences, random);
+                case 2 -> appendImage(html, block);
+                case 4 -> appendQuote(html, sentences, random);
+                default -> appendTable(html, sentences, random);
+            }
+        }
+        return html.toString();
+    }
+
+    /**
+     * 언어별 대표 검색 키워드
+     */
+    public static List<String> keywords(Language language) {
+        return language == Language.KO ? KO_KEYWORDS : EN_KEYWORDS;
+    }
+
+    private static List<String> sentences(Language language) {
+        return language == Language.KO ? KO_SENTENCES : EN_SENTENCES;
+    }
+
+    private static String pick(List<String> sentences, Random random) {
+        return sentences.get(random.nextInt(sentences.size()));
+    }
+
+    private static void appendParagraph(StringBuilder html, List<String> sentences, Random random) {
+        html.append("<p>");
+        int count = 2 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            String sentence = pick(sentences, random);
+            if (i == 1) {
+                html.append("<strong>").append(sentence).append("</strong>");
+            } else if (i == 2) {
+                html.append("<a href=\"https://example.com/posts/").append(random.nextInt(10_000))
+                        .append("\">").append(sentence).append("</a>");
+            } else {
+                html.append(sentence);
+            }
+            html.append(' ');
+        }
+        html.append("</p>");
+    }
+
+    private static void appendList(StringBuilder html, List<String> sentences, Random random) {
+        html.append("<ul>");
+        int count = 3 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            html.append("<li>").append(pick(sentences, random)).append("</li>");
+        }
+        html.append("</ul>");
+    }
+
+    private static void appendImage(StringBuilder html, int index) {
+        html.append("<figure class=\"image\"><img src=\"/uploads/2024/03/image-").append(index)
+                .append(".png\" alt=\"image-").append(index).append("\" width=\"640\" height=\"360\">")
+                .append("<figcaption>image-").append(index).append("</figcaption></figure>");
+    }
+
+    private static void appendQuote(StringBuilder html, List<String> sentences, Random random) {
+        html.append("<blockquote><p><i>").append(pick(sentences, random)).append("</i></p></blockquote>");
+    }
+
+    private static void appendTable(StringBuilder html, List<String> sentences, Random random) {
+        html.append("<figure class=\"table\"><table><tbody>");
+        for (int row = 0; row < 3; row++) {
+            html.append("<tr>");
+            for (int col = 0; col < 2; col++) {
+                html.append("<td>").append(pick(sentences, random)).append("</td>");
+            }
+            html.append("</tr>");
+        }
+        html.append("</tbody></table></figure>");
+    }
+}
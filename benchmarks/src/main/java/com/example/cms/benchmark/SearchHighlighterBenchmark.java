@@ -0,0 +1,82 @@
+package com.example.cms.benchmark;
+
+import com.example.cms.util.SearchHighlighter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchHighlighter 처리량 벤치마크
+ * 검색 결과 화면에서 게시글마다 호출되는 하이라이트/발췌/HTML 제거 경로를
+ * 한국어·영어 CKEditor 코퍼스 크기별로 측정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SearchHighlighterBenchmark {
+
+    private static final int ABBREVIATE_LENGTH = 200;
+
+    @Param({"KO", "EN"})
+    private CkEditorCorpus.Language language;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private CkEditorCorpus.Size size;
+
+    private SearchHighlighter searchHighlighter;
+    private String html;
+    private String plainText;
+    private String keyword;
+    private String[] keywords;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        searchHighlighter = new SearchHighlighter();
+        html = CkEditorCorpus.html(language, size);
+        plainText = searchHighlighter.stripHtml(html);
+
+        List<String> corpusKeywords = CkEditorCorpus.keywords(language);
+        keyword = corpusKeywords.get(0);
+        keywords = corpusKeywords.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public String highlightKeyword() {
+        return searchHighlighter.highlightKeyword(plainText, keyword);
+    }
+
+    @Benchmark
+    public String highlightMultipleKeywords() {
+        return searchHighlighter.highlightMultipleKeywords(plainText, keywords);
+    }
+
+    @Benchmark
+    public String createHighlightedExcerpt() {
+        return searchHighlighter.createHighlightedExcerpt(plainText, keyword);
+    }
+
+    @Benchmark
+    public String stripHtml() {
+        return searchHighlighter.stripHtml(html);
+    }
+
+    @Benchmark
+    public String abbreviateText() {
+        return searchHighlighter.abbreviateText(plainText, ABBREVIATE_LENGTH);
+    }
+}
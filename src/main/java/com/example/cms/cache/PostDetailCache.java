@@ -0,0 +1,60 @@
+package com.example.cms.cache;
+
+import com.example.cms.dto.PostDetailDto;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import com.example.cms.event.PostUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세(/posts/{id}) 캐시
+ * PostService의 상세 조회(postRepository.findPostDetail)를 감싸는 읽기 캐시이며,
+ * 수정/삭제/발행/발행 취소가 커밋되면 해당 게시글 항목을 무효화한다.
+ * 캐시된 값은 여러 요청 스레드가 공유하므로 영속성 컨텍스트에 묶인 엔티티가 아닌 불변 DTO만 저장한다.
+ */
+@Component
+public class PostDetailCache {
+
+    private final VersionedCache<Long, PostDetailDto> cache;
+
+    public PostDetailCache(@Value("${cms.cache.post-detail.maximum-size:10000}") long maximumSize,
+                           @Value("${cms.cache.post-detail.ttl:PT10M}") Duration timeToLive) {
+        this.cache = new VersionedCache<>(maximumSize, timeToLive);
+    }
+
+    /**
+     * 게시글 상세 조회 (캐시에 없으면 loader로 로딩)
+     */
+    public Optional<PostDetailDto> get(Long postId, Function<Long, Optional<PostDetailDto>> loader) {
+        return cache.get(postId, loader);
+    }
+
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    VersionedCache<Long, PostDetailDto> getCache() {
+        return cache;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        evict(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostPublicationChanged(PostPublicationChangedEvent event) {
+        evict(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        evict(event.postId());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.cms.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 버전 키 기반 읽기 캐시 (노드별 힙 저장소)
+ * <p>
+ * 저장소는 Caffeine(W-TinyLFU 축출)이며 실제 키는 (id, 버전)이다.
+ * 무효화는 버전만 올리므로 진행 중인 로딩이 끝나도 옛 버전 키에 저장될 뿐 다시 읽히지 않는다.
+ * 같은 키를 동시에 요청하면 하나의 로딩 결과를 함께 기다린다(single-flight). 만료된 인기 항목도
+ * 데이터베이스 조회는 한 번만 일어난다.
+ * <p>
+ * 버전은 무효화된 id만 기록하며, 항목 TTL에 로딩 최대 시간(LOAD_GRACE)을 더한 시간이 지나면 지운다.
+ * 그때쯤이면 옛 버전 키에 늦게 저장된 값도 이미 만료되었으므로 버전이 0으로 돌아가도 옛 값이 다시 읽히지 않는다.
+ * 전체 무효화는 세대(epoch)를 올려 기록된 버전 없이 모든 키를 바꾼다.
+ */
+public class VersionedCache<K, V> {
+
+    /** 로딩 한 번에 걸릴 수 있는 최대 시간 (버전 기록 보존 여유) */
+    static final Duration LOAD_GRACE = Duration.ofMinutes(1);
+
+    private final AsyncCache<VersionedKey<K>, Optional<V>> cache;
+    private final Cache<K, Long> versions;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public VersionedCache(long maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, Ticker.systemTicker());
+    }
+
+    VersionedCache(long maximumSize, Duration timeToLive, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive.plus(LOAD_GRACE))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 로딩 (빈 결과와 예외는 캐시하지 않음)
+     * 로딩은 처음 요청한 스레드에서 실행되므로 호출자의 트랜잭션/보안 컨텍스트가 그대로 적용된다.
+     */
+    public Optional<V> get(K id, Function<K, Optional<V>> loader) {
+        VersionedKey<K> key = key(id);
+        CompletableFuture<Optional<V>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            Optional<V> value = loader.apply(id);
+            loading.complete(value);
+            if (value.isEmpty()) {
+                cache.asMap().remove(key, loading);
+            }
+            return value;
+        } catch (Throwable e) {
+            // Error도 완료 처리해야 같은 키를 기다리는 요청이 무한 대기하지 않음
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Optional<V> join(CompletableFuture<Optional<V>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 항목 무효화 (버전 증가 후 옛 항목 제거)
+     */
+    public void invalidate(K id) {
+        VersionedKey<K> previous = key(id);
+        versions.asMap().merge(id, 1L, Long::sum);
+        cache.synchronous().invalidate(previous);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        versions.invalidateAll();
+        cache.synchronous().invalidateAll();
+    }
+
+    public long version(K id) {
+        Long version = versions.getIfPresent(id);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * 버전을 기록 중인 id 수
+     */
+    long trackedVersions() {
+        versions.cleanUp();
+        return versions.estimatedSize();
+    }
+
+    private VersionedKey<K> key(K id) {
+        return new VersionedKey<>(id, epoch.get(), version(id));
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    record VersionedKey<K>(K id, long epoch, long version) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.cms.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 관리자 일괄 작업 실행기 설정
+ * 대량 변경/가져오기 작업이 요청 스레드와 커넥션 풀을 오래 점유하지 않도록 전용 스레드에서 하나씩 실행한다.
+ */
+@Configuration
+public class BulkJobExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService bulkJobExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bulk-job-");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    /**
+     * 대량 가져오기 검증 단계용 스레드 풀 (CPU 코어 수)
+     * 파싱, 검증, 비밀번호 암호화처럼 CPU를 쓰는 작업을 묶음 단위로 나눠 동시에 처리한다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService importValidationExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("import-validation-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threadFactory);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.cms.config;
+
+import com.example.cms.service.ContentVersionService;
+import com.example.cms.service.PostViewCounterService;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 조건부 GET 설정
+ * 다시 방문한 독자와 주기적으로 조회하는 클라이언트가 바뀌지 않은 게시글/댓글/채팅 기록을 다시 받지 않도록 한다.
+ */
+@Configuration
+public class ConditionalGetConfig implements WebMvcConfigurer {
+
+    private final ContentVersionService contentVersionService;
+    private final PostViewCounterService postViewCounterService;
+
+    public ConditionalGetConfig(ContentVersionService contentVersionService,
+                                PostViewCounterService postViewCounterService) {
+        this.contentVersionService = contentVersionService;
+        this.postViewCounterService = postViewCounterService;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(contentVersionService, postViewCounterService))
+                .addPathPatterns("/posts/*", "/comments/post/*", "/api/chat/rooms/*/history");
+    }
+}
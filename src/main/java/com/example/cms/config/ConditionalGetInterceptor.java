@@ -0,0 +1,117 @@
+package com.example.cms.config;
+
+import com.example.cms.service.ContentVersionService;
+import com.example.cms.service.ContentVersionService.ContentVersion;
+import com.example.cms.service.PostViewCounterService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 화면, 댓글 목록, 채팅 기록의 조건부 GET 처리
+ * 컨트롤러 실행 전에 콘텐츠 버전으로 ETag를 계산하고, 클라이언트가 가진 버전과 같으면 렌더링/직렬화 없이 304로 응답한다.
+ * 응답 내용이 보는 사람(수정 버튼, CSRF 토큰 등)과 쿼리 파라미터에 따라 달라지므로 ETag에 함께 반영한다.
+ * 버전 조회가 접근 권한(임시저장 글의 작성자, 채팅방 참여자)도 함께 확인하며, 볼 수 없으면 304 없이 컨트롤러에 맡긴다.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final List<Resource> resources;
+
+    public ConditionalGetInterceptor(ContentVersionService contentVersionService,
+                                     PostViewCounterService postViewCounterService) {
+        // 304 응답도 게시글을 다시 본 것이므로 조회수는 그대로 기록
+        this.resources = List.of(
+                new Resource("post", "/posts/{id}", true,
+                        contentVersionService::postVersion, postViewCounterService::recordView),
+                new Resource("comments", "/comments/post/{id}", false,
+                        contentVersionService::commentsVersion, postId -> { }),
+                new Resource("chat-history", "/api/chat/rooms/{id}/history", false,
+                        contentVersionService::chatHistoryVersion, chatRoomId -> { }));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication()
+                : PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Resource resource : resources) {
+            PathPattern.PathMatchInfo match = resource.pattern().matchAndExtract(path);
+            if (match == null) {
+                continue;
+            }
+            Long id;
+            try {
+                id = Long.valueOf(match.getUriVariables().get("id"));
+            } catch (NumberFormatException e) {
+                return true;
+            }
+            Principal principal = request.getUserPrincipal();
+            Optional<ContentVersion> version = resource.versionLoader()
+                    .apply(id, principal != null ? principal.getName() : null);
+            if (version.isEmpty()) {
+                return true;
+            }
+            String etag = "W/\"" + digest(resource, version.get(), request) + "\"";
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            if (new ServletWebRequest(request, response).checkNotModified(etag, version.get().lastModified())) {
+                resource.onNotModified().accept(id);
+                return false;
+            }
+            return true;
+        }
+        return true;
+    }
+
+    private static String digest(Resource resource, ContentVersion version, HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        StringBuilder key = new StringBuilder(resource.name())
+                .append('|').append(version.tag())
+                .append('|').append(principal != null ? principal.getName() : "")
+                .append('|').append(request.getQueryString() != null ? request.getQueryString() : "");
+        if (resource.sessionScoped()) {
+            HttpSession session = request.getSession(false);
+            key.append('|').append(session != null ? session.getId() : "");
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 조건부 GET 대상
+     *
+     * @param sessionScoped 화면에 세션별 값(CSRF 토큰)이 들어가서 세션이 바뀌면 다시 받아야 하는지
+     */
+    private record Resource(String name, PathPattern pattern, boolean sessionScoped,
+                            BiFunction<Long, String, Optional<ContentVersion>> versionLoader,
+                            Consumer<Long> onNotModified) {
+
+        Resource(String name, String pattern, boolean sessionScoped,
+                 BiFunction<Long, String, Optional<ContentVersion>> versionLoader, Consumer<Long> onNotModified) {
+            this(name, PathPatternParser.defaultInstance.parse(pattern), sessionScoped, versionLoader, onNotModified);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cms.config;
+
+import com.example.cms.service.DashboardMetric;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 대시보드 쿼리 실행기 설정
+ * 서로 독립적인 대시보드 COUNT 쿼리를 동시에 실행하기 위한 전용 스레드 풀을 등록한다.
+ */
+@Configuration
+public class DashboardExecutorConfig {
+
+    /**
+     * 항목 수만큼의 데몬 스레드 풀
+     * Java 21 이상으로 올리면 Executors.newVirtualThreadPerTaskExecutor()로 교체할 수 있다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService dashboardQueryExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dashboard-query-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(DashboardMetric.values().length, threadFactory);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.cms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 변환 실행기 설정
+ * 디코딩/축소는 CPU를 쓰므로 코어 수만큼의 고정 스레드에서 실행하고, 대기열 크기를 제한한다.
+ * 대기열이 가득 차면 작업은 데이터베이스에 대기 상태로 남았다가 주기적인 조회로 다시 넘겨진다.
+ */
+@Configuration
+public class ImageVariantConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor imageVariantExecutor(@Value("${cms.images.queue-capacity:100}") int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("image-variant-");
+        threadFactory.setDaemon(true);
+        int workers = Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.cms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 예약 발행 실행기 설정
+ * 타이밍 휠 시계를 진행하는 전용 스레드와 만료된 예약을 발행하는 스레드 풀을 분리해,
+ * 발행 쿼리가 느리거나 한꺼번에 몰려도 다음 칸의 만료 처리가 밀리지 않도록 한다.
+ */
+@Configuration
+public class ScheduledPublishConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService publishTickExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("publish-tick-");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService publishExecutor(@Value("${cms.posts.scheduled-publish.workers:2}") int workers) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("publish-worker-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(workers, threadFactory);
+    }
+}
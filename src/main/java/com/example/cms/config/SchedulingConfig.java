@@ -0,0 +1,13 @@
+package com.example.cms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 대시보드 카운터 보정 등 주기 작업(@Scheduled)을 활성화한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
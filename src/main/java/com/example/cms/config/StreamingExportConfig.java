@@ -0,0 +1,26 @@
+package com.example.cms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 데이터 내보내기 실행기 설정
+ * 내보내기 응답만 이 전용 스레드 풀에서 실행해 동시에 실행되는 내보내기 수를 제한한다.
+ * 애플리케이션 전체의 MVC 비동기 실행기와 제한 시간은 건드리지 않으며, 내보내기 제한 시간은 컨트롤러가 요청마다 지정한다.
+ */
+@Configuration
+public class StreamingExportConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor exportTaskExecutor(@Value("${cms.export.max-concurrent:4}") int maxConcurrent) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("export-");
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(maxConcurrent * 4);
+        executor.setDaemon(true);
+        return executor;
+    }
+}
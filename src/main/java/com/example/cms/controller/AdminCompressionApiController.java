@@ -0,0 +1,92 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.CompressionJobDto;
+import com.example.cms.entity.CompressionDictionary;
+import com.example.cms.service.CompressionTarget;
+import com.example.cms.service.ContentCompressionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 관리자 본문 압축 API 컨트롤러
+ * 압축 사전을 학습하고, 기존 행을 압축(또는 복원)하는 전환 작업을 등록/조회한다.
+ */
+@RestController
+@RequestMapping("/admin/api/compression")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCompressionApiController {
+
+    private final ContentCompressionService compressionService;
+
+    public AdminCompressionApiController(ContentCompressionService compressionService) {
+        this.compressionService = compressionService;
+    }
+
+    /**
+     * 최근 게시글 본문으로 새 압축 사전 학습
+     */
+    @PostMapping("/dictionaries")
+    public ResponseEntity<Map<String, Object>> trainDictionary(
+            @RequestParam(defaultValue = "2000") int sampleSize) {
+        CompressionDictionary dictionary = compressionService.trainDictionary(sampleSize);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("dictionaryId", dictionary.getId());
+        response.put("size", dictionary.getData().length);
+        response.put("sampleCount", dictionary.getSampleCount());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 압축 전환 작업 등록
+     */
+    @PostMapping("/migrations")
+    public ResponseEntity<Map<String, Object>> migrate(@RequestParam CompressionTarget target,
+                                                       @RequestParam(defaultValue = "true") boolean compress) {
+        CompressionJobDto job = compressionService.submit(target, compress);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("job", job);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 압축 전환 작업 진행 상황 조회
+     */
+    @GetMapping("/migrations/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String jobId) {
+        Map<String, Object> response = new HashMap<>();
+        return compressionService.getJob(jobId)
+                .map(job -> {
+                    response.put("success", true);
+                    response.put("job", job);
+                    return ResponseEntity.ok(response);
+                })
+                .orElseGet(() -> {
+                    response.put("success", false);
+                    response.put("message", "작업을 찾을 수 없습니다.");
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                });
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+}
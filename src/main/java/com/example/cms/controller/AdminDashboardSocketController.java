@@ -0,0 +1,28 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.DashboardUpdateDto;
+import com.example.cms.service.DashboardPushService;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 관리자 대시보드 WebSocket 컨트롤러
+ * 클라이언트는 /app/admin/dashboard를 구독해 전체 값을 한 번 받고,
+ * 이후 /topic/admin/dashboard로 변경분을 받는다.
+ */
+@Controller
+public class AdminDashboardSocketController {
+
+    private final DashboardPushService dashboardPushService;
+
+    public AdminDashboardSocketController(DashboardPushService dashboardPushService) {
+        this.dashboardPushService = dashboardPushService;
+    }
+
+    @SubscribeMapping("/admin/dashboard")
+    @PreAuthorize("hasRole('ADMIN')")
+    public DashboardUpdateDto subscribeDashboard() {
+        return dashboardPushService.getFullUpdate();
+    }
+}
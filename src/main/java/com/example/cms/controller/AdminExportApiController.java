@@ -0,0 +1,74 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.ExportFilter;
+import com.example.cms.service.DataExportService;
+import com.example.cms.service.ExportFormat;
+import com.example.cms.service.ExportKind;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 데이터 내보내기 API 컨트롤러
+ * 게시글, 댓글, 채팅 기록을 NDJSON/CSV(선택적으로 gzip)로 스트리밍 다운로드한다.
+ * 응답은 내보내기 전용 실행기에서 내보내기 전용 제한 시간(cms.export.timeout-ms)으로 실행된다.
+ */
+@RestController
+@RequestMapping("/admin/api/export")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportApiController {
+
+    private final DataExportService dataExportService;
+    private final AsyncTaskExecutor exportTaskExecutor;
+    private final long timeoutMillis;
+
+    public AdminExportApiController(DataExportService dataExportService,
+                                    @Qualifier("exportTaskExecutor") AsyncTaskExecutor exportTaskExecutor,
+                                    @Value("${cms.export.timeout-ms:3600000}") long timeoutMillis) {
+        this.dataExportService = dataExportService;
+        this.exportTaskExecutor = exportTaskExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 데이터 내보내기 (응답 본문은 조회와 동시에 스트리밍됨)
+     */
+    @GetMapping
+    public WebAsyncTask<Void> export(
+            @RequestParam ExportKind kind,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long postId,
+            @RequestParam(required = false) Long chatRoomId,
+            @RequestParam(required = false) Boolean published,
+            HttpServletResponse response) {
+
+        ExportFilter filter = new ExportFilter(from, to, postId, chatRoomId, published);
+        String fileName = kind.getFileName() + "-" + LocalDate.now() + "." + format.getExtension()
+                + (gzip ? ".gz" : "");
+        String contentType = gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8";
+
+        return new WebAsyncTask<>(timeoutMillis, exportTaskExecutor, () -> {
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(fileName).build().toString());
+            dataExportService.export(kind, format, filter, gzip, response.getOutputStream());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.ImportJobDto;
+import com.example.cms.service.BulkImportService;
+import com.example.cms.service.ImportFormat;
+import com.example.cms.service.ImportKind;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 관리자 대량 가져오기 API 컨트롤러
+ * JSONL/CSV 파일로 사용자, 게시글, 댓글을 가져오고 진행 상황 조회와 재개를 제공한다.
+ */
+@RestController
+@RequestMapping("/admin/api/import")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminImportApiController {
+
+    private final BulkImportService bulkImportService;
+
+    public AdminImportApiController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    /**
+     * 가져오기 시작
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> start(@RequestParam ImportKind kind,
+                                                     @RequestParam ImportFormat format,
+                                                     @RequestParam MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("가져올 파일을 선택해 주세요.");
+        }
+        ImportJobDto job;
+        try (InputStream input = file.getInputStream()) {
+            job = bulkImportService.start(kind, format, input, file.getOriginalFilename());
+        }
+        return accepted(job);
+    }
+
+    /**
+     * 실패/중단된 가져오기 재개
+     */
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<Map<String, Object>> resume(@PathVariable String jobId) {
+        return accepted(bulkImportService.resume(jobId));
+    }
+
+    /**
+     * 가져오기 진행 상황 조회
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String jobId) {
+        Map<String, Object> response = new HashMap<>();
+        return bulkImportService.getJob(jobId)
+                .map(job -> {
+                    response.put("success", true);
+                    response.put("job", job);
+                    return ResponseEntity.ok(response);
+                })
+                .orElseGet(() -> {
+                    response.put("success", false);
+                    response.put("message", "가져오기 작업을 찾을 수 없습니다.");
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                });
+    }
+
+    private ResponseEntity<Map<String, Object>> accepted(ImportJobDto job) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("job", job);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+}
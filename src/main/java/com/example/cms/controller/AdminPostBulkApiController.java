@@ -0,0 +1,74 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.PostBulkJobDto;
+import com.example.cms.dto.PostBulkRequest;
+import com.example.cms.service.PostBulkService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 관리자 게시글 일괄 관리 API 컨트롤러
+ * 일괄 발행/발행 취소/카테고리 변경/삭제 작업을 등록하고 진행 상황을 조회한다.
+ */
+@RestController
+@RequestMapping("/admin/api/posts/bulk")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminPostBulkApiController {
+
+    private final PostBulkService postBulkService;
+
+    public AdminPostBulkApiController(PostBulkService postBulkService) {
+        this.postBulkService = postBulkService;
+    }
+
+    /**
+     * 일괄 작업 등록
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> submit(@RequestBody PostBulkRequest request) {
+        PostBulkJobDto job = postBulkService.submit(request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("job", job);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 일괄 작업 진행 상황 조회
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String jobId) {
+        Map<String, Object> response = new HashMap<>();
+        return postBulkService.getJob(jobId)
+                .map(job -> {
+                    response.put("success", true);
+                    response.put("job", job);
+                    return ResponseEntity.ok(response);
+                })
+                .orElseGet(() -> {
+                    response.put("success", false);
+                    response.put("message", "작업을 찾을 수 없습니다.");
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                });
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+}
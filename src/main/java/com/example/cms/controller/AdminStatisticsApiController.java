@@ -0,0 +1,64 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.RollupPointDto;
+import com.example.cms.entity.RollupGranularity;
+import com.example.cms.entity.RollupMetric;
+import com.example.cms.service.ActivityRollupService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 통계 API 컨트롤러
+ * 대시보드 추이 차트 데이터를 제공한다.
+ */
+@RestController
+@RequestMapping("/admin/api/statistics")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminStatisticsApiController {
+
+    private final ActivityRollupService activityRollupService;
+
+    public AdminStatisticsApiController(ActivityRollupService activityRollupService) {
+        this.activityRollupService = activityRollupService;
+    }
+
+    /**
+     * 항목별 추이 조회
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<Map<String, Object>> getTrend(
+            @RequestParam RollupMetric metric,
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        List<RollupPointDto> points = activityRollupService.getSeries(metric, granularity, from, to);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("metric", metric);
+        response.put("metricName", metric.getDisplayName());
+        response.put("granularity", granularity);
+        response.put("points", points);
+        return ResponseEntity.ok(response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+}
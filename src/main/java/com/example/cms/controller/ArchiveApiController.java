@@ -0,0 +1,80 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.PostSummaryDto;
+import com.example.cms.service.PostArchiveService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 월별 게시글 보관함 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveApiController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PostArchiveService postArchiveService;
+
+    public ArchiveApiController(PostArchiveService postArchiveService) {
+        this.postArchiveService = postArchiveService;
+    }
+
+    /**
+     * 게시글이 있는 월 목록과 월별 게시글 수
+     */
+    @GetMapping("/months")
+    public ResponseEntity<Map<String, Object>> getMonths(@RequestParam(required = false) Long categoryId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("months", postArchiveService.getMonths(categoryId));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 월별 게시글 목록
+     */
+    @GetMapping("/{year}/{month}")
+    public ResponseEntity<Map<String, Object>> getPosts(@PathVariable int year,
+                                                        @PathVariable int month,
+                                                        @RequestParam(required = false) Long categoryId,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "10") int size) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 연월입니다: " + year + "-" + month);
+        }
+        Page<PostSummaryDto> posts = postArchiveService.getPosts(yearMonth, categoryId,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("posts", posts.getContent());
+        response.put("page", posts.getNumber());
+        response.put("totalPages", posts.getTotalPages());
+        response.put("totalCount", posts.getTotalElements());
+        return ResponseEntity.ok(response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+}
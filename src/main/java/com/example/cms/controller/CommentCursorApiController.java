@@ -0,0 +1,110 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.CommentSliceDto;
+import com.example.cms.service.CommentCursorService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 커서 기반 댓글 API 컨트롤러 ("더 보기"와 새 댓글 조회)
+ * 임시저장 글의 댓글은 작성자와 관리자만 조회할 수 있다.
+ */
+@RestController
+@RequestMapping("/api/comments")
+public class CommentCursorApiController {
+
+    private final CommentCursorService commentCursorService;
+
+    public CommentCursorApiController(CommentCursorService commentCursorService) {
+        this.commentCursorService = commentCursorService;
+    }
+
+    /**
+     * 게시글의 최상위 댓글 (첫 묶음에는 새 댓글 조회를 시작할 latestCursor 포함)
+     */
+    @GetMapping("/post/{postId}")
+    public ResponseEntity<Map<String, Object>> getComments(@PathVariable Long postId,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int size,
+                                                           Authentication authentication) {
+        if (!commentCursorService.canView(postId, email(authentication), isAdmin(authentication))) {
+            return forbidden();
+        }
+        Map<String, Object> response = toResponse(commentCursorService.getComments(postId, cursor, size));
+        if (cursor == null || cursor.isBlank()) {
+            response.put("latestCursor", commentCursorService.latestCursor(postId).orElse(null));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 커서 이후 새로 달린 댓글과 답글 (커서 앞의 짧은 구간을 다시 포함하므로 클라이언트가 ID로 중복 제거)
+     */
+    @GetMapping("/post/{postId}/since")
+    public ResponseEntity<Map<String, Object>> getCommentsSince(@PathVariable Long postId,
+                                                                @RequestParam String cursor,
+                                                                @RequestParam(defaultValue = "50") int size,
+                                                                Authentication authentication) {
+        if (!commentCursorService.canView(postId, email(authentication), isAdmin(authentication))) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(toResponse(commentCursorService.getCommentsSince(postId, cursor, size)));
+    }
+
+    /**
+     * 댓글의 답글
+     */
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<Map<String, Object>> getReplies(@PathVariable Long commentId,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          Authentication authentication) {
+        if (!commentCursorService.canViewReplies(commentId, email(authentication), isAdmin(authentication))) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(toResponse(commentCursorService.getReplies(commentId, cursor, size)));
+    }
+
+    private static Map<String, Object> toResponse(CommentSliceDto slice) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("comments", slice.comments());
+        response.put("nextCursor", slice.nextCursor());
+        response.put("hasMore", slice.hasMore());
+        return response;
+    }
+
+    private static ResponseEntity<Map<String, Object>> forbidden() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "댓글을 조회할 권한이 없습니다.");
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
+    private static String email(Authentication authentication) {
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.DraftPatchRequest;
+import com.example.cms.dto.DraftStateDto;
+import com.example.cms.service.DraftAutosaveService;
+import com.example.cms.service.DraftConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게시글 임시저장 API 컨트롤러
+ * 편집 화면은 세션을 연 뒤 변경분을 PATCH로 보내고, 저장/종료 시 남은 변경분을 반영한다.
+ */
+@RestController
+@RequestMapping("/api/drafts/{postId}")
+@PreAuthorize("isAuthenticated()")
+public class DraftAutosaveApiController {
+
+    private final DraftAutosaveService draftAutosaveService;
+
+    public DraftAutosaveApiController(DraftAutosaveService draftAutosaveService) {
+        this.draftAutosaveService = draftAutosaveService;
+    }
+
+    /**
+     * 편집 세션 시작 (현재 제목/본문과 버전 반환)
+     */
+    @PostMapping("/session")
+    public ResponseEntity<Map<String, Object>> open(@PathVariable Long postId, Authentication authentication) {
+        return ok(draftAutosaveService.open(postId, authentication.getName()));
+    }
+
+    /**
+     * 변경분 반영
+     */
+    @PatchMapping
+    public ResponseEntity<Map<String, Object>> patch(@PathVariable Long postId,
+                                                     @RequestBody DraftPatchRequest request,
+                                                     Authentication authentication) {
+        return ok(draftAutosaveService.patch(postId, authentication.getName(), request));
+    }
+
+    /**
+     * 즉시 저장
+     */
+    @PostMapping("/save")
+    public ResponseEntity<Map<String, Object>> save(@PathVariable Long postId, Authentication authentication) {
+        return ok(draftAutosaveService.save(postId, authentication.getName()));
+    }
+
+    /**
+     * 편집 세션 종료
+     */
+    @DeleteMapping("/session")
+    public ResponseEntity<Map<String, Object>> close(@PathVariable Long postId, Authentication authentication) {
+        draftAutosaveService.close(postId, authentication.getName());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    @ExceptionHandler(DraftConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(DraftConflictException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        response.put("draft", e.getCurrent());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    private static ResponseEntity<Map<String, Object>> ok(DraftStateDto draft) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("draft", draft);
+        return ResponseEntity.ok(response);
+    }
+}
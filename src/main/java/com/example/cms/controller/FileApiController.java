@@ -0,0 +1,222 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.StoredBlobDto;
+import com.example.cms.service.BlobStore;
+import com.example.cms.service.ImageVariant;
+import com.example.cms.service.ImageVariantService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파일 업로드/다운로드 API 컨트롤러
+ * CKEditor 이미지 업로드와 채팅 IMAGE/FILE 메시지 첨부에 사용한다. 목록/채팅 화면은 ?variant=THUMBNAIL 등으로 축소본을 받는다.
+ * 다운로드는 ETag 조건부 요청과 단일 Range 요청을 지원하며, 컨테이너가 sendfile을 지원하면 파일 전송을 맡기고
+ * 아니면 FileChannel.transferTo로 응답 스트림에 바로 복사한다.
+ */
+@RestController
+@RequestMapping("/api/files")
+public class FileApiController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** 브라우저에서 바로 표시해도 안전한 형식 (그 외는 첨부 파일로 내려받음) */
+    private static final Set<String> INLINE_TYPES = Set.of(
+            "image/png", "image/jpeg", "image/gif", "image/webp", "image/avif", "application/pdf",
+            "video/mp4", "audio/mpeg");
+
+    private final BlobStore blobStore;
+    private final ImageVariantService imageVariantService;
+
+    public FileApiController(BlobStore blobStore, ImageVariantService imageVariantService) {
+        this.blobStore = blobStore;
+        this.imageVariantService = imageVariantService;
+    }
+
+    /**
+     * multipart 업로드 (CKEditor SimpleUploadAdapter는 upload 필드로 보내고 응답의 url을 사용함)
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> upload(@RequestParam("upload") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일을 선택해 주세요.");
+        }
+        StoredBlobDto blob;
+        try (InputStream input = file.getInputStream()) {
+            blob = blobStore.store(input, file.getContentType());
+        }
+        return stored(blob);
+    }
+
+    /**
+     * 요청 본문을 그대로 저장하는 업로드 (multipart 해석 없이 바로 디스크로 스트리밍)
+     */
+    @PutMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> uploadRaw(
+            HttpServletRequest request,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType) throws IOException {
+        return stored(blobStore.store(request.getInputStream(), contentType));
+    }
+
+    /**
+     * 파일 다운로드 (내용이 바뀌지 않으므로 해시를 ETag로 쓰고 오래 캐시함)
+     * variant를 지정하면 변환본을 제공하고, 아직 변환 중이면 원본을 매번 재검증하도록(no-cache) 제공한다.
+     */
+    @GetMapping("/{hash}")
+    public void download(@PathVariable String hash,
+                         @RequestParam(required = false) ImageVariant variant,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StoredBlobDto blob = blobStore.find(hash).orElse(null);
+        if (blob == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        boolean immutable = true;
+        if (variant != null && ImageVariantService.isSupported(blob.contentType())) {
+            ImageVariantService.VariantFile file = imageVariantService.find(blob.hash(), variant).orElse(null);
+            if (file != null) {
+                String etag = "\"" + blob.hash() + "-" + variant.name().toLowerCase(Locale.ROOT) + "\"";
+                serve(file.path(), Files.size(file.path()), etag, file.contentType(), true, request, response);
+                return;
+            }
+            // 변환 중일 때만 재검증하고, 원본이 작아 변환본이 없거나 변환에 실패했으면 원본을 그대로 오래 캐시함
+            immutable = !imageVariantService.isPending(blob.hash(), blob.contentType());
+        }
+        serve(blobStore.resolve(blob.hash()), blob.size(), "\"" + blob.hash() + "\"", blob.contentType(), immutable,
+                request, response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        // CKEditor SimpleUploadAdapter는 error.message를 사용자에게 보여줌
+        response.put("error", Map.of("message", e.getMessage()));
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> stored(StoredBlobDto blob) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("file", blob);
+        response.put("url", blob.url());
+        return ResponseEntity.ok(response);
+    }
+
+    private static void serve(Path path, long length, String etag, String contentType, boolean immutable,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? "public, max-age=31536000, immutable" : "no-cache");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            if (start >= length || start > end) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        boolean inline = INLINE_TYPES.contains(contentType);
+        response.setContentType(inline ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, (inline
+                ? ContentDisposition.inline()
+                : ContentDisposition.attachment()).filename(path.getFileName().toString()).build().toString());
+        response.setContentLengthLong(end - start + 1);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        transfer(path, start, end + 1, request, response);
+    }
+
+    /**
+     * 처리할 Range (If-Range가 현재 ETag와 다르거나, 형식이 잘못되었거나, 여러 구간이면 전체 전송)
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * [start, endExclusive) 구간 전송
+     */
+    private static void transfer(Path path, long start, long endExclusive,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, endExclusive);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < endExclusive) {
+                long transferred = channel.transferTo(position, endExclusive - position, output);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+}
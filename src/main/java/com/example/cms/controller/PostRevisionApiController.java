@@ -0,0 +1,86 @@
+package com.example.cms.controller;
+
+import com.example.cms.service.PostRevisionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 리비전 API 컨트롤러
+ * 작성자와 관리자만 게시글의 수정 이력, 특정 리비전 본문, 두 리비전 사이의 차이를 조회할 수 있다.
+ */
+@RestController
+@RequestMapping("/api/posts/{postId}/revisions")
+@PreAuthorize("isAuthenticated()")
+public class PostRevisionApiController {
+
+    private final PostRevisionService postRevisionService;
+
+    public PostRevisionApiController(PostRevisionService postRevisionService) {
+        this.postRevisionService = postRevisionService;
+    }
+
+    /**
+     * 리비전 목록 (최신순)
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getRevisions(@PathVariable Long postId, Authentication authentication) {
+        return respond(postId, authentication, "revisions", () -> postRevisionService.getRevisions(postId));
+    }
+
+    /**
+     * 리비전 본문
+     */
+    @GetMapping("/{revisionNumber}")
+    public ResponseEntity<Map<String, Object>> getRevision(@PathVariable Long postId,
+                                                           @PathVariable int revisionNumber,
+                                                           Authentication authentication) {
+        return respond(postId, authentication, "revision",
+                () -> postRevisionService.getRevision(postId, revisionNumber));
+    }
+
+    /**
+     * 두 리비전 사이의 차이
+     */
+    @GetMapping("/diff")
+    public ResponseEntity<Map<String, Object>> diff(@PathVariable Long postId,
+                                                    @RequestParam int from,
+                                                    @RequestParam int to,
+                                                    Authentication authentication) {
+        return respond(postId, authentication, "diff", () -> postRevisionService.diff(postId, from, to));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> respond(Long postId, Authentication authentication,
+                                                        String key, Supplier<Object> body) {
+        Map<String, Object> response = new HashMap<>();
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!postRevisionService.canView(postId, authentication.getName(), admin)) {
+            response.put("success", false);
+            response.put("message", "수정 이력을 조회할 권한이 없습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+        response.put("success", true);
+        response.put(key, body.get());
+        return ResponseEntity.ok(response);
+    }
+}
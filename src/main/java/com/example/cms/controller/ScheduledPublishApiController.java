@@ -0,0 +1,91 @@
+package com.example.cms.controller;
+
+import com.example.cms.dto.ScheduledPublicationDto;
+import com.example.cms.service.ScheduledPublishService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게시글 예약 발행 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/posts/{postId}/schedule")
+@PreAuthorize("isAuthenticated()")
+public class ScheduledPublishApiController {
+
+    private final ScheduledPublishService scheduledPublishService;
+
+    public ScheduledPublishApiController(ScheduledPublishService scheduledPublishService) {
+        this.scheduledPublishService = scheduledPublishService;
+    }
+
+    /**
+     * 예약 조회
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getSchedule(@PathVariable Long postId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("schedule", scheduledPublishService.getSchedule(postId).orElse(null));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 예약 등록/변경
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> schedule(
+            @PathVariable Long postId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime publishAt,
+            Authentication authentication) {
+        ScheduledPublicationDto schedule = scheduledPublishService.schedule(postId, publishAt,
+                authentication.getName(), isAdmin(authentication));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("schedule", schedule);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 예약 취소
+     */
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> cancel(@PathVariable Long postId, Authentication authentication) {
+        boolean cancelled = scheduledPublishService.cancel(postId, authentication.getName(), isAdmin(authentication));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", cancelled);
+        if (!cancelled) {
+            response.put("message", "예약된 발행이 없습니다.");
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
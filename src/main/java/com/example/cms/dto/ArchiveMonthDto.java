@@ -0,0 +1,7 @@
+package com.example.cms.dto;
+
+/**
+ * 월별 보관함 항목 (발행된 게시글 수)
+ */
+public record ArchiveMonthDto(int year, int month, long count) {
+}
@@ -0,0 +1,18 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 트리 노드 (replies는 작성 순 답글)
+ */
+public record CommentNodeDto(Long id,
+                             Long parentId,
+                             int depth,
+                             String content,
+                             Long authorId,
+                             String authorName,
+                             LocalDateTime createdAt,
+                             LocalDateTime updatedAt,
+                             List<CommentNodeDto> replies) {
+}
@@ -0,0 +1,9 @@
+package com.example.cms.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 목록 한 묶음 (nextCursor로 다음 묶음 조회, 결과가 없으면 요청한 커서를 그대로 반환)
+ */
+public record CommentSliceDto(List<CommentNodeDto> comments, String nextCursor, boolean hasMore) {
+}
@@ -0,0 +1,27 @@
+package com.example.cms.dto;
+
+import com.example.cms.service.CompressionTarget;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문 압축 전환 작업 진행 상황
+ * scanned는 확인한 행 수, rewritten은 압축(또는 복원)해 다시 저장한 행 수,
+ * charsBefore/charsAfter는 다시 저장한 행의 변환 전후 문자 수
+ */
+public record CompressionJobDto(String jobId,
+                                CompressionTarget target,
+                                boolean compress,
+                                String status,
+                                long scanned,
+                                long rewritten,
+                                long charsBefore,
+                                long charsAfter,
+                                String message,
+                                LocalDateTime startedAt,
+                                LocalDateTime finishedAt) {
+
+    public double getRatio() {
+        return charsBefore == 0 ? 1.0 : (double) charsAfter / charsBefore;
+    }
+}
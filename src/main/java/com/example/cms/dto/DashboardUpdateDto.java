@@ -0,0 +1,19 @@
+package com.example.cms.dto;
+
+import com.example.cms.service.DashboardMetric;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관리자 대시보드 실시간 갱신 메시지
+ * full이 true이면 전체 값, false이면 직전 메시지 이후 바뀐 항목만 담는다.
+ * sequence가 건너뛰면 클라이언트는 전체 값을 다시 요청해야 한다.
+ */
+public record DashboardUpdateDto(long sequence,
+                                 boolean full,
+                                 Map<DashboardMetric, Long> values,
+                                 Set<DashboardMetric> staleMetrics,
+                                 LocalDateTime lastUpdated) {
+}
@@ -0,0 +1,20 @@
+package com.example.cms.dto;
+
+import java.util.List;
+
+/**
+ * 임시저장 변경분
+ * baseVersion은 클라이언트가 마지막으로 받은 버전이며, title/content가 null이면 바꾸지 않는다.
+ * content 대신 splices(본문 일부 교체)를 보낼 수 있으며, 목록 순서대로 적용된다.
+ */
+public record DraftPatchRequest(long baseVersion,
+                                String title,
+                                String content,
+                                List<Splice> splices) {
+
+    /**
+     * offset 위치에서 deleteCount글자를 지우고 text를 삽입
+     */
+    public record Splice(int offset, int deleteCount, String text) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시저장 중인 게시글 상태
+ * version은 변경분이 반영될 때마다 증가하고, persistedVersion은 데이터베이스에 저장된 마지막 버전이다.
+ */
+public record DraftStateDto(Long postId,
+                            long version,
+                            long persistedVersion,
+                            String title,
+                            String content,
+                            LocalDateTime persistedAt) {
+
+    public boolean isDirty() {
+        return version != persistedVersion;
+    }
+}
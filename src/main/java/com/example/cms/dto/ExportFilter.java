@@ -0,0 +1,19 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 내보내기 조건 (지정한 항목만 적용)
+ * from/to는 게시글/댓글의 작성 시각, 채팅 메시지의 전송 시각 기준이며,
+ * postId는 댓글, chatRoomId는 채팅 메시지, published는 게시글에만 적용된다.
+ */
+public record ExportFilter(LocalDateTime from,
+                           LocalDateTime to,
+                           Long postId,
+                           Long chatRoomId,
+                           Boolean published) {
+
+    public static ExportFilter none() {
+        return new ExportFilter(null, null, null, null, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.cms.dto;
+
+import com.example.cms.entity.ImportCheckpoint;
+import com.example.cms.service.ImportFormat;
+import com.example.cms.service.ImportKind;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 가져오기 작업 상태
+ * errors는 이번 실행에서 거부된 레코드 일부(레코드 번호와 사유)
+ */
+public record ImportJobDto(String jobId,
+                          ImportKind kind,
+                          ImportFormat format,
+                          String fileName,
+                          String status,
+                          long committedRecords,
+                          long importedRows,
+                          long rejectedRows,
+                          String message,
+                          List<String> errors,
+                          LocalDateTime createdAt,
+                          LocalDateTime updatedAt) {
+
+    public static ImportJobDto from(ImportCheckpoint checkpoint, List<String> errors) {
+        return new ImportJobDto(checkpoint.getJobId(), checkpoint.getKind(), checkpoint.getFormat(),
+                checkpoint.getFileName(), checkpoint.getStatus(), checkpoint.getCommittedRecords(),
+                checkpoint.getImportedRows(), checkpoint.getRejectedRows(), checkpoint.getMessage(),
+                List.copyOf(errors), checkpoint.getCreatedAt(), checkpoint.getUpdatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 일괄 관리 대상 조건 (지정한 항목만 AND로 적용)
+ */
+public record PostBulkFilter(Long authorId,
+                             Long categoryId,
+                             Boolean published,
+                             LocalDateTime createdFrom,
+                             LocalDateTime createdTo) {
+
+    public boolean isEmpty() {
+        return authorId == null && categoryId == null && published == null
+                && createdFrom == null && createdTo == null;
+    }
+}
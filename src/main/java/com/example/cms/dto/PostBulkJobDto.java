@@ -0,0 +1,24 @@
+package com.example.cms.dto;
+
+import com.example.cms.service.PostBulkAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 일괄 관리 작업 진행 상황
+ * processed는 처리한 대상 수, affected는 실제로 변경된 게시글 수
+ */
+public record PostBulkJobDto(String jobId,
+                             PostBulkAction action,
+                             String status,
+                             long total,
+                             long processed,
+                             long affected,
+                             String message,
+                             LocalDateTime startedAt,
+                             LocalDateTime finishedAt) {
+
+    public int getPercent() {
+        return total == 0 ? 100 : (int) Math.min(100, processed * 100 / total);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.cms.dto;
+
+import com.example.cms.service.PostBulkAction;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 관리 요청
+ * 대상은 postIds 또는 filter 중 하나로 지정하며, categoryId는 카테고리 변경 시에만 사용한다.
+ */
+public record PostBulkRequest(PostBulkAction action,
+                              List<Long> postIds,
+                              PostBulkFilter filter,
+                              Long categoryId) {
+}
@@ -0,0 +1,39 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 상세 화면용 정보
+ * 여러 요청 스레드가 공유하는 캐시에 저장되므로 엔티티 대신 값만 담은 불변 객체로 둔다.
+ */
+public record PostDetailDto(Long id,
+                            String title,
+                            String content,
+                            boolean published,
+                            Long authorId,
+                            String authorName,
+                            Long categoryId,
+                            String categoryName,
+                            List<String> tagNames,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt) {
+
+    /**
+     * JPQL 생성자 표현식용 (태그는 별도 조회 후 withTagNames로 채움)
+     */
+    public PostDetailDto(Long id, String title, String content, boolean published, Long authorId, String authorName,
+                         Long categoryId, String categoryName, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, content, published, authorId, authorName, categoryId, categoryName, List.of(),
+                createdAt, updatedAt);
+    }
+
+    public PostDetailDto {
+        tagNames = List.copyOf(tagNames);
+    }
+
+    public PostDetailDto withTagNames(List<String> tagNames) {
+        return new PostDetailDto(id, title, content, published, authorId, authorName, categoryId, categoryName,
+                tagNames, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.cms.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 게시글 두 리비전 사이의 차이
+ * segments를 순서대로 이어 붙이면 EQUAL+DELETE는 이전 본문, EQUAL+INSERT는 이후 본문이 된다.
+ */
+public record PostRevisionDiffDto(Long postId,
+                                  int fromRevision,
+                                  int toRevision,
+                                  String fromTitle,
+                                  String toTitle,
+                                  List<Segment> segments) {
+
+    public boolean isTitleChanged() {
+        return !Objects.equals(fromTitle, toTitle);
+    }
+
+    /**
+     * 차이 조각 (type: EQUAL, INSERT, DELETE)
+     */
+    public record Segment(String type, String text) {
+
+        public static final String EQUAL = "EQUAL";
+        public static final String INSERT = "INSERT";
+        public static final String DELETE = "DELETE";
+    }
+}
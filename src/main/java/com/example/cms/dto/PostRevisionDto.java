@@ -0,0 +1,14 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 리비전 (content는 목록 조회 시 null)
+ */
+public record PostRevisionDto(Long postId,
+                              int revisionNumber,
+                              String title,
+                              String content,
+                              int contentLength,
+                              LocalDateTime createdAt) {
+}
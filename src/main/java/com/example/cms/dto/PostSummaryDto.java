@@ -0,0 +1,36 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 목록 화면용 요약 정보
+ * 본문(content)을 포함하지 않으며, 작성자/카테고리/태그는 이름만 담는다.
+ */
+public record PostSummaryDto(Long id,
+                             String title,
+                             Long authorId,
+                             String authorName,
+                             Long categoryId,
+                             String categoryName,
+                             List<String> tagNames,
+                             LocalDateTime createdAt,
+                             long commentCount) {
+
+    /**
+     * JPQL 생성자 표현식용 (태그는 별도 조회 후 withTagNames로 채움)
+     */
+    public PostSummaryDto(Long id, String title, Long authorId, String authorName,
+                          Long categoryId, String categoryName, LocalDateTime createdAt, long commentCount) {
+        this(id, title, authorId, authorName, categoryId, categoryName, List.of(), createdAt, commentCount);
+    }
+
+    public PostSummaryDto {
+        tagNames = List.copyOf(tagNames);
+    }
+
+    public PostSummaryDto withTagNames(List<String> tagNames) {
+        return new PostSummaryDto(id, title, authorId, authorName, categoryId, categoryName,
+                tagNames, createdAt, commentCount);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.cms.dto;
+
+/**
+ * 조회수 순위 항목
+ */
+public record PostViewRankDto(Long postId, long viewCount) {
+}
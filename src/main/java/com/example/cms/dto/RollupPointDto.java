@@ -0,0 +1,9 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추이 차트의 한 구간 값
+ */
+public record RollupPointDto(LocalDateTime bucketStart, long count) {
+}
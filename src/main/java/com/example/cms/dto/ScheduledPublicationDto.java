@@ -0,0 +1,11 @@
+package com.example.cms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 예약 발행 정보
+ */
+public record ScheduledPublicationDto(Long postId,
+                                      LocalDateTime publishAt,
+                                      String scheduledBy) {
+}
@@ -0,0 +1,9 @@
+package com.example.cms.dto;
+
+/**
+ * 저장된 파일 정보
+ *
+ * @param url 다운로드 주소 (게시글 본문 이미지, 채팅 IMAGE/FILE 메시지 내용으로 사용)
+ */
+public record StoredBlobDto(String hash, long size, String contentType, String url) {
+}
@@ -0,0 +1,96 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 추이 통계 롤업 버킷
+ * (항목, 단위, 버킷 시작 시각)마다 한 행이며, 유니크 인덱스로 버킷당 상수 시간 조회를 보장한다.
+ */
+@Entity
+@Table(name = "activity_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_activity_rollups_bucket",
+                                             columnNames = {"metric", "granularity", "bucket_start"}))
+public class ActivityRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private RollupMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "event_count", nullable = false)
+    private long count;
+
+    protected ActivityRollup() {
+    }
+
+    public ActivityRollup(RollupMetric metric, RollupGranularity granularity, LocalDateTime bucketStart, long count) {
+        this.metric = metric;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.count = count;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RollupMetric getMetric() {
+        return metric;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ActivityRollup that)) return false;
+        return metric == that.metric && granularity == that.granularity
+                && Objects.equals(bucketStart, that.bucketStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(metric, granularity, bucketStart);
+    }
+
+    @Override
+    public String toString() {
+        return "ActivityRollup{" +
+                "metric=" + metric +
+                ", granularity=" + granularity +
+                ", bucketStart=" + bucketStart +
+                ", count=" + count +
+                '}';
+    }
+}
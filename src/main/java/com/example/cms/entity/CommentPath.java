@@ -0,0 +1,133 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.util.Objects;
+
+/**
+ * 댓글 계층 경로 (materialized path)
+ * path는 최상위 댓글부터 자신까지의 ID를 고정 길이(36진수 13자리, 소문자)로 이어 붙인 값이라, path 순으로 정렬하면
+ * 답글이 부모 바로 뒤에 오는 트리 순서(같은 부모 안에서는 작성 순)가 된다.
+ * 한 댓글의 하위 트리는 "자신의 path/"로 시작하는 행들이다.
+ * path 컬럼 길이 안에 들어가도록 깊이는 MAX_DEPTH 단계까지만 내려가며, 가장 깊은 단계 댓글의 답글은
+ * 부모와 같은 깊이의 형제로 평평하게 붙는다. (이 답글들은 부모의 하위 트리 path에 포함되지 않는다.)
+ */
+@Entity
+@Table(name = "comment_paths",
+       indexes = {
+               @Index(name = "idx_comment_paths_post_depth_path", columnList = "post_id, depth, path"),
+               @Index(name = "idx_comment_paths_post_root", columnList = "post_id, root_id")
+       })
+public class CommentPath {
+
+    public static final int SEGMENT_LENGTH = 13;
+    public static final char SEPARATOR = '/';
+    public static final int PATH_LENGTH = 500;
+    /** 경로 깊이 상한 (depth 0 ~ MAX_DEPTH - 1, 최대 path 길이 447자) */
+    public static final int MAX_DEPTH = 32;
+    private static final int RADIX = 36;
+
+    @Id
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "root_id", nullable = false)
+    private Long rootId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(nullable = false, length = PATH_LENGTH)
+    private String path;
+
+    protected CommentPath() {
+    }
+
+    private CommentPath(Long commentId, Long postId, Long rootId, int depth, String path) {
+        this.commentId = commentId;
+        this.postId = postId;
+        this.rootId = rootId;
+        this.depth = depth;
+        this.path = path;
+    }
+
+    /**
+     * 최상위 댓글 경로
+     */
+    public static CommentPath root(Long commentId, Long postId) {
+        return new CommentPath(commentId, postId, commentId, 0, segment(commentId));
+    }
+
+    /**
+     * 부모 경로 아래의 답글 경로 (부모가 가장 깊은 단계이면 부모의 형제 경로)
+     */
+    public CommentPath child(Long commentId) {
+        if (depth + 1 >= MAX_DEPTH) {
+            String parentPath = path.substring(0, path.length() - SEGMENT_LENGTH);
+            return new CommentPath(commentId, postId, rootId, depth, parentPath + segment(commentId));
+        }
+        return new CommentPath(commentId, postId, rootId, depth + 1, path + SEPARATOR + segment(commentId));
+    }
+
+    /**
+     * 다시 계산한 경로로 갱신 (경로 재구성 시)
+     */
+    public void moveTo(CommentPath other) {
+        this.postId = other.postId;
+        this.rootId = other.rootId;
+        this.depth = other.depth;
+        this.path = other.path;
+    }
+
+    private static String segment(Long commentId) {
+        String id = Long.toString(commentId, RADIX);
+        return "0".repeat(SEGMENT_LENGTH - id.length()) + id;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getRootId() {
+        return rootId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CommentPath that)) return false;
+        return Objects.equals(commentId, that.commentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commentId);
+    }
+
+    @Override
+    public String toString() {
+        return "CommentPath{" +
+                "commentId=" + commentId +
+                ", path='" + path + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.cms.entity;
+
+import com.example.cms.service.ContentCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 긴 본문 컬럼 압축 컨버터
+ * 저장 시 ContentCodec으로 압축하고, 엔티티를 읽어 올 때(hydration) 복원한다.
+ * 속성에 접근하지 않더라도 엔티티를 로딩하면 복원되므로 지연 복원은 아니며,
+ * 본문 컬럼을 선택하지 않는 목록용 프로젝션(PostSummaryDto 등)에서만 복원 비용이 생기지 않는다.
+ * 사용: {@code @Convert(converter = CompressedTextConverter.class)}
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return ContentCodec.shared().encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return ContentCodec.shared().decode(dbData);
+    }
+}
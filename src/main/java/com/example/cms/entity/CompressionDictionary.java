@@ -0,0 +1,79 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 본문 압축용 사전(preset dictionary)
+ * 압축된 값에는 사용한 사전 ID가 기록되므로, 새 사전을 학습해도 기존 사전은 삭제하지 않는다.
+ */
+@Entity
+@Table(name = "compression_dictionaries")
+public class CompressionDictionary {
+
+    @Id
+    private Integer id;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] data;
+
+    @Column(name = "sample_count", nullable = false)
+    private int sampleCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected CompressionDictionary() {
+    }
+
+    public CompressionDictionary(Integer id, byte[] data, int sampleCount) {
+        this.id = id;
+        this.data = data;
+        this.sampleCount = sampleCount;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompressionDictionary that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionDictionary{" +
+                "id=" + id +
+                ", size=" + (data != null ? data.length : 0) +
+                ", sampleCount=" + sampleCount +
+                '}';
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 이미지 변환 작업
+ * 업로드된 이미지(파일 해시)당 하나이며, 한 번 디코딩해 모든 변환 크기를 만든다.
+ * 실행 중(RUNNING)인 채로 오래 갱신되지 않은 작업은 노드가 중단된 것으로 보고 다시 대기 상태로 돌린다.
+ */
+@Entity
+@Table(name = "image_variant_jobs",
+       indexes = @Index(name = "idx_image_variant_jobs_status", columnList = "status, updated_at"))
+public class ImageVariantJob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageVariantJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ImageVariantJob() {
+    }
+
+    public ImageVariantJob(String hash) {
+        this.hash = hash;
+        this.status = ImageVariantJobStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = createdAt;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public ImageVariantJobStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImageVariantJob that)) return false;
+        return Objects.equals(hash, that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hash);
+    }
+
+    @Override
+    public String toString() {
+        return "ImageVariantJob{" +
+                "hash='" + hash + '\'' +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.cms.entity;
+
+/**
+ * 이미지 변환 작업 상태
+ */
+public enum ImageVariantJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,188 @@
+package com.example.cms.entity;
+
+import com.example.cms.service.ImportFormat;
+import com.example.cms.service.ImportKind;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 대량 가져오기 작업 체크포인트
+ * 레코드 묶음을 넣는 트랜잭션에서 함께 갱신되므로, committedRecords까지는 정확히 한 번 반영된 것이 보장된다.
+ * 실패하거나 중단된 작업은 이 위치부터 다시 시작한다.
+ * 가져오기 파일은 작업을 실행한 노드의 작업 디렉터리에 있으므로 owner에 그 노드를 기록한다.
+ */
+@Entity
+@Table(name = "import_checkpoints")
+public class ImportCheckpoint {
+
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String INTERRUPTED = "INTERRUPTED";
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportFormat format;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "committed_records", nullable = false)
+    private long committedRecords;
+
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    @Column(name = "rejected_rows", nullable = false)
+    private long rejectedRows;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ImportCheckpoint() {
+    }
+
+    public ImportCheckpoint(String jobId, ImportKind kind, ImportFormat format, String fileName, String filePath) {
+        this.jobId = jobId;
+        this.kind = kind;
+        this.format = format;
+        this.fileName = fileName;
+        this.filePath = filePath;
+        this.status = PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    /**
+     * 묶음 반영 결과 기록
+     */
+    public void advance(long records, long imported, long rejected) {
+        this.committedRecords += records;
+        this.importedRows += imported;
+        this.rejectedRows += rejected;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업을 실행할 노드 기록
+     */
+    public void claim(String owner) {
+        this.owner = owner;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void changeStatus(String status, String message) {
+        this.status = status;
+        this.message = message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isResumable() {
+        return FAILED.equals(status) || INTERRUPTED.equals(status);
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public ImportKind getKind() {
+        return kind;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getCommittedRecords() {
+        return committedRecords;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImportCheckpoint that)) return false;
+        return Objects.equals(jobId, that.jobId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobId);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportCheckpoint{" +
+                "jobId='" + jobId + '\'' +
+                ", kind=" + kind +
+                ", status='" + status + '\'' +
+                ", committedRecords=" + committedRecords +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.Objects;
+
+/**
+ * 게시글 댓글 수
+ * 목록/검색 화면이 게시글마다 댓글을 세지 않도록 댓글 작성/삭제 시 함께 갱신하는 비정규화 값이다.
+ * 댓글이 몰리는 게시글에서 게시글 행 잠금과 경합하지 않도록 posts 테이블과 분리해 저장한다.
+ */
+@Entity
+@Table(name = "post_comment_counts")
+public class PostCommentCount {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    protected PostCommentCount() {
+    }
+
+    public PostCommentCount(Long postId, long commentCount) {
+        this.postId = postId;
+        this.commentCount = commentCount;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostCommentCount that)) return false;
+        return Objects.equals(postId, that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(postId);
+    }
+
+    @Override
+    public String toString() {
+        return "PostCommentCount{" +
+                "postId=" + postId +
+                ", commentCount=" + commentCount +
+                '}';
+    }
+}
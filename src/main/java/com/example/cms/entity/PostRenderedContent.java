@@ -0,0 +1,100 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시글 본문 렌더링 결과
+ * 원본(posts.content)과 별도로 sanitize/정규화가 끝난 HTML을 보관한다.
+ * sourceHash와 rendererVersion이 원본/렌더러와 다르면 다시 렌더링한다.
+ * 긴 HTML은 압축해 저장한다 (CompressedTextConverter).
+ */
+@Entity
+@Table(name = "post_rendered_contents")
+public class PostRenderedContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String html;
+
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+
+    @Column(name = "renderer_version", nullable = false)
+    private int rendererVersion;
+
+    @Column(name = "rendered_at", nullable = false)
+    private LocalDateTime renderedAt;
+
+    protected PostRenderedContent() {
+    }
+
+    public PostRenderedContent(Long postId, String html, String sourceHash, int rendererVersion) {
+        this.postId = postId;
+        update(html, sourceHash, rendererVersion);
+    }
+
+    public void update(String html, String sourceHash, int rendererVersion) {
+        this.html = html;
+        this.sourceHash = sourceHash;
+        this.rendererVersion = rendererVersion;
+        this.renderedAt = LocalDateTime.now();
+    }
+
+    public boolean isCurrent(String sourceHash, int rendererVersion) {
+        return this.rendererVersion == rendererVersion && this.sourceHash.equals(sourceHash);
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public String getHtml() {
+        return html;
+    }
+
+    public String getSourceHash() {
+        return sourceHash;
+    }
+
+    public int getRendererVersion() {
+        return rendererVersion;
+    }
+
+    public LocalDateTime getRenderedAt() {
+        return renderedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostRenderedContent that)) return false;
+        return Objects.equals(postId, that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(postId);
+    }
+
+    @Override
+    public String toString() {
+        return "PostRenderedContent{" +
+                "postId=" + postId +
+                ", rendererVersion=" + rendererVersion +
+                ", renderedAt=" + renderedAt +
+                '}';
+    }
+}
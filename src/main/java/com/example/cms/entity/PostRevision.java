@@ -0,0 +1,160 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시글 리비전
+ * snapshot이면 data가 본문 전체이고, 아니면 바로 이전 리비전 본문에 적용할 델타(TextDelta)다.
+ * baseRevision은 이 리비전을 복원할 때 시작하는 전체 스냅샷의 번호다.
+ */
+@Entity
+@Table(name = "post_revisions",
+       uniqueConstraints = @UniqueConstraint(name = "uk_post_revisions_post_number",
+                                             columnNames = {"post_id", "revision_number"}),
+       indexes = @Index(name = "idx_post_revisions_post_base", columnList = "post_id, base_revision"))
+public class PostRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "revision_number", nullable = false)
+    private int revisionNumber;
+
+    @Column(name = "base_revision", nullable = false)
+    private int baseRevision;
+
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    @Column(length = 255)
+    private String title;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String data;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected PostRevision() {
+    }
+
+    private PostRevision(Long postId, int revisionNumber, int baseRevision, boolean snapshot, String title,
+                         String data, String contentHash, int contentLength) {
+        this.postId = postId;
+        this.revisionNumber = revisionNumber;
+        this.baseRevision = baseRevision;
+        this.snapshot = snapshot;
+        this.title = title;
+        this.data = data;
+        this.contentHash = contentHash;
+        this.contentLength = contentLength;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static PostRevision snapshot(Long postId, int revisionNumber, String title, String content,
+                                        String contentHash) {
+        return new PostRevision(postId, revisionNumber, revisionNumber, true, title, content, contentHash,
+                content.length());
+    }
+
+    public static PostRevision delta(Long postId, int revisionNumber, int baseRevision, String title,
+                                     String delta, String contentHash, int contentLength) {
+        return new PostRevision(postId, revisionNumber, baseRevision, false, title, delta, contentHash,
+                contentLength);
+    }
+
+    /**
+     * 델타 리비전을 전체 스냅샷으로 전환 (이전 리비전을 정리할 때)
+     */
+    public void convertToSnapshot(String content) {
+        this.snapshot = true;
+        this.baseRevision = revisionNumber;
+        this.data = content;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public int getRevisionNumber() {
+        return revisionNumber;
+    }
+
+    public int getBaseRevision() {
+        return baseRevision;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostRevision that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "PostRevision{" +
+                "postId=" + postId +
+                ", revisionNumber=" + revisionNumber +
+                ", baseRevision=" + baseRevision +
+                ", snapshot=" + snapshot +
+                '}';
+    }
+}
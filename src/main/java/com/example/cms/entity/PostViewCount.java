@@ -0,0 +1,60 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.Objects;
+
+/**
+ * 게시글 조회수
+ * 조회수 갱신이 게시글 행 잠금과 경합하지 않도록 posts 테이블과 분리해 저장한다.
+ */
+@Entity
+@Table(name = "post_view_counts")
+public class PostViewCount {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    protected PostViewCount() {
+    }
+
+    public PostViewCount(Long postId, long viewCount) {
+        this.postId = postId;
+        this.viewCount = viewCount;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostViewCount that)) return false;
+        return Objects.equals(postId, that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(postId);
+    }
+
+    @Override
+    public String toString() {
+        return "PostViewCount{" +
+                "postId=" + postId +
+                ", viewCount=" + viewCount +
+                '}';
+    }
+}
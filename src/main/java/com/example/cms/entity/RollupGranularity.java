@@ -0,0 +1,53 @@
+package com.example.cms.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 롤업 버킷 단위와 보존 기간
+ * 이벤트는 모든 단위의 버킷에 동시에 집계되므로, 보존 기간이 지난 세밀한 버킷은 상위 단위에 이미 합산되어 있다.
+ * retention이 null이면 영구 보존한다.
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES, Duration.ofDays(2)),
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(90)),
+    DAY(ChronoUnit.DAYS, null);
+
+    private final ChronoUnit unit;
+    private final Duration retention;
+
+    RollupGranularity(ChronoUnit unit, Duration retention) {
+        this.unit = unit;
+        this.retention = retention;
+    }
+
+    /**
+     * 시각이 속한 버킷의 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 다음 버킷의 시작 시각
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    /**
+     * 두 시각 사이(양 끝 포함)의 버킷 수
+     */
+    public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+        return unit.between(truncate(from), truncate(to)) + 1;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public boolean isCompacted() {
+        return retention != null;
+    }
+}
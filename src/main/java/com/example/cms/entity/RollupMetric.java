@@ -0,0 +1,23 @@
+package com.example.cms.entity;
+
+/**
+ * 추이 통계(롤업) 항목
+ */
+public enum RollupMetric {
+    SIGNUPS("회원 가입"),
+    POSTS("게시글 작성"),
+    COMMENTS("댓글 작성"),
+    CHAT_ROOMS_OPENED("상담 시작"),
+    CHAT_ROOMS_CLOSED("상담 종료"),
+    NOTIFICATIONS_SENT("알림 발송");
+
+    private final String displayName;
+
+    RollupMetric(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * 게시글 예약 발행
+ * 게시글당 하나이며, 발행에 성공하면 행이 삭제된다.
+ * 여러 노드가 같은 예약을 실행하더라도 (post_id, publish_at) 조건의 삭제에 성공한 노드만 발행한다.
+ */
+@Entity
+@Table(name = "scheduled_publications",
+       indexes = @Index(name = "idx_scheduled_publications_publish_at", columnList = "publish_at"))
+public class ScheduledPublication {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "publish_at", nullable = false)
+    private LocalDateTime publishAt;
+
+    @Column(name = "scheduled_by", length = 100)
+    private String scheduledBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected ScheduledPublication() {
+    }
+
+    public ScheduledPublication(Long postId, LocalDateTime publishAt, String scheduledBy) {
+        this.postId = postId;
+        this.scheduledBy = scheduledBy;
+        this.createdAt = LocalDateTime.now();
+        reschedule(publishAt, scheduledBy);
+    }
+
+    /**
+     * 발행 시각 변경 (데이터베이스 정밀도 차이로 비교가 어긋나지 않도록 밀리초 단위로 자름)
+     */
+    public void reschedule(LocalDateTime publishAt, String scheduledBy) {
+        this.publishAt = publishAt.truncatedTo(ChronoUnit.MILLIS);
+        this.scheduledBy = scheduledBy;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public LocalDateTime getPublishAt() {
+        return publishAt;
+    }
+
+    public String getScheduledBy() {
+        return scheduledBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ScheduledPublication that)) return false;
+        return Objects.equals(postId, that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(postId);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledPublication{" +
+                "postId=" + postId +
+                ", publishAt=" + publishAt +
+                '}';
+    }
+}
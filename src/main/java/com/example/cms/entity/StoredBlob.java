@@ -0,0 +1,78 @@
+package com.example.cms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 업로드 파일 메타데이터
+ * 파일 내용은 SHA-256 해시를 이름으로 디스크에 저장하며, 같은 내용은 한 번만 저장된다.
+ */
+@Entity
+@Table(name = "stored_blobs")
+public class StoredBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected StoredBlob() {
+    }
+
+    public StoredBlob(String hash, long size, String contentType) {
+        this.hash = hash;
+        this.size = size;
+        this.contentType = contentType;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StoredBlob that)) return false;
+        return Objects.equals(hash, that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hash);
+    }
+
+    @Override
+    public String toString() {
+        return "StoredBlob{" +
+                "hash='" + hash + '\'' +
+                ", size=" + size +
+                ", contentType='" + contentType + '\'' +
+                '}';
+    }
+}
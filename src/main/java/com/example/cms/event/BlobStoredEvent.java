@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 파일 업로드 이벤트 (이미 저장되어 있던 내용이 다시 업로드된 경우에도 발생)
+ */
+public record BlobStoredEvent(String hash, String contentType, long size) {
+}
@@ -0,0 +1,10 @@
+package com.example.cms.event;
+
+import com.example.cms.service.ImportKind;
+
+/**
+ * 대량 가져오기 완료 이벤트
+ * 가져온 행은 개별 생성 이벤트를 발행하지 않으므로, 카운터는 이 이벤트를 받아 데이터베이스 값으로 보정한다.
+ */
+public record BulkImportCompletedEvent(String jobId, ImportKind kind, long importedRows) {
+}
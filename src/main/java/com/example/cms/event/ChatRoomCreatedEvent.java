@@ -0,0 +1,9 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 채팅방 생성 이벤트
+ */
+public record ChatRoomCreatedEvent(Long chatRoomId, boolean active, LocalDateTime createdAt) {
+}
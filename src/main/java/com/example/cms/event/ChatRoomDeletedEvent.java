@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 상담 채팅방 삭제 이벤트
+ */
+public record ChatRoomDeletedEvent(Long chatRoomId, boolean wasActive) {
+}
@@ -0,0 +1,10 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 채팅방 상태 변경 이벤트 (WAITING → ACTIVE → CLOSED)
+ */
+public record ChatRoomStatusChangedEvent(Long chatRoomId, boolean wasActive, boolean active, boolean closed,
+                                         LocalDateTime changedAt) {
+}
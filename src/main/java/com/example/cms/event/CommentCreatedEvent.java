@@ -0,0 +1,9 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 작성 이벤트 (최상위 댓글이면 parentCommentId는 null)
+ */
+public record CommentCreatedEvent(Long commentId, Long postId, Long parentCommentId, LocalDateTime createdAt) {
+}
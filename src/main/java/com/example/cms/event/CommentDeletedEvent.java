@@ -0,0 +1,9 @@
+package com.example.cms.event;
+
+/**
+ * 댓글 삭제 이벤트
+ * deletedCount는 함께 삭제된 답글을 포함한 전체 삭제 건수
+ * 게시글 일괄 삭제로 함께 지워진 경우 commentId는 null이고 deletedCount는 해당 게시글의 전체 댓글 수
+ */
+public record CommentDeletedEvent(Long commentId, Long postId, int deletedCount) {
+}
@@ -0,0 +1,9 @@
+package com.example.cms.event;
+
+import com.example.cms.service.DashboardMetric;
+
+/**
+ * 대시보드 카운터 값 변경 이벤트 (이벤트 증감 또는 보정)
+ */
+public record DashboardCountersChangedEvent(DashboardMetric metric) {
+}
@@ -0,0 +1,9 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 생성 이벤트 (생성된 알림은 읽지 않은 상태)
+ */
+public record NotificationCreatedEvent(Long notificationId, Long userId, LocalDateTime createdAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 알림 삭제 이벤트
+ */
+public record NotificationDeletedEvent(Long notificationId, boolean wasUnread) {
+}
@@ -0,0 +1,8 @@
+package com.example.cms.event;
+
+/**
+ * 알림 읽음 처리 이벤트
+ * count는 이번 처리로 읽음 상태가 된 알림 수 (전체 읽음 처리 포함)
+ */
+public record NotificationsReadEvent(Long userId, int count) {
+}
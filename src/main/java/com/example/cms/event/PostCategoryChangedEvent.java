@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 게시글 카테고리 변경 이벤트
+ */
+public record PostCategoryChangedEvent(Long postId, Long previousCategoryId, Long categoryId, boolean published) {
+}
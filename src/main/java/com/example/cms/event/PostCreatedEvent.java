@@ -0,0 +1,10 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 생성 이벤트 (임시저장 포함)
+ */
+public record PostCreatedEvent(Long postId, Long authorId, Long categoryId, boolean published,
+                               LocalDateTime createdAt) {
+}
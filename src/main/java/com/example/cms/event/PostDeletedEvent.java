@@ -0,0 +1,10 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 삭제 이벤트
+ */
+public record PostDeletedEvent(Long postId, Long authorId, Long categoryId, boolean wasPublished,
+                               LocalDateTime createdAt) {
+}
@@ -0,0 +1,10 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 발행/발행 취소 이벤트
+ */
+public record PostPublicationChangedEvent(Long postId, Long authorId, Long categoryId, boolean published,
+                                          LocalDateTime createdAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 게시글 수정 이벤트 (제목, 본문, 카테고리, 태그 변경)
+ */
+public record PostUpdatedEvent(Long postId) {
+}
@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 태그 삭제 이벤트
+ */
+public record TagDeletedEvent(Long tagId, String name) {
+}
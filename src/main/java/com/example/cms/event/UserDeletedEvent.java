@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 회원 삭제 이벤트
+ */
+public record UserDeletedEvent(Long userId, boolean wasActive) {
+}
@@ -0,0 +1,9 @@
+package com.example.cms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 가입 이벤트 (가입 직후 계정은 활성 상태)
+ */
+public record UserRegisteredEvent(Long userId, LocalDateTime registeredAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.cms.event;
+
+/**
+ * 계정 활성/비활성 상태 변경 이벤트 (wasActive는 변경 전 상태)
+ */
+public record UserStatusChangedEvent(Long userId, boolean wasActive, boolean active) {
+}
@@ -0,0 +1,46 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.ActivityRollup;
+import com.example.cms.entity.RollupGranularity;
+import com.example.cms.entity.RollupMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추이 통계 롤업 Repository
+ */
+@Repository
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+
+    /**
+     * 구간 내 버킷 조회 (유니크 인덱스 범위 스캔)
+     */
+    List<ActivityRollup> findByMetricAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            RollupMetric metric, RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 기존 버킷에 증분 반영
+     * @return 갱신된 행 수 (0이면 버킷이 아직 없음)
+     */
+    @Modifying
+    @Query("UPDATE ActivityRollup r SET r.count = r.count + :delta " +
+           "WHERE r.metric = :metric AND r.granularity = :granularity AND r.bucketStart = :bucketStart")
+    int incrementCount(@Param("metric") RollupMetric metric,
+                       @Param("granularity") RollupGranularity granularity,
+                       @Param("bucketStart") LocalDateTime bucketStart,
+                       @Param("delta") long delta);
+
+    /**
+     * 보존 기간이 지난 버킷 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ActivityRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+    int deleteByGranularityAndBucketStartBefore(@Param("granularity") RollupGranularity granularity,
+                                                @Param("before") LocalDateTime before);
+}
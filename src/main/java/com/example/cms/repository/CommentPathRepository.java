@@ -0,0 +1,55 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.CommentPath;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 댓글 계층 경로 Repository
+ */
+@Repository
+public interface CommentPathRepository extends JpaRepository<CommentPath, Long> {
+
+    /**
+     * 최상위 댓글 ID 페이지 (작성 순)
+     */
+    @Query("SELECT cp.commentId FROM CommentPath cp WHERE cp.postId = :postId AND cp.depth = 0 ORDER BY cp.path")
+    List<Long> findRootIds(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT COUNT(cp) FROM CommentPath cp WHERE cp.postId = :postId AND cp.depth = 0")
+    long countRoots(@Param("postId") Long postId);
+
+    List<CommentPath> findByPostId(Long postId);
+
+    /**
+     * 댓글과 그 아래 모든 답글의 경로 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CommentPath cp WHERE cp.postId = :postId AND (cp.path = :path OR cp.path LIKE :descendants)")
+    int deleteSubtree(@Param("postId") Long postId, @Param("path") String path,
+                      @Param("descendants") String descendants);
+
+    /**
+     * 댓글이 삭제되어 남은 경로 삭제 (가장 깊은 단계에서 형제로 평평하게 붙은 답글은 하위 트리 path에 포함되지 않음)
+     */
+    @Modifying
+    @Query("DELETE FROM CommentPath cp WHERE cp.postId = :postId AND cp.rootId = :rootId AND cp.depth = :depth " +
+           "AND NOT EXISTS (SELECT c.id FROM Comment c WHERE c.id = cp.commentId)")
+    int deleteOrphans(@Param("postId") Long postId, @Param("rootId") Long rootId, @Param("depth") int depth);
+
+    /**
+     * 이전 형식(세그먼트 길이가 다른) 경로가 남아 있는 게시글
+     */
+    @Query("SELECT DISTINCT cp.postId FROM CommentPath cp WHERE cp.depth = 0 AND LENGTH(cp.path) <> :segmentLength")
+    List<Long> findPostIdsWithOtherFormat(@Param("segmentLength") int segmentLength);
+
+    @Modifying
+    @Query("DELETE FROM CommentPath cp WHERE cp.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
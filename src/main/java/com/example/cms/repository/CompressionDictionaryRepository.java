@@ -0,0 +1,16 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.CompressionDictionary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 본문 압축 사전 Repository
+ */
+@Repository
+public interface CompressionDictionaryRepository extends JpaRepository<CompressionDictionary, Integer> {
+
+    Optional<CompressionDictionary> findTopByOrderByIdDesc();
+}
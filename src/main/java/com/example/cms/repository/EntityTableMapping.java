@@ -0,0 +1,92 @@
+package com.example.cms.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * JPA 엔티티의 실제 테이블/컬럼 이름 조회
+ * 대량 작업용 JDBC SQL이 명명 전략이나 @Table/@Column 설정과 어긋나지 않도록 Hibernate 매핑 정보에서 이름을 가져온다.
+ */
+@Component
+public class EntityTableMapping {
+
+    private static final String ENTITY_PACKAGE = "com.example.cms.entity.";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityTableMapping(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 엔티티 테이블 이름 (예: table("Post"))
+     */
+    public String table(String entityName) {
+        return entity(entityName).getTableName();
+    }
+
+    /**
+     * 식별자 컬럼 이름
+     */
+    public String idColumn(String entityName) {
+        return entity(entityName).getIdentifierColumnNames()[0];
+    }
+
+    /**
+     * 속성 컬럼 이름 (연관관계는 외래 키 컬럼)
+     */
+    public String column(String entityName, String property) {
+        return entity(entityName).getPropertyColumnNames(property)[0];
+    }
+
+    /**
+     * 매핑되어 있을 때만 속성 컬럼 이름 반환 (선택 속성용)
+     */
+    public Optional<String> optionalColumn(String entityName, String property) {
+        try {
+            return Optional.of(column(entityName, property));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 컬렉션 연결 테이블 이름 (예: joinTable("Post", "tags"))
+     */
+    public String joinTable(String entityName, String collection) {
+        return collection(entityName, collection).getTableName();
+    }
+
+    /**
+     * 연결 테이블의 소유 엔티티 외래 키 컬럼
+     */
+    public String joinKeyColumn(String entityName, String collection) {
+        return collection(entityName, collection).getKeyColumnNames()[0];
+    }
+
+    /**
+     * 연결 테이블의 대상 엔티티 외래 키 컬럼
+     */
+    public String joinElementColumn(String entityName, String collection) {
+        return collection(entityName, collection).getElementColumnNames()[0];
+    }
+
+    private AbstractEntityPersister entity(String entityName) {
+        return (AbstractEntityPersister) metamodel().getEntityDescriptor(ENTITY_PACKAGE + entityName);
+    }
+
+    private AbstractCollectionPersister collection(String entityName, String collection) {
+        return (AbstractCollectionPersister) metamodel()
+                .getCollectionDescriptor(ENTITY_PACKAGE + entityName + "." + collection);
+    }
+
+    private MappingMetamodel metamodel() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.cms.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * ID를 직접 지정해 넣은 뒤 자동 증가 값 정렬
+ * MySQL/MariaDB(InnoDB)는 더 큰 ID가 들어오면 AUTO_INCREMENT를 스스로 뒤로 옮기므로 아무것도 하지 않는다.
+ * 내장 H2는 IDENTITY 값을 옮기지 않으므로 RESTART로 기존 행 뒤로 이동한다. (DDL이므로 운영 DB에는 실행하지 않는다)
+ */
+@Component
+public class IdentityAdjuster {
+
+    private static final Logger log = LoggerFactory.getLogger(IdentityAdjuster.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String databaseProduct;
+
+    public IdentityAdjuster(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 다음 자동 증가 값이 기존 행과 겹치지 않도록 보장
+     */
+    public synchronized void ensureAbove(String table, String idColumn) {
+        String product = databaseProduct();
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return;
+        }
+        if (product.contains("h2")) {
+            Long max = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + idColumn
+                    + " RESTART WITH " + ((max != null ? max : 0L) + 1));
+        } else {
+            log.warn("자동 증가 값 정렬을 지원하지 않는 데이터베이스: product={}, table={}", product, table);
+        }
+    }
+
+    private String databaseProduct() {
+        String product = databaseProduct;
+        if (product == null) {
+            try {
+                product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        metaData -> metaData.getDatabaseProductName().toLowerCase());
+            } catch (MetaDataAccessException e) {
+                product = "unknown";
+            }
+            databaseProduct = product;
+        }
+        return product;
+    }
+}
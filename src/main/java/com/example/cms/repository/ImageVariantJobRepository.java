@@ -0,0 +1,70 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.ImageVariantJob;
+import com.example.cms.entity.ImageVariantJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지 변환 작업 Repository
+ */
+@Repository
+public interface ImageVariantJobRepository extends JpaRepository<ImageVariantJob, String> {
+
+    @Query("SELECT j.status FROM ImageVariantJob j WHERE j.hash = :hash")
+    Optional<ImageVariantJobStatus> findStatus(@Param("hash") String hash);
+
+    /**
+     * 대기 중인 작업 (오래된 순)
+     */
+    @Query("SELECT j.hash FROM ImageVariantJob j WHERE j.status = com.example.cms.entity.ImageVariantJobStatus.PENDING " +
+           "ORDER BY j.updatedAt")
+    List<String> findPendingHashes(Pageable pageable);
+
+    /**
+     * 작업 선점 (대기 중이고 시도 횟수가 남은 경우에만 실행 상태로 바뀌므로 한 워커만 성공)
+     */
+    @Modifying
+    @Query("UPDATE ImageVariantJob j SET j.status = com.example.cms.entity.ImageVariantJobStatus.RUNNING, " +
+           "j.attempts = j.attempts + 1, j.updatedAt = :now " +
+           "WHERE j.hash = :hash AND j.status = com.example.cms.entity.ImageVariantJobStatus.PENDING " +
+           "AND j.attempts < :maxAttempts")
+    int claim(@Param("hash") String hash, @Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ImageVariantJob j SET j.status = :status, j.lastError = :error, j.updatedAt = :now " +
+           "WHERE j.hash = :hash")
+    int finish(@Param("hash") String hash, @Param("status") ImageVariantJobStatus status,
+               @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /**
+     * 중단된 노드가 잡고 있던 작업 중 시도 횟수가 남은 작업을 대기 상태로 되돌림
+     */
+    @Modifying
+    @Query("UPDATE ImageVariantJob j SET j.status = com.example.cms.entity.ImageVariantJobStatus.PENDING, " +
+           "j.updatedAt = :now " +
+           "WHERE j.status = com.example.cms.entity.ImageVariantJobStatus.RUNNING AND j.updatedAt < :staleBefore " +
+           "AND j.attempts < :maxAttempts")
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 중단된 노드가 잡고 있던 작업 중 시도 횟수를 모두 쓴 작업을 실패 처리
+     * (변환 중 워커가 죽는 이미지가 끝없이 재시도되지 않도록 함)
+     */
+    @Modifying
+    @Query("UPDATE ImageVariantJob j SET j.status = com.example.cms.entity.ImageVariantJobStatus.FAILED, " +
+           "j.lastError = :error, j.updatedAt = :now " +
+           "WHERE j.status = com.example.cms.entity.ImageVariantJobStatus.RUNNING AND j.updatedAt < :staleBefore " +
+           "AND j.attempts >= :maxAttempts")
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts,
+                  @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,19 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 가져오기 체크포인트 Repository
+ */
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+
+    List<ImportCheckpoint> findByStatusAndOwner(String status, String owner);
+
+    List<ImportCheckpoint> findByStatusAndOwnerAndUpdatedAtBefore(String status, String owner, LocalDateTime threshold);
+}
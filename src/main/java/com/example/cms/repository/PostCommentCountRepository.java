@@ -0,0 +1,67 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.PostCommentCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 댓글 수 Repository
+ */
+@Repository
+public interface PostCommentCountRepository extends JpaRepository<PostCommentCount, Long> {
+
+    /**
+     * 댓글 수 증감 (단일 UPDATE로 원자적으로 반영, 행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE PostCommentCount pc SET pc.commentCount = pc.commentCount + :delta WHERE pc.postId = :postId")
+    int increment(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("SELECT pc.commentCount FROM PostCommentCount pc WHERE pc.postId = :postId")
+    Long findCount(@Param("postId") Long postId);
+
+    List<PostCommentCount> findByPostIdIn(Collection<Long> postIds);
+
+    /**
+     * 행이 없는 게시글에 행 추가
+     */
+    @Modifying
+    @Query("INSERT INTO PostCommentCount (postId, commentCount) " +
+           "SELECT p.id, (SELECT COUNT(c) FROM Comment c WHERE c.post = p) FROM Post p " +
+           "WHERE NOT EXISTS (SELECT pc.postId FROM PostCommentCount pc WHERE pc.postId = p.id)")
+    int insertMissing();
+
+    /**
+     * 한 게시글의 행이 없으면 현재 댓글 수로 추가 (커밋된 게시글만 대상, 추가되면 1 반환)
+     */
+    @Modifying
+    @Query("INSERT INTO PostCommentCount (postId, commentCount) " +
+           "SELECT p.id, (SELECT COUNT(c) FROM Comment c WHERE c.post = p) FROM Post p " +
+           "WHERE p.id = :postId " +
+           "AND NOT EXISTS (SELECT pc.postId FROM PostCommentCount pc WHERE pc.postId = p.id)")
+    int insertMissing(@Param("postId") Long postId);
+
+    /**
+     * 실제 댓글 수와 다른 행 보정
+     */
+    @Modifying
+    @Query("UPDATE PostCommentCount pc " +
+           "SET pc.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post.id = pc.postId) " +
+           "WHERE pc.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post.id = pc.postId)")
+    int correctDrift();
+
+    /**
+     * 한 게시글의 댓글 수를 실제 댓글 수로 보정
+     */
+    @Modifying
+    @Query("UPDATE PostCommentCount pc " +
+           "SET pc.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post.id = pc.postId) " +
+           "WHERE pc.postId = :postId")
+    int correctDrift(@Param("postId") Long postId);
+}
@@ -0,0 +1,22 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.PostRenderedContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 게시글 본문 렌더링 결과 Repository
+ */
+@Repository
+public interface PostRenderedContentRepository extends JpaRepository<PostRenderedContent, Long> {
+
+    /**
+     * 현재 렌더러 버전으로 만든 HTML만 조회 (엔티티 로딩 없이 본문 문자열만)
+     */
+    @Query("SELECT r.html FROM PostRenderedContent r WHERE r.postId = :postId AND r.rendererVersion = :version")
+    Optional<String> findHtml(@Param("postId") Long postId, @Param("version") int version);
+}
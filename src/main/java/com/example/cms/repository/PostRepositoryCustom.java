@@ -0,0 +1,46 @@
+package com.example.cms.repository;
+
+import com.example.cms.dto.PostDetailDto;
+import com.example.cms.dto.PostSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 목록 화면용 요약 조회
+ * PostRepository가 이 인터페이스를 확장하면 PostRepositoryImpl 구현이 함께 등록된다.
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 발행된 게시글 목록 (최신순)
+     */
+    Page<PostSummaryDto> findPublishedPostSummaries(Pageable pageable);
+
+    /**
+     * 작성자의 게시글 목록 (임시저장 포함, 최신순)
+     */
+    Page<PostSummaryDto> findPostSummariesByAuthor(Long authorId, Pageable pageable);
+
+    /**
+     * 카테고리의 발행된 게시글 목록 (최신순)
+     */
+    Page<PostSummaryDto> findPublishedPostSummariesByCategory(Long categoryId, Pageable pageable);
+
+    /**
+     * 최근 발행된 게시글
+     */
+    List<PostSummaryDto> findRecentPostSummaries(int limit);
+
+    /**
+     * ID 목록의 게시글 (ID 목록 순서 유지)
+     */
+    List<PostSummaryDto> findPostSummariesByIds(List<Long> postIds);
+
+    /**
+     * 게시글 상세 (작성자/카테고리/태그 이름 포함, 엔티티를 로딩하지 않음)
+     */
+    Optional<PostDetailDto> findPostDetail(Long postId);
+}
@@ -0,0 +1,139 @@
+package com.example.cms.repository;
+
+import com.example.cms.dto.PostDetailDto;
+import com.example.cms.dto.PostSummaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 게시글 목록 요약 조회 구현
+ * 목록 한 페이지는 요약 행 조회 1회 + 태그 이름 조회 1회 (+ 페이지 전체 건수 1회)로 끝나며,
+ * 본문 컬럼과 작성자/카테고리/태그 엔티티는 로딩하지 않는다.
+ * 댓글 수는 게시글마다 세지 않고 비정규화된 post_comment_counts 값을 조인해 읽는다.
+ */
+@Transactional(readOnly = true)
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private static final String SUMMARY_SELECT =
+            "SELECT new com.example.cms.dto.PostSummaryDto(" +
+            "p.id, p.title, a.id, a.name, c.id, c.name, p.createdAt, " +
+            "COALESCE(pcc.commentCount, 0L)) " +
+            "FROM Post p JOIN p.author a LEFT JOIN p.category c " +
+            "LEFT JOIN PostCommentCount pcc ON pcc.postId = p.id ";
+
+    private static final String COUNT_SELECT = "SELECT COUNT(p) FROM Post p ";
+
+    private static final String ORDER_BY = " ORDER BY p.createdAt DESC, p.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<PostSummaryDto> findPublishedPostSummaries(Pageable pageable) {
+        return findPage("WHERE p.published = true", Map.of(), pageable);
+    }
+
+    @Override
+    public Page<PostSummaryDto> findPostSummariesByAuthor(Long authorId, Pageable pageable) {
+        return findPage("WHERE p.author.id = :authorId", Map.of("authorId", authorId), pageable);
+    }
+
+    @Override
+    public Page<PostSummaryDto> findPublishedPostSummariesByCategory(Long categoryId, Pageable pageable) {
+        return findPage("WHERE p.published = true AND p.category.id = :categoryId",
+                Map.of("categoryId", categoryId), pageable);
+    }
+
+    @Override
+    public List<PostSummaryDto> findRecentPostSummaries(int limit) {
+        List<PostSummaryDto> rows = entityManager
+                .createQuery(SUMMARY_SELECT + "WHERE p.published = true" + ORDER_BY, PostSummaryDto.class)
+                .setMaxResults(limit)
+                .getResultList();
+        return withTagNames(rows);
+    }
+
+    @Override
+    public List<PostSummaryDto> findPostSummariesByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummaryDto> byId = new HashMap<>();
+        entityManager.createQuery(SUMMARY_SELECT + "WHERE p.id IN :postIds", PostSummaryDto.class)
+                .setParameter("postIds", postIds)
+                .getResultList()
+                .forEach(row -> byId.put(row.id(), row));
+        List<PostSummaryDto> ordered = postIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return withTagNames(ordered);
+    }
+
+    @Override
+    public Optional<PostDetailDto> findPostDetail(Long postId) {
+        return entityManager.createQuery(
+                        "SELECT new com.example.cms.dto.PostDetailDto(" +
+                        "p.id, p.title, p.content, p.published, a.id, a.name, c.id, c.name, p.createdAt, p.updatedAt) " +
+                        "FROM Post p JOIN p.author a LEFT JOIN p.category c WHERE p.id = :postId", PostDetailDto.class)
+                .setParameter("postId", postId)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(detail -> detail.withTagNames(tagNamesByPost(List.of(postId)).getOrDefault(postId, List.of())));
+    }
+
+    private Page<PostSummaryDto> findPage(String where, Map<String, Object> parameters, Pageable pageable) {
+        TypedQuery<PostSummaryDto> query = entityManager
+                .createQuery(SUMMARY_SELECT + where + ORDER_BY, PostSummaryDto.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<PostSummaryDto> rows = withTagNames(query.getResultList());
+
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && rows.size() < pageable.getPageSize())) {
+            return new PageImpl<>(rows, pageable, rows.size());
+        }
+        TypedQuery<Long> countQuery = entityManager.createQuery(COUNT_SELECT + where, Long.class);
+        parameters.forEach(countQuery::setParameter);
+        return new PageImpl<>(rows, pageable, countQuery.getSingleResult());
+    }
+
+    /**
+     * 페이지의 모든 게시글 태그 이름을 한 번에 조회해 채움
+     */
+    private List<PostSummaryDto> withTagNames(List<PostSummaryDto> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Map<Long, List<String>> tagNamesByPost = tagNamesByPost(rows.stream().map(PostSummaryDto::id).toList());
+        return rows.stream()
+                .map(row -> row.withTagNames(tagNamesByPost.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    private Map<Long, List<String>> tagNamesByPost(List<Long> postIds) {
+        Map<Long, List<String>> tagNamesByPost = new LinkedHashMap<>();
+        entityManager.createQuery(
+                        "SELECT p.id, t.name FROM Post p JOIN p.tags t WHERE p.id IN :postIds ORDER BY t.name",
+                        Object[].class)
+                .setParameter("postIds", postIds)
+                .getResultList()
+                .forEach(row -> tagNamesByPost
+                        .computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add((String) row[1]));
+        return tagNamesByPost;
+    }
+}
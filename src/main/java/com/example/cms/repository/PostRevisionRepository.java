@@ -0,0 +1,51 @@
+package com.example.cms.repository;
+
+import com.example.cms.dto.PostRevisionDto;
+import com.example.cms.entity.PostRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 리비전 Repository
+ */
+@Repository
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    Optional<PostRevision> findTopByPostIdOrderByRevisionNumberDesc(Long postId);
+
+    Optional<PostRevision> findByPostIdAndRevisionNumber(Long postId, int revisionNumber);
+
+    /**
+     * 복원에 필요한 구간 (기준 스냅샷부터 대상 리비전까지)
+     */
+    List<PostRevision> findByPostIdAndRevisionNumberBetweenOrderByRevisionNumber(Long postId, int from, int to);
+
+    /**
+     * 리비전 목록 (본문/델타 컬럼 제외)
+     */
+    @Query("SELECT new com.example.cms.dto.PostRevisionDto(r.postId, r.revisionNumber, r.title, null, " +
+           "r.contentLength, r.createdAt) FROM PostRevision r WHERE r.postId = :postId " +
+           "ORDER BY r.revisionNumber DESC")
+    List<PostRevisionDto> findSummaries(@Param("postId") Long postId);
+
+    long countByPostId(Long postId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PostRevision r SET r.baseRevision = :cutoff " +
+           "WHERE r.postId = :postId AND r.revisionNumber > :cutoff AND r.baseRevision < :cutoff")
+    int rebase(@Param("postId") Long postId, @Param("cutoff") int cutoff);
+
+    @Modifying
+    @Query("DELETE FROM PostRevision r WHERE r.postId = :postId AND r.revisionNumber < :cutoff")
+    int deleteOlderThan(@Param("postId") Long postId, @Param("cutoff") int cutoff);
+
+    @Modifying
+    @Query("DELETE FROM PostRevision r WHERE r.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
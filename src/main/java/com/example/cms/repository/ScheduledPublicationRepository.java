@@ -0,0 +1,28 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.ScheduledPublication;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 예약 발행 Repository
+ */
+@Repository
+public interface ScheduledPublicationRepository extends JpaRepository<ScheduledPublication, Long> {
+
+    /**
+     * 예약 선점 (예약 시각이 그대로인 경우에만 삭제되므로 한 노드만 성공)
+     */
+    @Modifying
+    @Query("DELETE FROM ScheduledPublication s WHERE s.postId = :postId AND s.publishAt = :publishAt")
+    int claim(@Param("postId") Long postId, @Param("publishAt") LocalDateTime publishAt);
+
+    @Modifying
+    @Query("DELETE FROM ScheduledPublication s WHERE s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,12 @@
+package com.example.cms.repository;
+
+import com.example.cms.entity.StoredBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 업로드 파일 메타데이터 Repository
+ */
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+}
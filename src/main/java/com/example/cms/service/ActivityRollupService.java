@@ -0,0 +1,215 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.RollupPointDto;
+import com.example.cms.entity.ActivityRollup;
+import com.example.cms.entity.RollupGranularity;
+import com.example.cms.entity.RollupMetric;
+import com.example.cms.event.ChatRoomCreatedEvent;
+import com.example.cms.event.ChatRoomStatusChangedEvent;
+import com.example.cms.event.CommentCreatedEvent;
+import com.example.cms.event.NotificationCreatedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.UserRegisteredEvent;
+import com.example.cms.repository.ActivityRollupRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 추이 차트용 롤업 서비스
+ * 도메인 이벤트를 분/시간/일 버킷에 메모리로 누적했다가 주기적으로 activity_rollups 테이블에 증분 반영한다.
+ * 오래된 분/시간 버킷은 상위 단위에 이미 합산되어 있으므로 보존 기간이 지나면 삭제(compaction)한다.
+ */
+@Service
+public class ActivityRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityRollupService.class);
+
+    /** 한 번에 조회할 수 있는 최대 버킷 수 */
+    static final int MAX_BUCKETS = 2_000;
+
+    private final ActivityRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Map<BucketKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ActivityRollupService(ActivityRollupRepository rollupRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this(rollupRepository, transactionManager, Clock.systemDefaultZone());
+    }
+
+    ActivityRollupService(ActivityRollupRepository rollupRepository,
+                          PlatformTransactionManager transactionManager, Clock clock) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /**
+     * 이벤트 1건을 모든 단위의 버킷에 누적
+     * 증가를 맵 갱신 안에서 수행해, 반영 주기가 종료된 버킷을 맵에서 제거하는 것과 겹쳐도 증가분이 유실되지 않도록 한다.
+     */
+    public void record(RollupMetric metric, LocalDateTime occurredAt) {
+        LocalDateTime time = occurredAt != null ? occurredAt : LocalDateTime.now(clock);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            BucketKey key = new BucketKey(metric, granularity, granularity.truncate(time));
+            pending.compute(key, (k, adder) -> {
+                LongAdder target = adder != null ? adder : new LongAdder();
+                target.increment();
+                return target;
+            });
+        }
+    }
+
+    /**
+     * 구간 추이 조회 (양 끝 포함, 빈 버킷은 0)
+     * 아직 반영되지 않은 메모리 누적분도 함께 더한다.
+     * 분/시간 단위는 보존 기간이 지난 버킷이 삭제되어 0으로 보이므로, 보존 기간 이전부터의 조회는 거부한다.
+     */
+    @Transactional(readOnly = true)
+    public List<RollupPointDto> getSeries(RollupMetric metric, RollupGranularity granularity,
+                                          LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작 시각이 종료 시각보다 늦습니다.");
+        }
+        if (granularity.bucketsBetween(from, to) > MAX_BUCKETS) {
+            throw new IllegalArgumentException("조회 구간이 너무 깁니다. 최대 " + MAX_BUCKETS + "개 구간까지 조회할 수 있습니다.");
+        }
+        if (granularity.isCompacted() && granularity.truncate(from)
+                .isBefore(granularity.truncate(LocalDateTime.now(clock).minus(granularity.getRetention())))) {
+            throw new IllegalArgumentException("이 단위는 최근 " + granularity.getRetention().toDays()
+                    + "일까지만 조회할 수 있습니다. 더 이전 구간은 상위 단위로 조회해주세요.");
+        }
+
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime end = granularity.truncate(to);
+        Map<LocalDateTime, Long> stored = rollupRepository
+                .findByMetricAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(metric, granularity, start, end)
+                .stream()
+                .collect(Collectors.toMap(ActivityRollup::getBucketStart, ActivityRollup::getCount));
+
+        List<RollupPointDto> series = new ArrayList<>();
+        for (LocalDateTime bucket = start; !bucket.isAfter(end); bucket = granularity.next(bucket)) {
+            LongAdder unflushed = pending.get(new BucketKey(metric, granularity, bucket));
+            long count = stored.getOrDefault(bucket, 0L) + (unflushed != null ? unflushed.sum() : 0L);
+            series.add(new RollupPointDto(bucket, count));
+        }
+        return series;
+    }
+
+    /**
+     * 메모리 누적분을 테이블에 증분 반영
+     * 버킷마다 짧은 트랜잭션으로 UPDATE 후 없으면 INSERT하며, 다른 노드와 INSERT가 겹치면 UPDATE로 재시도한다.
+     */
+    @Scheduled(fixedDelayString = "${cms.rollup.flush-interval-ms:5000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        pending.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                // 종료된 버킷은 맵에서 제거 (늦게 도착한 이벤트가 그 사이 증가시켰으면 다음 주기에 반영)
+                if (!key.granularity().next(key.bucketStart()).isAfter(now.minusMinutes(1))) {
+                    pending.computeIfPresent(key, (k, current) -> current == adder && current.sum() == 0 ? null : current);
+                }
+                return;
+            }
+            try {
+                persist(key, delta);
+            } catch (RuntimeException e) {
+                adder.add(delta);
+                log.warn("롤업 반영 실패, 다음 주기에 재시도: key={}, delta={}", key, delta, e);
+            }
+        });
+    }
+
+    private void persist(BucketKey key, long delta) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(key, delta));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 버킷을 INSERT한 경우: 이제 행이 있으므로 UPDATE로 반영
+            transactionTemplate.executeWithoutResult(status -> upsert(key, delta));
+        }
+    }
+
+    private void upsert(BucketKey key, long delta) {
+        int updated = rollupRepository.incrementCount(key.metric(), key.granularity(), key.bucketStart(), delta);
+        if (updated == 0) {
+            rollupRepository.saveAndFlush(new ActivityRollup(key.metric(), key.granularity(), key.bucketStart(), delta));
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 분/시간 버킷 삭제
+     */
+    @Scheduled(cron = "${cms.rollup.compaction-cron:0 30 3 * * *}")
+    @Transactional
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            if (granularity.isCompacted()) {
+                int deleted = rollupRepository.deleteByGranularityAndBucketStartBefore(
+                        granularity, granularity.truncate(now.minus(granularity.getRetention())));
+                log.info("롤업 버킷 정리: granularity={}, deleted={}", granularity, deleted);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        record(RollupMetric.SIGNUPS, event.registeredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        record(RollupMetric.POSTS, event.createdAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        record(RollupMetric.COMMENTS, event.createdAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomCreated(ChatRoomCreatedEvent event) {
+        record(RollupMetric.CHAT_ROOMS_OPENED, event.createdAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomStatusChanged(ChatRoomStatusChangedEvent event) {
+        if (event.closed()) {
+            record(RollupMetric.CHAT_ROOMS_CLOSED, event.changedAt());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        record(RollupMetric.NOTIFICATIONS_SENT, event.createdAt());
+    }
+
+    record BucketKey(RollupMetric metric, RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.StoredBlobDto;
+import com.example.cms.entity.StoredBlob;
+import com.example.cms.event.BlobStoredEvent;
+import com.example.cms.repository.StoredBlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소 기반 파일 저장소
+ * 업로드는 고정 크기 버퍼로 임시 파일에 쓰면서 SHA-256을 계산하고, 끝나면 해시 이름의 파일로 옮긴다.
+ * 같은 내용이 이미 있으면 임시 파일만 지우므로 중복 저장되지 않으며, 파일 전체가 힙에 올라오는 일은 없다.
+ * 파일 내용은 바뀌지 않으므로 해시를 그대로 ETag로 쓸 수 있다.
+ */
+@Service
+public class BlobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(BlobStore.class);
+
+    public static final String URL_PREFIX = "/api/files/";
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String DEFAULT_CONTENT_TYPE = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Path root;
+    private final Path tempDirectory;
+    private final long maxSize;
+
+    public BlobStore(StoredBlobRepository storedBlobRepository,
+                     ApplicationEventPublisher eventPublisher,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${cms.storage.blob-dir:${java.io.tmpdir}/cms-blobs}") String directory,
+                     @Value("${cms.storage.max-upload-size:52428800}") long maxSize) throws IOException {
+        this.storedBlobRepository = storedBlobRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        this.tempDirectory = Files.createDirectories(root.resolve("tmp"));
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 파일 저장 (같은 내용이 이미 저장되어 있으면 기존 파일을 그대로 사용)
+     *
+     * @throws IllegalArgumentException 빈 파일이거나 최대 크기를 넘는 경우
+     */
+    public StoredBlobDto store(InputStream input, String contentType) throws IOException {
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[CHUNK_SIZE];
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new IllegalArgumentException("파일 크기는 " + maxSize + "바이트를 넘을 수 없습니다.");
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("빈 파일은 저장할 수 없습니다.");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(hash);
+            if (Files.exists(target)) {
+                log.debug("중복 파일 업로드: hash={}", hash);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    log.debug("동시에 같은 파일이 저장됨: hash={}", hash);
+                }
+            }
+            StoredBlob blob = saveMetadata(hash, size, normalizeContentType(contentType));
+            eventPublisher.publishEvent(new BlobStoredEvent(blob.getHash(), blob.getContentType(), blob.getSize()));
+            return toDto(blob);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 파일 정보 조회 (형식이 맞지 않는 해시는 없는 것으로 처리)
+     */
+    public Optional<StoredBlobDto> find(String hash) {
+        if (!isValidHash(hash)) {
+            return Optional.empty();
+        }
+        return transactionTemplate.execute(status -> storedBlobRepository.findById(hash))
+                .filter(blob -> Files.isRegularFile(resolve(blob.getHash())))
+                .map(this::toDto);
+    }
+
+    /**
+     * 저장된 파일 경로 (해시 앞 4자리로 두 단계 하위 디렉터리를 나눔)
+     */
+    public Path resolve(String hash) {
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("잘못된 파일 해시입니다: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    public static String urlOf(String hash) {
+        return URL_PREFIX + hash;
+    }
+
+    static boolean isValidHash(String hash) {
+        return hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+
+    private StoredBlob saveMetadata(String hash, long size, String contentType) {
+        try {
+            return transactionTemplate.execute(status -> storedBlobRepository.findById(hash)
+                    .orElseGet(() -> storedBlobRepository.saveAndFlush(new StoredBlob(hash, size, contentType))));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 파일의 메타데이터를 먼저 저장함
+            return transactionTemplate.execute(status -> storedBlobRepository.findById(hash)).orElseThrow(() -> e);
+        }
+    }
+
+    private StoredBlobDto toDto(StoredBlob blob) {
+        return new StoredBlobDto(blob.getHash(), blob.getSize(), blob.getContentType(), urlOf(blob.getHash()));
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                return DEFAULT_CONTENT_TYPE;
+            }
+            return (mediaType.getType() + "/" + mediaType.getSubtype()).toLowerCase(Locale.ROOT);
+        } catch (InvalidMediaTypeException e) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
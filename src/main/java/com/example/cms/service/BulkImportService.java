@@ -0,0 +1,740 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.ImportJobDto;
+import com.example.cms.entity.ImportCheckpoint;
+import com.example.cms.event.BulkImportCompletedEvent;
+import com.example.cms.repository.EntityTableMapping;
+import com.example.cms.repository.IdentityAdjuster;
+import com.example.cms.repository.ImportCheckpointRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자/게시글/댓글 대량 가져오기 서비스
+ * 업로드한 JSONL/CSV 파일을 작업 디렉터리에 저장한 뒤 레코드 묶음 단위로 흘려 보낸다.
+ * <ol>
+ *     <li>읽기: 작업 스레드가 파일을 순차로 읽는다.</li>
+ *     <li>검증: 파싱/검증/비밀번호 암호화를 검증 스레드 풀에서 병렬로 수행하며, 이전 묶음을 쓰는 동안 다음 묶음을 검증한다.</li>
+ *     <li>조회: 작성자, 카테고리, 태그, 부모 게시글/댓글을 묶음 전체에 대해 IN 쿼리로 한 번에 해석한다.</li>
+ *     <li>쓰기: 행을 JDBC batch INSERT해 생성된 키를 돌려받고, 그 ID로 태그 연결을 넣은 뒤 같은 트랜잭션에서 체크포인트를 갱신한다.</li>
+ * </ol>
+ * 실패하거나 서버가 중단된 작업은 체크포인트 다음 레코드부터 다시 시작할 수 있다.
+ * 가져온 행은 개별 도메인 이벤트를 발행하지 않으며, 완료 시 BulkImportCompletedEvent로 카운터를 보정한다.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final Set<String> ROLES = Set.of("CUSTOMER", "ADMIN");
+    private static final int MAX_ERRORS = 100;
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final Duration JOB_RETENTION = Duration.ofDays(1);
+
+    private final ImportCheckpointRepository checkpointRepository;
+    private final EntityTableMapping tableMapping;
+    private final IdentityAdjuster identityAdjuster;
+    private final TagResolver tagResolver;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService bulkJobExecutor;
+    private final ExecutorService validationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Path workDirectory;
+    private final int batchSize;
+    private final int parallelism;
+    private final String nodeId;
+
+    private final Map<String, List<String>> errors = new ConcurrentHashMap<>();
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkImportService(ImportCheckpointRepository checkpointRepository,
+                             EntityTableMapping tableMapping,
+                             IdentityAdjuster identityAdjuster,
+                             TagResolver tagResolver,
+                             PasswordEncoder passwordEncoder,
+                             JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             @Qualifier("bulkJobExecutor") ExecutorService bulkJobExecutor,
+                             @Qualifier("importValidationExecutor") ExecutorService validationExecutor,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${cms.import.work-dir:${java.io.tmpdir}/cms-import}") String workDirectory,
+                             @Value("${cms.import.batch-size:5000}") int batchSize,
+                             @Value("${cms.import.node-id:${HOSTNAME:local}}") String nodeId) {
+        this.checkpointRepository = checkpointRepository;
+        this.tableMapping = tableMapping;
+        this.identityAdjuster = identityAdjuster;
+        this.tagResolver = tagResolver;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.validationExecutor = validationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workDirectory = Paths.get(workDirectory);
+        this.batchSize = batchSize;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 가져오기 작업 시작
+     * 입력은 작업 디렉터리에 복사된 뒤 백그라운드에서 처리되며, 재개 시 같은 파일을 다시 읽는다.
+     */
+    public ImportJobDto start(ImportKind kind, ImportFormat format, InputStream input, String fileName) {
+        if (kind == null || format == null) {
+            throw new IllegalArgumentException("가져오기 대상과 형식을 지정해야 합니다.");
+        }
+        String jobId = UUID.randomUUID().toString();
+        Path file = workDirectory.resolve(jobId + "." + format.name().toLowerCase());
+        try {
+            Files.createDirectories(workDirectory);
+            Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 파일을 저장하지 못했습니다.", e);
+        }
+
+        ImportCheckpoint checkpoint = checkpointRepository.save(
+                new ImportCheckpoint(jobId, kind, format, fileName, file.toString()));
+        submit(checkpoint);
+        return ImportJobDto.from(checkpoint, List.of());
+    }
+
+    /**
+     * 실패/중단된 작업을 체크포인트부터 재개
+     */
+    public ImportJobDto resume(String jobId) {
+        ImportCheckpoint checkpoint = checkpointRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("가져오기 작업을 찾을 수 없습니다: " + jobId));
+        if (!checkpoint.isResumable() || activeJobs.contains(jobId)) {
+            throw new IllegalArgumentException("재개할 수 없는 상태입니다: " + checkpoint.getStatus());
+        }
+        if (!Files.exists(Paths.get(checkpoint.getFilePath()))) {
+            throw new IllegalArgumentException("가져오기 파일이 없어 재개할 수 없습니다.");
+        }
+        submit(checkpoint);
+        return ImportJobDto.from(checkpoint, List.of());
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<ImportJobDto> getJob(String jobId) {
+        return checkpointRepository.findById(jobId)
+                .map(checkpoint -> ImportJobDto.from(checkpoint, errors.getOrDefault(jobId, List.of())));
+    }
+
+    /**
+     * 기동 시 이 노드에서 대기/실행 중으로 남은 작업을 중단 상태로 표시 (재개 가능)
+     * 다른 노드의 작업은 그 노드에서 실행 중일 수 있으므로 건드리지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        for (String status : List.of(ImportCheckpoint.PENDING, ImportCheckpoint.RUNNING)) {
+            for (ImportCheckpoint checkpoint : checkpointRepository.findByStatusAndOwner(status, nodeId)) {
+                if (!activeJobs.contains(checkpoint.getJobId())) {
+                    checkpoint.changeStatus(ImportCheckpoint.INTERRUPTED, "서버 재시작으로 중단됨");
+                    checkpointRepository.save(checkpoint);
+                }
+            }
+        }
+    }
+
+    private void submit(ImportCheckpoint checkpoint) {
+        String jobId = checkpoint.getJobId();
+        removeExpiredJobs();
+        if (!activeJobs.add(jobId)) {
+            throw new IllegalArgumentException("이미 실행 중인 작업입니다.");
+        }
+        transactionTemplate.executeWithoutResult(tx -> checkpointRepository.findById(jobId).ifPresent(current -> {
+            current.claim(nodeId);
+            current.changeStatus(ImportCheckpoint.PENDING, null);
+        }));
+        errors.put(jobId, Collections.synchronizedList(new ArrayList<>()));
+        try {
+            bulkJobExecutor.execute(() -> run(jobId));
+        } catch (RuntimeException e) {
+            activeJobs.remove(jobId);
+            throw e;
+        }
+    }
+
+    void run(String jobId) {
+        ImportCheckpoint checkpoint = checkpointRepository.findById(jobId).orElseThrow();
+        ImportKind kind = checkpoint.getKind();
+        updateStatus(jobId, ImportCheckpoint.RUNNING, null);
+
+        try (ImportRecordReader reader = ImportRecordReader.open(Paths.get(checkpoint.getFilePath()),
+                checkpoint.getFormat())) {
+            reader.skip(checkpoint.getCommittedRecords());
+
+            CompletableFuture<List<ImportRow>> next = validate(kind, reader.nextBatch(batchSize));
+            while (true) {
+                List<ImportRow> batch = next.join();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                next = validate(kind, reader.nextBatch(batchSize));
+                write(jobId, kind, batch);
+            }
+
+            updateStatus(jobId, ImportCheckpoint.COMPLETED, null);
+            Files.deleteIfExists(Paths.get(checkpoint.getFilePath()));
+            long imported = checkpointRepository.findById(jobId).map(ImportCheckpoint::getImportedRows).orElse(0L);
+            log.info("대량 가져오기 완료: jobId={}, kind={}, imported={}", jobId, kind, imported);
+            eventPublisher.publishEvent(new BulkImportCompletedEvent(jobId, kind, imported));
+        } catch (IOException | RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            updateStatus(jobId, ImportCheckpoint.FAILED, cause.getMessage());
+            log.error("대량 가져오기 실패: jobId={}, kind={}", jobId, kind, cause);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 이 노드의 작업 정리
+     * 완료된 작업은 체크포인트와 오류 목록을 함께 지우고, 실패/중단된 작업은 재개할 수 있도록 체크포인트는 남긴다.
+     */
+    private void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(JOB_RETENTION);
+        transactionTemplate.executeWithoutResult(tx -> {
+            List<ImportCheckpoint> completed = checkpointRepository.findByStatusAndOwnerAndUpdatedAtBefore(
+                    ImportCheckpoint.COMPLETED, nodeId, threshold);
+            completed.forEach(checkpoint -> errors.remove(checkpoint.getJobId()));
+            checkpointRepository.deleteAll(completed);
+            for (String status : List.of(ImportCheckpoint.FAILED, ImportCheckpoint.INTERRUPTED)) {
+                checkpointRepository.findByStatusAndOwnerAndUpdatedAtBefore(status, nodeId, threshold)
+                        .forEach(checkpoint -> errors.remove(checkpoint.getJobId()));
+            }
+        });
+    }
+
+    private void updateStatus(String jobId, String status, String message) {
+        transactionTemplate.executeWithoutResult(tx -> checkpointRepository.findById(jobId)
+                .ifPresent(checkpoint -> checkpoint.changeStatus(status, message)));
+    }
+
+    // ---------------------------------------------------------------- 검증 단계
+
+    /**
+     * 가져올 레코드 하나 (values는 검증 후 정규화된 값, error가 있으면 거부)
+     */
+    record ImportRow(long number, Map<String, Object> values, String error) {
+
+        static ImportRow rejected(long number, String error) {
+            return new ImportRow(number, Map.of(), error);
+        }
+
+        boolean isValid() {
+            return error == null;
+        }
+
+        ImportRow reject(String reason) {
+            return new ImportRow(number, values, reason);
+        }
+
+        Object get(String key) {
+            return values.get(key);
+        }
+    }
+
+    /**
+     * 묶음을 코어 수만큼 나눠 병렬 검증 (결과는 레코드 순서 유지)
+     */
+    private CompletableFuture<List<ImportRow>> validate(ImportKind kind, List<ImportRecordReader.RawRecord> records) {
+        if (records.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        int sliceSize = Math.max(1, (records.size() + parallelism - 1) / parallelism);
+        List<CompletableFuture<List<ImportRow>>> slices = new ArrayList<>();
+        for (int from = 0; from < records.size(); from += sliceSize) {
+            List<ImportRecordReader.RawRecord> slice = records.subList(from, Math.min(from + sliceSize, records.size()));
+            slices.add(CompletableFuture.supplyAsync(
+                    () -> slice.stream().map(record -> validate(kind, record)).toList(), validationExecutor));
+        }
+        return CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new))
+                .thenApply(done -> slices.stream().flatMap(slice -> slice.join().stream()).toList());
+    }
+
+    private ImportRow validate(ImportKind kind, ImportRecordReader.RawRecord record) {
+        Map<String, Object> raw;
+        if (record.line() != null) {
+            try {
+                raw = objectMapper.readValue(record.line(), new TypeReference<LinkedHashMap<String, Object>>() {
+                });
+            } catch (JsonProcessingException e) {
+                return ImportRow.rejected(record.number(), "JSON 형식 오류");
+            }
+        } else {
+            raw = new LinkedHashMap<>(record.fields());
+        }
+
+        try {
+            Map<String, Object> values = switch (kind) {
+                case USERS -> validateUser(raw);
+                case POSTS -> validatePost(raw);
+                case COMMENTS -> validateComment(raw);
+            };
+            return new ImportRow(record.number(), values, null);
+        } catch (IllegalArgumentException e) {
+            return ImportRow.rejected(record.number(), e.getMessage());
+        }
+    }
+
+    private Map<String, Object> validateUser(Map<String, Object> raw) {
+        Map<String, Object> values = new HashMap<>();
+        String email = required(raw, "email", 100).toLowerCase();
+        if (!EMAIL.matcher(email).matches()) {
+            throw new IllegalArgumentException("이메일 형식이 올바르지 않습니다.");
+        }
+        values.put("email", email);
+        values.put("name", required(raw, "name", 50));
+
+        String passwordHash = text(raw, "passwordHash");
+        if (passwordHash == null) {
+            String password = required(raw, "password", 100);
+            if (password.length() < 8) {
+                throw new IllegalArgumentException("비밀번호는 8자 이상이어야 합니다.");
+            }
+            passwordHash = passwordEncoder.encode(password);
+        }
+        values.put("password", passwordHash);
+
+        String role = Optional.ofNullable(text(raw, "role")).map(String::toUpperCase).orElse("CUSTOMER");
+        if (!ROLES.contains(role)) {
+            throw new IllegalArgumentException("알 수 없는 역할입니다: " + role);
+        }
+        values.put("role", role);
+        values.put("active", bool(raw, "active", true));
+        values.put("createdAt", dateTime(raw, "createdAt"));
+        return values;
+    }
+
+    private Map<String, Object> validatePost(Map<String, Object> raw) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", number(raw, "id"));
+        values.put("authorEmail", required(raw, "authorEmail", 100).toLowerCase());
+        values.put("title", required(raw, "title", 200));
+        values.put("content", required(raw, "content", Integer.MAX_VALUE));
+        values.put("category", text(raw, "category"));
+        values.put("tags", tagNames(raw.get("tags")));
+        values.put("published", bool(raw, "published", false));
+        values.put("createdAt", dateTime(raw, "createdAt"));
+        return values;
+    }
+
+    private Map<String, Object> validateComment(Map<String, Object> raw) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", number(raw, "id"));
+        Long postId = number(raw, "postId");
+        if (postId == null) {
+            throw new IllegalArgumentException("postId는 필수입니다.");
+        }
+        values.put("postId", postId);
+        values.put("parentId", number(raw, "parentId"));
+        values.put("authorEmail", required(raw, "authorEmail", 100).toLowerCase());
+        values.put("content", required(raw, "content", 1000));
+        values.put("createdAt", dateTime(raw, "createdAt"));
+        return values;
+    }
+
+    private static String text(Map<String, Object> raw, String key) {
+        Object value = raw.get(key);
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static String required(Map<String, Object> raw, String key, int maxLength) {
+        String value = text(raw, key);
+        if (value == null) {
+            throw new IllegalArgumentException(key + "는 필수입니다.");
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(key + "는 " + maxLength + "자를 초과할 수 없습니다.");
+        }
+        return value;
+    }
+
+    private static Long number(Map<String, Object> raw, String key) {
+        String value = text(raw, key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            long number = Long.parseLong(value);
+            if (number <= 0) {
+                throw new NumberFormatException();
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + "는 양의 정수여야 합니다.");
+        }
+    }
+
+    private static boolean bool(Map<String, Object> raw, String key, boolean defaultValue) {
+        String value = text(raw, key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return switch (value.toLowerCase()) {
+            case "true", "1", "y", "yes" -> true;
+            case "false", "0", "n", "no" -> false;
+            default -> throw new IllegalArgumentException(key + " 값이 올바르지 않습니다.");
+        };
+    }
+
+    private static LocalDateTime dateTime(Map<String, Object> raw, String key) {
+        String value = text(raw, key);
+        if (value == null) {
+            return LocalDateTime.now();
+        }
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(key + " 날짜 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * JSON 배열 또는 '|'/';'로 구분한 문자열
+     */
+    private static List<String> tagNames(Object value) {
+        if (value == null) {
+            return List.of();
+        }
+        Collection<?> names = value instanceof Collection<?> collection
+                ? collection
+                : Arrays.asList(value.toString().split("[|;]"));
+        return List.copyOf(TagResolver.normalize(names.stream().map(String::valueOf).toList()));
+    }
+
+    // ---------------------------------------------------------------- 조회/쓰기 단계
+
+    private void write(String jobId, ImportKind kind, List<ImportRow> batch) {
+        List<ImportRow> rows = switch (kind) {
+            case USERS -> resolveUsers(batch);
+            case POSTS -> resolvePosts(batch);
+            case COMMENTS -> resolveComments(batch);
+        };
+        List<ImportRow> valid = rows.stream().filter(ImportRow::isValid).toList();
+        rows.stream().filter(row -> !row.isValid()).forEach(row -> recordError(jobId, row));
+
+        String entity = switch (kind) {
+            case USERS -> "User";
+            case POSTS -> "Post";
+            case COMMENTS -> "Comment";
+        };
+        boolean explicitIds = valid.stream().anyMatch(row -> row.get("id") != null);
+        insertBatch(jobId, kind, batch.size(), valid);
+        if (explicitIds) {
+            identityAdjuster.ensureAbove(tableMapping.table(entity), tableMapping.idColumn(entity));
+        }
+    }
+
+    private void insertBatch(String jobId, ImportKind kind, int records, List<ImportRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            switch (kind) {
+                case USERS -> insertUsers(rows);
+                case POSTS -> insertPosts(rows);
+                case COMMENTS -> insertComments(rows);
+            }
+            ImportCheckpoint checkpoint = checkpointRepository.findById(jobId).orElseThrow();
+            checkpoint.advance(records, rows.size(), records - rows.size());
+        });
+    }
+
+    private List<ImportRow> resolveUsers(List<ImportRow> batch) {
+        Set<Object> existing = new HashSet<>(lookup(
+                "SELECT u.email, u.id FROM User u WHERE u.email IN :keys", values(batch, "email")).keySet());
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (row.isValid() && !existing.add((String) row.get("email"))) {
+                row = row.reject("이미 사용 중인 이메일입니다.");
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private List<ImportRow> resolvePosts(List<ImportRow> batch) {
+        Map<Object, Long> authors = lookup(
+                "SELECT u.email, u.id FROM User u WHERE u.email IN :keys", values(batch, "authorEmail"));
+        Map<Object, Long> categories = lookup("SELECT c.name, c.id FROM Category c WHERE c.name IN :keys",
+                values(batch, "category"));
+        Set<Object> existingIds = new HashSet<>(lookup(
+                "SELECT p.id, p.id FROM Post p WHERE p.id IN :keys", values(batch, "id")).keySet());
+
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        Set<String> tagNames = new HashSet<>();
+        for (ImportRow row : batch) {
+            if (row.isValid()) {
+                Long authorId = authors.get(row.get("authorEmail"));
+                String category = (String) row.get("category");
+                if (authorId == null) {
+                    row = row.reject("작성자를 찾을 수 없습니다: " + row.get("authorEmail"));
+                } else if (category != null && !categories.containsKey(category)) {
+                    row = row.reject("카테고리를 찾을 수 없습니다: " + category);
+                } else if (row.get("id") != null && !existingIds.add(row.get("id"))) {
+                    row = row.reject("이미 존재하는 게시글 ID입니다: " + row.get("id"));
+                } else {
+                    row.values().put("authorId", authorId);
+                    row.values().put("categoryId", category != null ? categories.get(category) : null);
+                    @SuppressWarnings("unchecked")
+                    List<String> tags = (List<String>) row.get("tags");
+                    tagNames.addAll(tags);
+                }
+            }
+            rows.add(row);
+        }
+
+        // 다른 행이 대소문자만 다르게 쓴 이름도 같은 태그이므로 대소문자 구분 없는 키로 찾음
+        Map<String, Long> tagIds = new HashMap<>();
+        tagResolver.resolveIds(tagNames).forEach((name, id) -> tagIds.put(TagResolver.key(name), id));
+        rows.stream().filter(ImportRow::isValid).forEach(row -> {
+            @SuppressWarnings("unchecked")
+            List<String> tags = (List<String>) row.get("tags");
+            row.values().put("tagIds", tags.stream().map(tag -> tagIds.get(TagResolver.key(tag))).toList());
+        });
+        return rows;
+    }
+
+    private List<ImportRow> resolveComments(List<ImportRow> batch) {
+        Map<Object, Long> authors = lookup(
+                "SELECT u.email, u.id FROM User u WHERE u.email IN :keys", values(batch, "authorEmail"));
+        Set<Object> posts = lookup("SELECT p.id, p.id FROM Post p WHERE p.id IN :keys", values(batch, "postId"))
+                .keySet();
+        Map<Object, Long> parents = lookup("SELECT cm.id, cm.post.id FROM Comment cm WHERE cm.id IN :keys",
+                values(batch, "parentId"));
+        Set<Object> existingIds = new HashSet<>(lookup(
+                "SELECT cm.id, cm.id FROM Comment cm WHERE cm.id IN :keys", values(batch, "id")).keySet());
+
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (row.isValid()) {
+                Long authorId = authors.get(row.get("authorEmail"));
+                Object parentId = row.get("parentId");
+                if (authorId == null) {
+                    row = row.reject("작성자를 찾을 수 없습니다: " + row.get("authorEmail"));
+                } else if (!posts.contains(row.get("postId"))) {
+                    row = row.reject("게시글을 찾을 수 없습니다: " + row.get("postId"));
+                } else if (parentId != null && !row.get("postId").equals(parents.get(parentId))) {
+                    row = row.reject("같은 게시글의 상위 댓글을 찾을 수 없습니다: " + parentId);
+                } else if (row.get("id") != null && !existingIds.add(row.get("id"))) {
+                    row = row.reject("이미 존재하는 댓글 ID입니다: " + row.get("id"));
+                } else {
+                    row.values().put("authorId", authorId);
+                    if (row.get("id") != null) {
+                        // 같은 묶음의 뒤쪽 답글이 이 댓글을 상위 댓글로 참조할 수 있음
+                        parents.put(row.get("id"), (Long) row.get("postId"));
+                    }
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private void insertUsers(List<ImportRow> rows) {
+        Map<String, Function<ImportRow, Object>> columns = new LinkedHashMap<>();
+        columns.put(tableMapping.column("User", "email"), row -> row.get("email"));
+        columns.put(tableMapping.column("User", "name"), row -> row.get("name"));
+        columns.put(tableMapping.column("User", "password"), row -> row.get("password"));
+        columns.put(tableMapping.column("User", "role"), row -> row.get("role"));
+        columns.put(tableMapping.column("User", "active"), row -> row.get("active"));
+        columns.put(tableMapping.column("User", "createdAt"), row -> row.get("createdAt"));
+        tableMapping.optionalColumn("User", "updatedAt").ifPresent(column -> columns.put(column, row -> row.get("createdAt")));
+        insert("User", columns, rows);
+    }
+
+    private void insertPosts(List<ImportRow> rows) {
+        Map<String, Function<ImportRow, Object>> columns = new LinkedHashMap<>();
+        columns.put(tableMapping.column("Post", "title"), row -> row.get("title"));
+        columns.put(tableMapping.column("Post", "content"), row -> row.get("content"));
+        columns.put(tableMapping.column("Post", "author"), row -> row.get("authorId"));
+        columns.put(tableMapping.column("Post", "category"), row -> row.get("categoryId"));
+        columns.put(tableMapping.column("Post", "published"), row -> row.get("published"));
+        columns.put(tableMapping.column("Post", "createdAt"), row -> row.get("createdAt"));
+        tableMapping.optionalColumn("Post", "updatedAt").ifPresent(column -> columns.put(column, row -> row.get("createdAt")));
+        List<Long> ids = insert("Post", columns, rows);
+
+        List<Object[]> postTags = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<Long> tagIds = (List<Long>) rows.get(i).get("tagIds");
+            for (Long tagId : tagIds) {
+                postTags.add(new Object[]{ids.get(i), tagId});
+            }
+        }
+        if (!postTags.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO " + tableMapping.joinTable("Post", "tags") + " ("
+                    + tableMapping.joinKeyColumn("Post", "tags") + ", "
+                    + tableMapping.joinElementColumn("Post", "tags") + ") VALUES (?, ?)", postTags);
+        }
+    }
+
+    private void insertComments(List<ImportRow> rows) {
+        Map<String, Function<ImportRow, Object>> columns = new LinkedHashMap<>();
+        columns.put(tableMapping.column("Comment", "content"), row -> row.get("content"));
+        columns.put(tableMapping.column("Comment", "post"), row -> row.get("postId"));
+        columns.put(tableMapping.column("Comment", "author"), row -> row.get("authorId"));
+        columns.put(tableMapping.column("Comment", "parentComment"), row -> row.get("parentId"));
+        columns.put(tableMapping.column("Comment", "createdAt"), row -> row.get("createdAt"));
+        tableMapping.optionalColumn("Comment", "updatedAt").ifPresent(column -> columns.put(column, row -> row.get("createdAt")));
+        insert("Comment", columns, rows);
+    }
+
+    /**
+     * 행을 batch INSERT하고 입력 순서대로 ID 반환
+     * ID를 지정한 행은 그 값으로 넣고, 나머지는 자동 증가 값으로 넣은 뒤 생성된 키를 돌려받는다.
+     */
+    private List<Long> insert(String entity, Map<String, Function<ImportRow, Object>> columns, List<ImportRow> rows) {
+        List<Long> ids = new ArrayList<>(Collections.nCopies(rows.size(), null));
+        List<Integer> explicit = new ArrayList<>();
+        List<Integer> generated = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            (rows.get(i).get("id") != null ? explicit : generated).add(i);
+        }
+        List<Function<ImportRow, Object>> extractors = new ArrayList<>(columns.values());
+
+        if (!explicit.isEmpty()) {
+            String sql = "INSERT INTO " + tableMapping.table(entity) + " (" + tableMapping.idColumn(entity) + ", "
+                    + String.join(", ", columns.keySet()) + ") VALUES (?" + ", ?".repeat(columns.size()) + ")";
+            List<Object[]> parameters = new ArrayList<>(explicit.size());
+            for (int i : explicit) {
+                Long id = (Long) rows.get(i).get("id");
+                Object[] values = new Object[extractors.size() + 1];
+                values[0] = id;
+                for (int column = 0; column < extractors.size(); column++) {
+                    values[column + 1] = extractors.get(column).apply(rows.get(i));
+                }
+                parameters.add(values);
+                ids.set(i, id);
+            }
+            jdbcTemplate.batchUpdate(sql, parameters);
+        }
+
+        if (!generated.isEmpty()) {
+            String sql = "INSERT INTO " + tableMapping.table(entity) + " (" + String.join(", ", columns.keySet())
+                    + ") VALUES (?" + ", ?".repeat(columns.size() - 1) + ")";
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int index) throws SQLException {
+                            ImportRow row = rows.get(generated.get(index));
+                            for (int column = 0; column < extractors.size(); column++) {
+                                ps.setObject(column + 1, extractors.get(column).apply(row));
+                            }
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return generated.size();
+                        }
+                    },
+                    keys);
+            List<Map<String, Object>> keyList = keys.getKeyList();
+            if (keyList.size() != generated.size()) {
+                throw new IllegalStateException("생성된 ID 수가 행 수와 다릅니다: " + entity);
+            }
+            for (int i = 0; i < generated.size(); i++) {
+                ids.set(generated.get(i), ((Number) keyList.get(i).values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 키 목록을 나눠 IN 쿼리로 (키 → 값) 조회
+     */
+    private Map<Object, Long> lookup(String jpql, Collection<?> keys) {
+        Map<Object, Long> result = new HashMap<>();
+        List<?> distinct = keys.stream().distinct().toList();
+        for (int from = 0; from < distinct.size(); from += LOOKUP_CHUNK_SIZE) {
+            entityManager.createQuery(jpql, Object[].class)
+                    .setParameter("keys", distinct.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, distinct.size())))
+                    .getResultList()
+                    .forEach(row -> result.put(row[0], (Long) row[1]));
+        }
+        return result;
+    }
+
+    private static List<Object> values(List<ImportRow> batch, String key) {
+        return batch.stream()
+                .filter(ImportRow::isValid)
+                .map(row -> row.get(key))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void recordError(String jobId, ImportRow row) {
+        List<String> jobErrors = errors.get(jobId);
+        if (jobErrors != null && jobErrors.size() < MAX_ERRORS) {
+            jobErrors.add("레코드 " + row.number() + ": " + row.error());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.CommentCursor;
+import com.example.cms.dto.CommentNodeDto;
+import com.example.cms.dto.CommentSliceDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 커서 기반 댓글 조회
+ * (작성 시각, ID) 순서의 keyset 조회라 OFFSET과 COUNT 없이 몇 번째 묶음이든 같은 비용으로 읽는다.
+ * 묶음 크기보다 한 건 더 읽어 다음 묶음이 있는지 판단한다.
+ * 작성 시각은 커밋 순서와 다를 수 있어(늦게 커밋된 댓글이 이미 지난 커서 앞에 나타남) 새 댓글 조회는
+ * 커서 앞의 짧은 구간(since-overlap-seconds)을 다시 읽어 함께 반환하며, 클라이언트는 댓글 ID로 중복을 걸러낸다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CommentCursorService {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String FROM =
+            "FROM Comment c LEFT JOIN c.author a LEFT JOIN CommentPath cp ON cp.commentId = c.id ";
+
+    private static final String AFTER_CURSOR =
+            " AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))";
+
+    private static final String ORDER_BY = " ORDER BY c.createdAt, c.id";
+
+    private final long sinceOverlapSeconds;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CommentCursorService(@Value("${cms.comments.since-overlap-seconds:10}") long sinceOverlapSeconds) {
+        this.sinceOverlapSeconds = sinceOverlapSeconds;
+    }
+
+    /**
+     * 게시글의 댓글을 볼 수 있는지 (발행된 글은 누구나, 임시저장 글은 작성자와 관리자만, 없는 글은 false)
+     */
+    public boolean canView(Long postId, String email, boolean admin) {
+        return isVisible(entityManager.createQuery(
+                        "SELECT p.published, a.email FROM Post p LEFT JOIN p.author a WHERE p.id = :postId",
+                        Object[].class)
+                .setParameter("postId", postId)
+                .getResultList(), email, admin);
+    }
+
+    /**
+     * 댓글의 답글을 볼 수 있는지 (댓글이 달린 게시글 기준)
+     */
+    public boolean canViewReplies(Long commentId, String email, boolean admin) {
+        return isVisible(entityManager.createQuery(
+                        "SELECT p.published, a.email FROM Comment c JOIN c.post p LEFT JOIN p.author a " +
+                        "WHERE c.id = :commentId", Object[].class)
+                .setParameter("commentId", commentId)
+                .getResultList(), email, admin);
+    }
+
+    /**
+     * 게시글의 최상위 댓글 (작성 순, cursor가 null이면 처음부터)
+     */
+    public CommentSliceDto getComments(Long postId, String cursor, int size) {
+        return slice("c.post.id = :postId AND c.parentComment IS NULL", "postId", postId, cursor, size);
+    }
+
+    /**
+     * 댓글의 답글 (작성 순, cursor가 null이면 처음부터)
+     */
+    public CommentSliceDto getReplies(Long parentCommentId, String cursor, int size) {
+        return slice("c.parentComment.id = :parentCommentId", "parentCommentId", parentCommentId, cursor, size);
+    }
+
+    /**
+     * 커서 이후 게시글에 새로 달린 댓글과 답글 (작성 순)
+     * 게시글 화면이 페이지를 다시 읽지 않고 새 댓글만 가져올 때 사용하며, nextCursor로 이어서 조회한다.
+     * 커서 앞 overlap 구간의 댓글(이미 받았거나 늦게 커밋된 댓글)을 앞에 붙여 반환하므로 ID로 중복을 걸러야 한다.
+     * 이 구간은 묶음 크기에 포함되지 않아 nextCursor와 hasMore에 영향을 주지 않는다.
+     */
+    public CommentSliceDto getCommentsSince(Long postId, String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            throw new IllegalArgumentException("커서가 필요합니다.");
+        }
+        CommentCursor after = CommentCursor.decode(cursor);
+        List<CommentNodeDto> overlap = entityManager.createQuery(
+                        CommentTreeService.NODE_SELECT + FROM + "WHERE c.post.id = :postId " +
+                        "AND c.createdAt >= :windowStart " +
+                        "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id <= :id))" + ORDER_BY,
+                        Object[].class)
+                .setParameter("postId", postId)
+                .setParameter("windowStart", after.createdAt().minusSeconds(sinceOverlapSeconds))
+                .setParameter("createdAt", after.createdAt())
+                .setParameter("id", after.id())
+                .setMaxResults(MAX_SIZE)
+                .getResultList()
+                .stream()
+                .map(CommentTreeService::toNode)
+                .toList();
+        CommentSliceDto slice = slice("c.post.id = :postId", "postId", postId, cursor, size);
+        if (overlap.isEmpty()) {
+            return slice;
+        }
+        List<CommentNodeDto> comments = new ArrayList<>(overlap);
+        comments.addAll(slice.comments());
+        return new CommentSliceDto(comments, slice.nextCursor(), slice.hasMore());
+    }
+
+    /**
+     * 게시글의 가장 최근 댓글 커서 (처음 화면을 그린 뒤 새 댓글 조회의 시작점)
+     */
+    public Optional<String> latestCursor(Long postId) {
+        return entityManager.createQuery(
+                        "SELECT c.createdAt, c.id FROM Comment c WHERE c.post.id = :postId " +
+                        "ORDER BY c.createdAt DESC, c.id DESC", Object[].class)
+                .setParameter("postId", postId)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(row -> new CommentCursor((LocalDateTime) row[0], (Long) row[1]).encode());
+    }
+
+    private static boolean isVisible(List<Object[]> rows, String email, boolean admin) {
+        if (rows.isEmpty()) {
+            return false;
+        }
+        return admin || Boolean.TRUE.equals(rows.get(0)[0]) || (email != null && email.equals(rows.get(0)[1]));
+    }
+
+    private CommentSliceDto slice(String where, String name, Long value, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                CommentTreeService.NODE_SELECT + FROM + "WHERE " + where
+                        + (after != null ? AFTER_CURSOR : "") + ORDER_BY, Object[].class);
+        query.setParameter(name, value);
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt());
+            query.setParameter("id", after.id());
+        }
+        List<CommentNodeDto> comments = query.setMaxResults(limit + 1)
+                .getResultList()
+                .stream()
+                .map(CommentTreeService::toNode)
+                .toList();
+
+        boolean hasMore = comments.size() > limit;
+        if (hasMore) {
+            comments = comments.subList(0, limit);
+        }
+        String nextCursor = comments.isEmpty() ? cursor : CommentCursor.of(comments.get(comments.size() - 1)).encode();
+        return new CommentSliceDto(comments, nextCursor, hasMore);
+    }
+}
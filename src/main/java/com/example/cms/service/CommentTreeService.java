@@ -0,0 +1,234 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.CommentNodeDto;
+import com.example.cms.entity.CommentPath;
+import com.example.cms.event.BulkImportCompletedEvent;
+import com.example.cms.event.CommentCreatedEvent;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.repository.CommentPathRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 댓글 트리 조회
+ * 댓글마다 계층 경로(CommentPath)를 함께 저장해 두고, 최상위 댓글 한 페이지의 전체 트리를
+ * path 순으로 정렬된 한 번의 쿼리로 읽은 뒤 스택을 이용해 한 번의 선형 순회로 조립한다.
+ * 최상위 댓글 조회 후 부모마다 답글을 다시 조회하던 방식(N+1)과 달리 깊이나 답글 수와 무관하게 쿼리 수가 일정하다.
+ */
+@Service
+public class CommentTreeService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentTreeService.class);
+
+    /** 댓글 노드 조회 컬럼 (cp: CommentPath, c: Comment, a: 작성자) */
+    static final String NODE_SELECT =
+            "SELECT cp.depth, c.id, c.parentComment.id, c.content, a.id, a.name, c.createdAt, c.updatedAt ";
+
+    private final CommentPathRepository commentPathRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CommentTreeService(CommentPathRepository commentPathRepository) {
+        this.commentPathRepository = commentPathRepository;
+    }
+
+    /**
+     * 게시글의 댓글 트리 (페이지 단위는 최상위 댓글, 답글은 모든 깊이를 포함)
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentNodeDto> getCommentTree(Long postId, Pageable pageable) {
+        List<Long> rootIds = commentPathRepository.findRootIds(postId, pageable);
+        List<CommentNodeDto> roots = rootIds.isEmpty() ? List.of() : loadTree(postId, rootIds);
+        return PageableExecutionUtils.getPage(roots, pageable, () -> commentPathRepository.countRoots(postId));
+    }
+
+    private List<CommentNodeDto> loadTree(Long postId, List<Long> rootIds) {
+        List<Object[]> rows = entityManager.createQuery(
+                        NODE_SELECT + "FROM CommentPath cp, Comment c LEFT JOIN c.author a " +
+                        "WHERE c.id = cp.commentId AND cp.postId = :postId AND cp.rootId IN :rootIds " +
+                        "ORDER BY cp.path", Object[].class)
+                .setParameter("postId", postId)
+                .setParameter("rootIds", rootIds)
+                .getResultList();
+        return assemble(rows);
+    }
+
+    /**
+     * path 순으로 정렬된 행을 트리로 조립
+     * 각 행의 부모는 스택에서 자신보다 얕은 가장 가까운 노드이므로, 더 깊지 않은 노드를 꺼낸 뒤 스택 맨 위에 붙인다.
+     */
+    static List<CommentNodeDto> assemble(List<Object[]> rows) {
+        List<CommentNodeDto> roots = new ArrayList<>();
+        Deque<CommentNodeDto> stack = new ArrayDeque<>();
+        for (Object[] row : rows) {
+            CommentNodeDto node = toNode(row);
+            while (!stack.isEmpty() && stack.peek().depth() >= node.depth()) {
+                stack.pop();
+            }
+            if (stack.isEmpty()) {
+                roots.add(node);
+            } else {
+                stack.peek().replies().add(node);
+            }
+            stack.push(node);
+        }
+        return roots;
+    }
+
+    /**
+     * NODE_SELECT 행을 답글 목록이 빈 노드로 변환 (경로를 LEFT JOIN해 아직 경로가 없으면 깊이 0)
+     */
+    static CommentNodeDto toNode(Object[] row) {
+        return new CommentNodeDto(
+                (Long) row[1],
+                (Long) row[2],
+                row[0] != null ? ((Number) row[0]).intValue() : 0,
+                (String) row[3],
+                (Long) row[4],
+                (String) row[5],
+                (LocalDateTime) row[6],
+                (LocalDateTime) row[7],
+                new ArrayList<>());
+    }
+
+    /**
+     * 댓글 작성과 같은 트랜잭션에서 경로를 저장해 트리에서 빠지는 댓글이 없도록 한다.
+     */
+    @EventListener
+    @Transactional
+    public void onCommentCreated(CommentCreatedEvent event) {
+        if (event.parentCommentId() == null) {
+            commentPathRepository.save(CommentPath.root(event.commentId(), event.postId()));
+            return;
+        }
+        commentPathRepository.findById(event.parentCommentId()).ifPresentOrElse(
+                parent -> commentPathRepository.save(parent.child(event.commentId())),
+                () -> rebuild(event.postId()));
+    }
+
+    @EventListener
+    @Transactional
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        if (event.commentId() == null) {
+            commentPathRepository.deleteByPostId(event.postId());
+            return;
+        }
+        commentPathRepository.findById(event.commentId()).ifPresent(path -> {
+            commentPathRepository.deleteSubtree(path.getPostId(), path.getPath(),
+                    path.getPath() + CommentPath.SEPARATOR + "%");
+            if (path.getDepth() == CommentPath.MAX_DEPTH - 1) {
+                commentPathRepository.deleteOrphans(path.getPostId(), path.getRootId(), path.getDepth());
+            }
+        });
+    }
+
+    @EventListener
+    @Transactional
+    public void onPostDeleted(PostDeletedEvent event) {
+        commentPathRepository.deleteByPostId(event.postId());
+    }
+
+    /**
+     * 대량 가져오기로 추가된 댓글은 개별 이벤트가 없으므로 경로를 채운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        if (event.kind() == ImportKind.COMMENTS) {
+            backfillMissing();
+        }
+    }
+
+    /**
+     * 경로가 없는 댓글이나 이전 형식 경로가 있는 게시글의 경로를 다시 만든다. (기동 시 기존 데이터 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int backfillMissing() {
+        Set<Long> postIds = new LinkedHashSet<>(entityManager.createQuery(
+                        "SELECT DISTINCT c.post.id FROM Comment c " +
+                        "WHERE NOT EXISTS (SELECT cp.commentId FROM CommentPath cp WHERE cp.commentId = c.id)",
+                        Long.class)
+                .getResultList());
+        postIds.addAll(commentPathRepository.findPostIdsWithOtherFormat(CommentPath.SEGMENT_LENGTH));
+        postIds.forEach(this::rebuild);
+        if (!postIds.isEmpty()) {
+            log.info("댓글 경로 보정: 게시글 {}건", postIds.size());
+        }
+        return postIds.size();
+    }
+
+    /**
+     * 게시글의 모든 댓글 경로를 다시 만든다.
+     * ID 순으로 읽으므로 부모 경로가 항상 답글보다 먼저 만들어진다.
+     */
+    void rebuild(Long postId) {
+        List<Object[]> comments = entityManager.createQuery(
+                        "SELECT c.id, c.parentComment.id FROM Comment c WHERE c.post.id = :postId ORDER BY c.id",
+                        Object[].class)
+                .setParameter("postId", postId)
+                .getResultList();
+        Map<Long, CommentPath> paths = new HashMap<>();
+        List<Object[]> orphans = new ArrayList<>();
+        for (Object[] row : comments) {
+            Long id = (Long) row[0];
+            Long parentId = (Long) row[1];
+            if (parentId == null) {
+                paths.put(id, CommentPath.root(id, postId));
+            } else if (paths.containsKey(parentId)) {
+                paths.put(id, paths.get(parentId).child(id));
+            } else {
+                orphans.add(row);
+            }
+        }
+        // 부모보다 ID가 작은 답글(가져오기 등)은 부모가 만들어질 때까지 반복
+        boolean progressed = true;
+        while (!orphans.isEmpty() && progressed) {
+            progressed = orphans.removeIf(row -> {
+                CommentPath parent = paths.get((Long) row[1]);
+                if (parent == null) {
+                    return false;
+                }
+                paths.put((Long) row[0], parent.child((Long) row[0]));
+                return true;
+            });
+        }
+        // 일괄 DELETE 후 같은 ID로 다시 저장하면 영속성 컨텍스트와 어긋나므로 기존 행은 제자리에서 갱신
+        Map<Long, CommentPath> existing = new HashMap<>();
+        commentPathRepository.findByPostId(postId).forEach(path -> existing.put(path.getCommentId(), path));
+        List<CommentPath> added = new ArrayList<>();
+        for (CommentPath path : paths.values()) {
+            CommentPath current = existing.remove(path.getCommentId());
+            if (current == null) {
+                added.add(path);
+            } else {
+                current.moveTo(path);
+            }
+        }
+        commentPathRepository.deleteAll(existing.values());
+        commentPathRepository.saveAll(added);
+    }
+}
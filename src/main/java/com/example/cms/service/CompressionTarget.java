@@ -0,0 +1,31 @@
+package com.example.cms.service;
+
+/**
+ * 압축 전환 대상 컬럼
+ */
+public enum CompressionTarget {
+    POST_CONTENT("Post", "content", "게시글 본문"),
+    RENDERED_HTML("PostRenderedContent", "html", "렌더링된 게시글 HTML");
+
+    private final String entityName;
+    private final String property;
+    private final String displayName;
+
+    CompressionTarget(String entityName, String property, String displayName) {
+        this.entityName = entityName;
+        this.property = property;
+        this.displayName = displayName;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.cms.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 본문 문자열 압축 코덱
+ * 일정 길이 이상인 값만 Deflate(사전 지정)로 압축해 "표식 + 사전 ID + Base64" 형태의 문자열로 저장한다.
+ * 표식이 없는 값은 압축되지 않은 기존 값으로 보고 그대로 돌려주므로, 압축 전환 중에도 두 형식이 섞여 있을 수 있다.
+ * 압축하지 않는 값이 표식 첫 글자(\u0001)로 시작하면 압축 값으로 오인되지 않도록 별도 표식(ESCAPE)을 붙여 저장하고 복원 시 떼어낸다.
+ * 기존 텍스트 컬럼을 그대로 쓰기 위해 압축 결과를 Base64로 저장하므로 압축 바이트보다 약 33% 커지며,
+ * 그렇게 늘어난 값이 원본보다 짧을 때만 압축 값을 저장한다.
+ * 복원 결과는 maxDecodedLength 바이트를 넘지 못하게 제한해, 손상되었거나 조작된 값이 메모리를 고갈시키지 않도록 한다.
+ * JPA 컨버터가 Spring 빈 없이 사용할 수 있도록 애플리케이션 전체에서 하나의 인스턴스(shared)를 공유한다.
+ */
+public final class ContentCodec {
+
+    static final char PREFIX = '\u0001';
+    static final String MARKER = PREFIX + "z";
+    static final String ESCAPE = PREFIX + "r";
+    static final int NO_DICTIONARY = 0;
+    static final int DEFAULT_MIN_LENGTH = 1024;
+    static final int DEFAULT_MAX_DECODED_LENGTH = 16 * 1024 * 1024;
+
+    private static final ContentCodec SHARED = new ContentCodec();
+
+    private final Map<Integer, byte[]> dictionaries = new ConcurrentHashMap<>();
+    private volatile int currentDictionaryId = NO_DICTIONARY;
+    private volatile int minLength = DEFAULT_MIN_LENGTH;
+    private volatile int maxDecodedLength = DEFAULT_MAX_DECODED_LENGTH;
+    private volatile IntFunction<byte[]> dictionaryLoader = id -> null;
+
+    ContentCodec() {
+    }
+
+    public static ContentCodec shared() {
+        return SHARED;
+    }
+
+    /**
+     * 값 압축 (짧은 값, 압축해도 줄지 않는 값은 압축하지 않고 반환)
+     */
+    public String encode(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() >= minLength) {
+            int dictionaryId = currentDictionaryId;
+            byte[] compressed = deflate(value.getBytes(StandardCharsets.UTF_8), dictionary(dictionaryId));
+            String encoded = MARKER + dictionaryId + ':' + Base64.getEncoder().encodeToString(compressed);
+            if (encoded.length() < value.length()) {
+                return encoded;
+            }
+        }
+        return escape(value);
+    }
+
+    /**
+     * 값 복원 (압축되지 않은 값은 그대로 반환)
+     */
+    public String decode(String value) {
+        if (value != null && value.startsWith(ESCAPE)) {
+            return value.substring(ESCAPE.length());
+        }
+        if (!isCompressed(value)) {
+            return value;
+        }
+        int separator = value.indexOf(':', MARKER.length());
+        if (separator < 0) {
+            throw new IllegalStateException("압축 값 형식이 올바르지 않습니다.");
+        }
+        int dictionaryId = Integer.parseInt(value, MARKER.length(), separator, 10);
+        byte[] compressed = Base64.getDecoder().decode(value.substring(separator + 1));
+        return new String(inflate(compressed, dictionary(dictionaryId), maxDecodedLength), StandardCharsets.UTF_8);
+    }
+
+    public boolean isCompressed(String value) {
+        return value != null && value.startsWith(MARKER);
+    }
+
+    /**
+     * 저장된 값을 압축/비압축 저장 형식으로 변환 (이미 압축된 값은 다시 압축하지 않음)
+     */
+    public String recode(String stored, boolean compress) {
+        if (compress) {
+            return isCompressed(stored) ? stored : encode(decode(stored));
+        }
+        return escape(decode(stored));
+    }
+
+    /**
+     * 사전 등록 (current이면 이후 압축에 사용)
+     */
+    public void register(int dictionaryId, byte[] data, boolean current) {
+        if (dictionaryId <= NO_DICTIONARY) {
+            throw new IllegalArgumentException("사전 ID는 1 이상이어야 합니다: " + dictionaryId);
+        }
+        dictionaries.put(dictionaryId, data.clone());
+        if (current) {
+            currentDictionaryId = dictionaryId;
+        }
+    }
+
+    /**
+     * 등록되지 않은 사전 ID를 만났을 때 사용할 조회 함수 (다른 노드가 새로 학습한 사전)
+     */
+    public void setDictionaryLoader(IntFunction<byte[]> dictionaryLoader) {
+        this.dictionaryLoader = dictionaryLoader;
+    }
+
+    public void setMinLength(int minLength) {
+        this.minLength = Math.max(1, minLength);
+    }
+
+    /**
+     * 복원 결과 최대 크기 (UTF-8 바이트)
+     */
+    public void setMaxDecodedLength(int maxDecodedLength) {
+        this.maxDecodedLength = Math.max(1, maxDecodedLength);
+    }
+
+    public int getCurrentDictionaryId() {
+        return currentDictionaryId;
+    }
+
+    /**
+     * 등록된 사전과 설정 초기화 (테스트용)
+     */
+    void reset() {
+        dictionaries.clear();
+        currentDictionaryId = NO_DICTIONARY;
+        minLength = DEFAULT_MIN_LENGTH;
+        maxDecodedLength = DEFAULT_MAX_DECODED_LENGTH;
+        dictionaryLoader = id -> null;
+    }
+
+    private static String escape(String value) {
+        return value != null && !value.isEmpty() && value.charAt(0) == PREFIX ? ESCAPE + value : value;
+    }
+
+    private byte[] dictionary(int dictionaryId) {
+        if (dictionaryId == NO_DICTIONARY) {
+            return null;
+        }
+        byte[] data = dictionaries.get(dictionaryId);
+        if (data == null) {
+            data = dictionaryLoader.apply(dictionaryId);
+            if (data == null) {
+                throw new IllegalStateException("압축 사전을 찾을 수 없습니다: " + dictionaryId);
+            }
+            dictionaries.putIfAbsent(dictionaryId, data);
+        }
+        return data;
+    }
+
+    private static byte[] deflate(byte[] input, byte[] dictionary) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 3));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, byte[] dictionary, int maxLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(
+                    (int) Math.min(maxLength, Math.max(64L, input.length * 4L)));
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0) {
+                    if (inflater.needsDictionary() && dictionary != null) {
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.needsInput() || inflater.needsDictionary()) {
+                        throw new IllegalStateException("압축 값이 손상되었습니다.");
+                    }
+                }
+                if (output.size() + count > maxLength) {
+                    throw new IllegalStateException("압축 값의 복원 크기가 제한(" + maxLength + " bytes)을 넘습니다.");
+                }
+                output.write(buffer, 0, count);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 값이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.CompressionJobDto;
+import com.example.cms.entity.CompressionDictionary;
+import com.example.cms.repository.CompressionDictionaryRepository;
+import com.example.cms.repository.EntityTableMapping;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 본문 압축 관리
+ * 기동 시 저장된 압축 사전을 ContentCodec에 등록하고, 게시글 본문 표본으로 새 사전을 학습하며,
+ * 기존 행을 묶음(chunk) 단위로 압축(또는 복원)해 다시 저장하는 전환 작업을 실행한다.
+ * 게시글 본문(posts.content)은 본문 LIKE 검색과 맞지 않으므로 cms.compression.post-content.enabled를 켠 경우에만 전환한다.
+ */
+@Service
+public class ContentCompressionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentCompressionService.class);
+
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final CompressionDictionaryRepository dictionaryRepository;
+    private final EntityTableMapping tableMapping;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService bulkJobExecutor;
+    private final ContentCodec codec = ContentCodec.shared();
+    private final int minLength;
+    private final int maxDecodedLength;
+    private final int chunkSize;
+    private final boolean postContentEnabled;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ContentCompressionService(CompressionDictionaryRepository dictionaryRepository,
+                                     EntityTableMapping tableMapping,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Qualifier("bulkJobExecutor") ExecutorService bulkJobExecutor,
+                                     @Value("${cms.compression.min-length:1024}") int minLength,
+                                     @Value("${cms.compression.max-content-length:16777216}") int maxDecodedLength,
+                                     @Value("${cms.compression.migration.chunk-size:200}") int chunkSize,
+                                     @Value("${cms.compression.post-content.enabled:false}") boolean postContentEnabled) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.tableMapping = tableMapping;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.minLength = minLength;
+        this.maxDecodedLength = maxDecodedLength;
+        this.chunkSize = chunkSize;
+        this.postContentEnabled = postContentEnabled;
+    }
+
+    /**
+     * 저장된 사전 등록 (가장 최근 사전을 압축에 사용)
+     * 다른 노드가 나중에 학습한 사전은 처음 복원할 때 조회해 등록한다.
+     */
+    @PostConstruct
+    public void loadDictionaries() {
+        codec.setMinLength(minLength);
+        codec.setMaxDecodedLength(maxDecodedLength);
+        codec.setDictionaryLoader(id -> readOnlyTransaction.execute(status ->
+                dictionaryRepository.findById(id).map(CompressionDictionary::getData).orElse(null)));
+        List<CompressionDictionary> dictionaries = readOnlyTransaction.execute(status -> dictionaryRepository.findAll());
+        int latest = dictionaries.stream().mapToInt(CompressionDictionary::getId).max().orElse(ContentCodec.NO_DICTIONARY);
+        dictionaries.forEach(dictionary ->
+                codec.register(dictionary.getId(), dictionary.getData(), dictionary.getId() == latest));
+    }
+
+    /**
+     * 최근 게시글 본문 표본으로 새 사전을 학습해 저장하고 이후 압축에 사용
+     * 기존 압축 값은 자신이 사용한 사전 ID로 계속 복원된다.
+     */
+    public CompressionDictionary trainDictionary(int sampleSize) {
+        if (sampleSize < 2) {
+            throw new IllegalArgumentException("표본은 2개 이상이어야 합니다.");
+        }
+        List<String> samples = readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT p.content FROM Post p ORDER BY p.id DESC", String.class)
+                .setMaxResults(sampleSize)
+                .getResultList()
+                .stream()
+                .map(codec::decode)
+                .toList());
+        byte[] data = ContentDictionaryTrainer.train(samples, ContentDictionaryTrainer.MAX_DICTIONARY_SIZE);
+        if (data.length == 0) {
+            throw new IllegalArgumentException("사전을 만들 만큼 반복되는 본문이 없습니다.");
+        }
+
+        CompressionDictionary dictionary = transactionTemplate.execute(status -> {
+            int nextId = dictionaryRepository.findTopByOrderByIdDesc()
+                    .map(CompressionDictionary::getId)
+                    .orElse(ContentCodec.NO_DICTIONARY) + 1;
+            return dictionaryRepository.save(new CompressionDictionary(nextId, data, samples.size()));
+        });
+        codec.register(dictionary.getId(), dictionary.getData(), true);
+        log.info("압축 사전 학습 완료: id={}, size={}, samples={}", dictionary.getId(), data.length, samples.size());
+        return dictionary;
+    }
+
+    /**
+     * 압축 전환 작업 등록 (compress=false이면 압축된 행을 원래 값으로 복원)
+     */
+    public CompressionJobDto submit(CompressionTarget target, boolean compress) {
+        if (target == null) {
+            throw new IllegalArgumentException("전환 대상을 선택해주세요.");
+        }
+        if (target == CompressionTarget.POST_CONTENT && compress && !postContentEnabled) {
+            throw new IllegalArgumentException(
+                    "게시글 본문 압축이 비활성화되어 있습니다 (cms.compression.post-content.enabled).");
+        }
+        removeExpiredJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), target, compress);
+        jobs.put(job.id, job);
+        bulkJobExecutor.execute(() -> run(job));
+        return job.toDto();
+    }
+
+    /**
+     * 전환 작업 진행 상황
+     */
+    public Optional<CompressionJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toDto);
+    }
+
+    void run(Job job) {
+        job.status = "RUNNING";
+        try {
+            String entityName = job.target.getEntityName();
+            String table = tableMapping.table(entityName);
+            String idColumn = tableMapping.idColumn(entityName);
+            String column = tableMapping.column(entityName, job.target.getProperty());
+            String select = "SELECT " + idColumn + ", " + column + " FROM " + table
+                    + " WHERE " + idColumn + " > ? ORDER BY " + idColumn + " LIMIT ?";
+            String update = "UPDATE " + table + " SET " + column + " = ? WHERE " + idColumn + " = ? AND " + column + " = ?";
+
+            long afterId = 0L;
+            Long lastId;
+            while ((lastId = processChunk(job, select, update, afterId)) != null) {
+                afterId = lastId;
+            }
+            job.status = "COMPLETED";
+            log.info("본문 압축 전환 완료: target={}, compress={}, rewritten={}, chars {} -> {}",
+                    job.target, job.compress, job.rewritten.get(), job.charsBefore.get(), job.charsAfter.get());
+        } catch (RuntimeException e) {
+            job.status = "FAILED";
+            job.message = e.getMessage();
+            log.error("본문 압축 전환 실패: jobId={}, target={}, scanned={}", job.id, job.target, job.scanned.get(), e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 한 묶음을 변환해 다시 저장
+     * 읽은 뒤 다른 요청이 값을 바꾼 행은 UPDATE 조건(기존 값 일치)에 걸리지 않으므로 덮어쓰지 않는다.
+     *
+     * @return 묶음의 마지막 ID (더 이상 행이 없으면 null)
+     */
+    private Long processChunk(Job job, String select, String update, long afterId) {
+        return transactionTemplate.execute(status -> {
+            List<Object[]> changes = new ArrayList<>();
+            long[] lastId = {afterId};
+            jdbcTemplate.query(select, rs -> {
+                long id = rs.getLong(1);
+                String value = rs.getString(2);
+                lastId[0] = id;
+                job.scanned.incrementAndGet();
+                String converted = codec.recode(value, job.compress);
+                if (value != null && !value.equals(converted)) {
+                    changes.add(new Object[]{converted, id, value});
+                    job.charsBefore.addAndGet(value.length());
+                    job.charsAfter.addAndGet(converted.length());
+                }
+            }, afterId, chunkSize);
+
+            if (lastId[0] == afterId) {
+                return null;
+            }
+            if (!changes.isEmpty()) {
+                int[][] counts = jdbcTemplate.batchUpdate(update, changes, changes.size(), (ps, change) -> {
+                    ps.setString(1, (String) change[0]);
+                    ps.setLong(2, (Long) change[1]);
+                    ps.setString(3, (String) change[2]);
+                });
+                for (int[] batch : counts) {
+                    for (int count : batch) {
+                        job.rewritten.addAndGet(Math.max(count, 0));
+                    }
+                }
+            }
+            return lastId[0];
+        });
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    /**
+     * 실행 중인 전환 작업 상태
+     */
+    static final class Job {
+        private final String id;
+        private final CompressionTarget target;
+        private final boolean compress;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong rewritten = new AtomicLong();
+        private final AtomicLong charsBefore = new AtomicLong();
+        private final AtomicLong charsAfter = new AtomicLong();
+        private volatile String status = "PENDING";
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String id, CompressionTarget target, boolean compress) {
+            this.id = id;
+            this.target = target;
+            this.compress = compress;
+        }
+
+        CompressionJobDto toDto() {
+            return new CompressionJobDto(id, target, compress, status, scanned.get(), rewritten.get(),
+                    charsBefore.get(), charsAfter.get(), message, startedAt, finishedAt);
+        }
+    }
+}
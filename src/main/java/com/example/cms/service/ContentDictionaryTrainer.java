@@ -0,0 +1,116 @@
+package com.example.cms.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 본문 표본으로 압축 사전 생성
+ * CKEditor 본문을 태그, 단어, 연속한 두 조각 단위로 나눠 여러 글에 반복되는 조각을 (등장 글 수 × 길이) 순으로 고른다.
+ * Deflate는 가까운 거리의 참조를 더 짧게 기록하므로 점수가 높은 조각일수록 사전의 뒤쪽에 배치한다.
+ */
+final class ContentDictionaryTrainer {
+
+    /** Deflate 창 크기 (이보다 긴 사전의 앞부분은 참조되지 않음) */
+    static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private static final int MAX_SAMPLE_LENGTH = 64 * 1024;
+    private static final int MIN_FRAGMENT_LENGTH = 4;
+    private static final int MAX_FRAGMENT_LENGTH = 256;
+
+    private ContentDictionaryTrainer() {
+    }
+
+    static byte[] train(Collection<String> samples, int maxSize) {
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (String sample : samples) {
+            if (sample == null || sample.isEmpty()) {
+                continue;
+            }
+            String text = sample.length() > MAX_SAMPLE_LENGTH ? sample.substring(0, MAX_SAMPLE_LENGTH) : sample;
+            for (String fragment : fragments(text)) {
+                documentFrequency.merge(fragment, 1, Integer::sum);
+            }
+        }
+
+        List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+        documentFrequency.entrySet().stream()
+                .filter(entry -> entry.getValue() >= 2)
+                .forEach(candidates::add);
+        candidates.sort(Comparator.comparingLong((Map.Entry<String, Integer> entry) ->
+                        (long) entry.getValue() * entry.getKey().length()).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        int limit = Math.min(maxSize, MAX_DICTIONARY_SIZE);
+        List<byte[]> selected = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<String, Integer> candidate : candidates) {
+            byte[] bytes = candidate.getKey().getBytes(StandardCharsets.UTF_8);
+            if (size + bytes.length > limit) {
+                continue;
+            }
+            selected.add(bytes);
+            size += bytes.length;
+        }
+
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream(size);
+        for (int i = selected.size() - 1; i >= 0; i--) {
+            dictionary.writeBytes(selected.get(i));
+        }
+        return dictionary.toByteArray();
+    }
+
+    /**
+     * 한 글의 서로 다른 조각 (태그, 공백을 포함한 단어, 연속한 두 조각)
+     */
+    private static Set<String> fragments(String text) {
+        List<String> tokens = tokenize(text);
+        Set<String> fragments = new HashSet<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            addFragment(fragments, tokens.get(i));
+            if (i + 1 < tokens.size()) {
+                addFragment(fragments, tokens.get(i) + tokens.get(i + 1));
+            }
+        }
+        return fragments;
+    }
+
+    private static void addFragment(Set<String> fragments, String fragment) {
+        if (fragment.length() >= MIN_FRAGMENT_LENGTH && fragment.length() <= MAX_FRAGMENT_LENGTH) {
+            fragments.add(fragment);
+        }
+    }
+
+    /**
+     * 태그와 (앞 공백을 포함한) 단어 단위로 분리 (이어 붙이면 원문과 같음)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            int end;
+            if (text.charAt(i) == '<') {
+                int close = text.indexOf('>', i);
+                end = close < 0 ? text.length() : close + 1;
+            } else {
+                end = i;
+                while (end < text.length() && Character.isWhitespace(text.charAt(end))) {
+                    end++;
+                }
+                while (end < text.length() && text.charAt(end) != '<' && !Character.isWhitespace(text.charAt(end))) {
+                    end++;
+                }
+            }
+            tokens.add(text.substring(i, end));
+            i = end;
+        }
+        return tokens;
+    }
+}
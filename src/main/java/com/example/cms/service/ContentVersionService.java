@@ -0,0 +1,99 @@
+package com.example.cms.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조건부 GET용 콘텐츠 버전
+ * 본문이나 목록을 읽지 않고 수정 시각과 집계값만 조회해 응답이 바뀌었는지 판단할 수 있는 버전을 만든다.
+ * 대상이 없거나 보는 사람이 볼 수 없는 대상(다른 사람의 임시저장 글, 참여하지 않은 채팅방)이면 빈 값을 반환하며,
+ * 이때는 원래 처리(404, 403 등)를 그대로 진행한다. 볼 수 없는 대상에 304로 응답하면 변경 여부가 드러나기 때문이다.
+ * viewer는 로그인 사용자 이메일이며 비로그인이면 null이다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ContentVersionService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 게시글 화면 버전 (수정 시각과 발행 여부, 조회수는 제외)
+     */
+    public Optional<ContentVersion> postVersion(Long postId, String viewer) {
+        return visiblePost(postId, viewer).map(row -> {
+            LocalDateTime updatedAt = (LocalDateTime) row[0];
+            return new ContentVersion(updatedAt + "|" + row[1], toEpochMillis(updatedAt));
+        });
+    }
+
+    /**
+     * 게시글 댓글 목록 버전 (댓글 수와 마지막 작성/수정 시각, 삭제는 댓글 수로 반영됨)
+     */
+    public Optional<ContentVersion> commentsVersion(Long postId, String viewer) {
+        if (visiblePost(postId, viewer).isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = entityManager.createQuery(
+                        "SELECT COUNT(c), MAX(c.updatedAt), MAX(c.id) FROM Comment c WHERE c.post.id = :postId",
+                        Object[].class)
+                .setParameter("postId", postId)
+                .getSingleResult();
+        return Optional.of(new ContentVersion(row[0] + "|" + row[1] + "|" + row[2], -1));
+    }
+
+    /**
+     * 채팅방 기록 버전 (메시지 수, 마지막 메시지, 읽음 처리된 메시지 수, 채팅방 고객과 배정된 관리자만)
+     */
+    public Optional<ContentVersion> chatHistoryVersion(Long chatRoomId, String viewer) {
+        if (viewer == null || entityManager.createQuery(
+                        "SELECT COUNT(r) FROM ChatRoom r LEFT JOIN r.customer cu LEFT JOIN r.admin ad " +
+                        "WHERE r.id = :chatRoomId AND (cu.email = :viewer OR ad.email = :viewer)", Long.class)
+                .setParameter("chatRoomId", chatRoomId)
+                .setParameter("viewer", viewer)
+                .getSingleResult() == 0) {
+            return Optional.empty();
+        }
+        Object[] row = entityManager.createQuery(
+                        "SELECT COUNT(m), MAX(m.id), " +
+                        "SUM(CASE WHEN m.readByRecipient = true THEN 1 ELSE 0 END) " +
+                        "FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId", Object[].class)
+                .setParameter("chatRoomId", chatRoomId)
+                .getSingleResult();
+        return Optional.of(new ContentVersion(row[0] + "|" + row[1] + "|" + row[2], -1));
+    }
+
+    /**
+     * 보는 사람이 볼 수 있는 게시글의 수정 시각과 발행 여부 (발행된 글은 누구나, 임시저장 글은 작성자만)
+     */
+    private Optional<Object[]> visiblePost(Long postId, String viewer) {
+        return entityManager.createQuery(
+                        "SELECT p.updatedAt, p.published, a.email FROM Post p LEFT JOIN p.author a " +
+                        "WHERE p.id = :postId", Object[].class)
+                .setParameter("postId", postId)
+                .getResultList()
+                .stream()
+                .filter(row -> Boolean.TRUE.equals(row[1]) || (viewer != null && viewer.equals(row[2])))
+                .findFirst();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    /**
+     * 콘텐츠 버전
+     *
+     * @param tag          ETag 계산에 쓰는 버전 문자열
+     * @param lastModified Last-Modified (epoch 밀리초, 삭제처럼 시각에 드러나지 않는 변경이 있으면 -1)
+     */
+    public record ContentVersion(String tag, long lastModified) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.cms.service;
+
+/**
+ * 대시보드 카운터의 기준값을 데이터베이스에서 조회하는 소스
+ * 초기 적재와 주기적 보정(reconciliation)에만 사용된다.
+ * AdminServiceImpl이 기존 repository COUNT 메서드(DashboardMetric 항목별 주석 참고)로 구현해 빈으로 등록해야 한다.
+ */
+public interface DashboardCountSource {
+
+    /**
+     * 항목의 실제 COUNT 값 조회
+     */
+    long count(DashboardMetric metric);
+}
@@ -0,0 +1,297 @@
+package com.example.cms.service;
+
+import com.example.cms.event.BulkImportCompletedEvent;
+import com.example.cms.event.ChatRoomCreatedEvent;
+import com.example.cms.event.ChatRoomDeletedEvent;
+import com.example.cms.event.ChatRoomStatusChangedEvent;
+import com.example.cms.event.CommentCreatedEvent;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.event.DashboardCountersChangedEvent;
+import com.example.cms.event.NotificationCreatedEvent;
+import com.example.cms.event.NotificationDeletedEvent;
+import com.example.cms.event.NotificationsReadEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import com.example.cms.event.UserDeletedEvent;
+import com.example.cms.event.UserRegisteredEvent;
+import com.example.cms.event.UserStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드 통계 카운터 서비스
+ * 대시보드 조회마다 COUNT 쿼리를 실행하지 않도록 항목별 값을 LongAdder(스트라이프 카운터)로 메모리에 유지한다.
+ * 값은 기동 시 한 번 적재되고, 커밋된 도메인 이벤트로 증감되며, 주기적으로 데이터베이스 값과 보정된다.
+ * 적재/보정 쿼리는 항목별로 동시에 실행되며, 제한 시간을 넘긴 항목은 이전 값을 유지한 채 stale로 표시된다.
+ */
+@Service
+public class DashboardCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCounterService.class);
+
+    private final DashboardCountSource countSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService queryExecutor;
+    private final long queryTimeoutMillis;
+    private final Map<DashboardMetric, LongAdder> counters = new EnumMap<>(DashboardMetric.class);
+    /** 항목별 이벤트 반영 순번 (보정 중 이벤트가 반영되었는지 판단하는 fence) */
+    private final Map<DashboardMetric, AtomicLong> sequences = new EnumMap<>(DashboardMetric.class);
+    private final Set<DashboardMetric> seededMetrics = ConcurrentHashMap.newKeySet();
+    private final Set<DashboardMetric> staleMetrics = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean seeded;
+    private volatile LocalDateTime lastReconciled;
+
+    public DashboardCounterService(DashboardCountSource countSource,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Qualifier("dashboardQueryExecutor") ExecutorService queryExecutor,
+                                   @Value("${cms.dashboard.query-timeout-ms:2000}") long queryTimeoutMillis) {
+        this.countSource = countSource;
+        this.eventPublisher = eventPublisher;
+        this.queryExecutor = queryExecutor;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+        for (DashboardMetric metric : DashboardMetric.values()) {
+            counters.put(metric, new LongAdder());
+            sequences.put(metric, new AtomicLong());
+        }
+    }
+
+    /**
+     * 현재 카운터 값 조회 (아직 적재 전이면 먼저 적재)
+     */
+    public DashboardCounterSnapshot getSnapshot() {
+        if (!seeded) {
+            seed();
+        }
+        Map<DashboardMetric, Long> values = new EnumMap<>(DashboardMetric.class);
+        counters.forEach((metric, counter) -> values.put(metric, counter.sum()));
+        return new DashboardCounterSnapshot(values, staleMetrics, LocalDateTime.now());
+    }
+
+    /**
+     * 마지막 보정 시각
+     */
+    public LocalDateTime getLastReconciled() {
+        return lastReconciled;
+    }
+
+    /**
+     * 기동 시 데이터베이스 값으로 카운터 적재
+     * 제한 시간 안에 적재되지 못한 항목은 다음 조회 때 다시 시도한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void seed() {
+        if (seeded) {
+            return;
+        }
+        reconcile();
+        seeded = seededMetrics.size() == DashboardMetric.values().length;
+    }
+
+    /**
+     * 카운터를 데이터베이스 값과 보정
+     * COUNT 쿼리 실행 중 이벤트가 반영된 항목은 그 이벤트가 COUNT 결과에 이미 포함되었는지 알 수 없으므로,
+     * 이미 적재된 항목이면 이번 보정을 건너뛰고 다음 주기에 다시 시도한다. (적재 전 항목은 그대로 반영하고 다음 보정에서 바로잡는다)
+     * 커밋 후 리스너 실행이 COUNT 완료 이후까지 지연되면 한 번 중복 반영될 수 있으며, 이 역시 다음 보정에서 바로잡힌다.
+     * 항목별 쿼리는 동시에 실행되므로 소요 시간은 가장 느린 쿼리(최대 제한 시간)에 맞춰진다.
+     */
+    @Scheduled(initialDelayString = "${cms.dashboard.reconcile-interval-ms:300000}",
+               fixedDelayString = "${cms.dashboard.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        Map<DashboardMetric, Long> before = new EnumMap<>(DashboardMetric.class);
+        Map<DashboardMetric, Long> fences = new EnumMap<>(DashboardMetric.class);
+        Map<DashboardMetric, Future<Long>> queries = new EnumMap<>(DashboardMetric.class);
+        for (DashboardMetric metric : DashboardMetric.values()) {
+            fences.put(metric, sequence(metric));
+            before.put(metric, current(metric));
+            queries.put(metric, queryExecutor.submit(() -> countSource.count(metric)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queryTimeoutMillis);
+        queries.forEach((metric, query) -> {
+            try {
+                long actual = query.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (seededMetrics.contains(metric) && sequence(metric) != fences.get(metric)) {
+                    log.debug("대시보드 보정 중 이벤트 반영, 다음 주기에 다시 보정: metric={}", metric);
+                } else {
+                    reconcile(metric, before.get(metric), actual);
+                }
+                seededMetrics.add(metric);
+                staleMetrics.remove(metric);
+            } catch (TimeoutException e) {
+                query.cancel(true);
+                markStale(metric, "제한 시간 초과");
+            } catch (ExecutionException e) {
+                markStale(metric, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                query.cancel(true);
+                markStale(metric, "중단됨");
+            }
+        });
+        lastReconciled = LocalDateTime.now();
+    }
+
+    /**
+     * 현재 stale 상태인 항목
+     */
+    public Set<DashboardMetric> getStaleMetrics() {
+        return staleMetrics.isEmpty() ? Set.of() : EnumSet.copyOf(staleMetrics);
+    }
+
+    private void markStale(DashboardMetric metric, String reason) {
+        staleMetrics.add(metric);
+        log.warn("대시보드 쿼리 실패, 이전 값 사용: metric={}, reason={}", metric, reason);
+    }
+
+    /**
+     * 단일 항목을 조회된 데이터베이스 값으로 보정
+     * before는 COUNT 쿼리 실행 직전의 카운터 값
+     */
+    void reconcile(DashboardMetric metric, long before, long actual) {
+        long drift = actual - before;
+        if (drift != 0) {
+            counters.get(metric).add(drift);
+            if (seeded) {
+                log.info("대시보드 카운터 보정: metric={}, drift={}", metric, drift);
+            }
+            eventPublisher.publishEvent(new DashboardCountersChangedEvent(metric));
+        }
+    }
+
+    long current(DashboardMetric metric) {
+        return counters.get(metric).sum();
+    }
+
+    long sequence(DashboardMetric metric) {
+        return sequences.get(metric).get();
+    }
+
+    void add(DashboardMetric metric, long delta) {
+        if (delta != 0) {
+            // 순번을 먼저 올려, 보정이 읽은 조회 전 값에 일부만 반영된 증감도 fence에 걸리도록 한다.
+            sequences.get(metric).incrementAndGet();
+            counters.get(metric).add(delta);
+            eventPublisher.publishEvent(new DashboardCountersChangedEvent(metric));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        add(DashboardMetric.TOTAL_USERS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        if (event.wasActive() != event.active()) {
+            add(DashboardMetric.TOTAL_USERS, event.active() ? 1 : -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (event.wasActive()) {
+            add(DashboardMetric.TOTAL_USERS, -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        if (event.published()) {
+            add(DashboardMetric.TOTAL_POSTS, 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostPublicationChanged(PostPublicationChangedEvent event) {
+        add(DashboardMetric.TOTAL_POSTS, event.published() ? 1 : -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (event.wasPublished()) {
+            add(DashboardMetric.TOTAL_POSTS, -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        add(DashboardMetric.TOTAL_COMMENTS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        add(DashboardMetric.TOTAL_COMMENTS, -event.deletedCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomCreated(ChatRoomCreatedEvent event) {
+        add(DashboardMetric.TOTAL_CHAT_ROOMS, 1);
+        if (event.active()) {
+            add(DashboardMetric.ACTIVE_CHAT_ROOMS, 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomStatusChanged(ChatRoomStatusChangedEvent event) {
+        if (event.wasActive() != event.active()) {
+            add(DashboardMetric.ACTIVE_CHAT_ROOMS, event.active() ? 1 : -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        add(DashboardMetric.TOTAL_CHAT_ROOMS, -1);
+        if (event.wasActive()) {
+            add(DashboardMetric.ACTIVE_CHAT_ROOMS, -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        add(DashboardMetric.UNREAD_NOTIFICATIONS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsRead(NotificationsReadEvent event) {
+        add(DashboardMetric.UNREAD_NOTIFICATIONS, -event.count());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationDeleted(NotificationDeletedEvent event) {
+        if (event.wasUnread()) {
+            add(DashboardMetric.UNREAD_NOTIFICATIONS, -1);
+        }
+    }
+
+    /**
+     * 대량 가져오기로 추가된 행은 개별 이벤트가 없으므로 즉시 보정
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        reconcile();
+    }
+}
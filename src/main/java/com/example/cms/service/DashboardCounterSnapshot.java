@@ -0,0 +1,55 @@
+package com.example.cms.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대시보드 카운터의 특정 시점 값
+ * AdminDashboardDto 생성 시 그대로 옮겨 담는다.
+ * staleMetrics는 최근 데이터베이스 조회가 실패/시간 초과되어 이전 값을 보여주는 항목이다.
+ */
+public record DashboardCounterSnapshot(Map<DashboardMetric, Long> values, Set<DashboardMetric> staleMetrics,
+                                       LocalDateTime lastUpdated) {
+
+    public DashboardCounterSnapshot {
+        values = Map.copyOf(values);
+        staleMetrics = Set.copyOf(staleMetrics);
+    }
+
+    public boolean isStale(DashboardMetric metric) {
+        return staleMetrics.contains(metric);
+    }
+
+    public boolean isPartial() {
+        return !staleMetrics.isEmpty();
+    }
+
+    public long get(DashboardMetric metric) {
+        return values.getOrDefault(metric, 0L);
+    }
+
+    public long getTotalUsers() {
+        return get(DashboardMetric.TOTAL_USERS);
+    }
+
+    public long getTotalPosts() {
+        return get(DashboardMetric.TOTAL_POSTS);
+    }
+
+    public long getTotalComments() {
+        return get(DashboardMetric.TOTAL_COMMENTS);
+    }
+
+    public long getActiveChatRooms() {
+        return get(DashboardMetric.ACTIVE_CHAT_ROOMS);
+    }
+
+    public long getTotalChatRooms() {
+        return get(DashboardMetric.TOTAL_CHAT_ROOMS);
+    }
+
+    public long getUnreadNotifications() {
+        return get(DashboardMetric.UNREAD_NOTIFICATIONS);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.cms.service;
+
+/**
+ * 관리자 대시보드 통계 항목
+ * 각 항목은 AdminDashboardDto 필드와 원본 COUNT 쿼리에 대응한다.
+ */
+public enum DashboardMetric {
+
+    /** 활성 사용자 수 (userRepository.countByActiveTrue) */
+    TOTAL_USERS,
+
+    /** 발행된 게시글 수 (postRepository.countByPublishedTrue) */
+    TOTAL_POSTS,
+
+    /** 전체 댓글 수 (commentRepository.count) */
+    TOTAL_COMMENTS,
+
+    /** 진행 중인 상담 채팅방 수 (chatRoomRepository.countByStatus(ACTIVE)) */
+    ACTIVE_CHAT_ROOMS,
+
+    /** 전체 상담 채팅방 수 (chatRoomRepository.count) */
+    TOTAL_CHAT_ROOMS,
+
+    /** 읽지 않은 알림 수 (notificationRepository.countByReadFalse) */
+    UNREAD_NOTIFICATIONS
+}
@@ -0,0 +1,118 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.DashboardUpdateDto;
+import com.example.cms.event.DashboardCountersChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관리자 대시보드 실시간 푸시 서비스
+ * 카운터 변경을 모아 /topic/admin/dashboard로 바뀐 항목만 전송한다.
+ * 이벤트가 아무리 자주 발생해도 전송은 초당 최대 maxUpdatesPerSecond회로 합쳐진다(coalescing).
+ */
+@Service
+public class DashboardPushService {
+
+    public static final String DESTINATION = "/topic/admin/dashboard";
+
+    private final DashboardCounterService counterService;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ScheduledExecutorService scheduler;
+    private final long minIntervalNanos;
+    private final AtomicBoolean pushScheduled = new AtomicBoolean();
+
+    private final Map<DashboardMetric, Long> lastSent = new EnumMap<>(DashboardMetric.class);
+    private Set<DashboardMetric> lastStale = Set.of();
+    private long sequence;
+    private volatile long lastPushNanos;
+
+    public DashboardPushService(DashboardCounterService counterService,
+                                SimpMessageSendingOperations messagingTemplate,
+                                @Value("${cms.dashboard.push.max-updates-per-second:2}") int maxUpdatesPerSecond) {
+        if (maxUpdatesPerSecond <= 0) {
+            throw new IllegalArgumentException("maxUpdatesPerSecond는 1 이상이어야 합니다.");
+        }
+        this.counterService = counterService;
+        this.messagingTemplate = messagingTemplate;
+        this.minIntervalNanos = TimeUnit.SECONDS.toNanos(1) / maxUpdatesPerSecond;
+        this.lastPushNanos = System.nanoTime() - minIntervalNanos;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dashboard-push-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @EventListener
+    public void onCountersChanged(DashboardCountersChangedEvent event) {
+        requestPush();
+    }
+
+    /**
+     * 전송 예약 (이미 예약되어 있으면 그 전송에 합쳐짐)
+     */
+    void requestPush() {
+        if (pushScheduled.compareAndSet(false, true)) {
+            long delay = Math.max(0, lastPushNanos + minIntervalNanos - System.nanoTime());
+            scheduler.schedule(this::push, delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 직전 전송 이후 바뀐 항목만 전송
+     */
+    synchronized void push() {
+        // 이 시점 이후의 변경은 다음 전송으로 예약된다
+        pushScheduled.set(false);
+
+        DashboardCounterSnapshot snapshot = counterService.getSnapshot();
+        Map<DashboardMetric, Long> changes = new EnumMap<>(DashboardMetric.class);
+        snapshot.values().forEach((metric, value) -> {
+            if (!Objects.equals(lastSent.get(metric), value)) {
+                changes.put(metric, value);
+            }
+        });
+        if (changes.isEmpty() && lastStale.equals(snapshot.staleMetrics())) {
+            return;
+        }
+
+        lastSent.putAll(changes);
+        lastStale = snapshot.staleMetrics();
+        lastPushNanos = System.nanoTime();
+        messagingTemplate.convertAndSend(DESTINATION,
+                new DashboardUpdateDto(++sequence, false, changes, lastStale, snapshot.lastUpdated()));
+    }
+
+    /**
+     * 구독 직후 보낼 전체 값
+     * 이후 전송되는 변경분과 어긋나지 않도록 마지막으로 전송한 기준 값을 돌려주고,
+     * 그 뒤의 변경은 곧바로 변경분으로 전송되도록 예약한다.
+     */
+    public synchronized DashboardUpdateDto getFullUpdate() {
+        DashboardCounterSnapshot snapshot = counterService.getSnapshot();
+        if (lastSent.isEmpty()) {
+            lastSent.putAll(snapshot.values());
+            lastStale = snapshot.staleMetrics();
+        } else {
+            requestPush();
+        }
+        return new DashboardUpdateDto(sequence, true, Map.copyOf(lastSent), lastStale, snapshot.lastUpdated());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.ExportFilter;
+import com.example.cms.repository.EntityTableMapping;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글/댓글/채팅 기록 스트리밍 내보내기
+ * 엔티티와 영속성 컨텍스트를 거치지 않고 순방향 전용(forward-only) JDBC 결과 집합을 fetch size 단위로 읽어
+ * 행마다 바로 출력 스트림에 쓴다. 메모리 사용량은 테이블 크기와 무관하게 fetch size만큼으로 유지된다.
+ * MySQL은 fetch size를 Integer.MIN_VALUE로 지정해야 결과를 한 번에 받지 않고 행 단위로 스트리밍한다.
+ * 이때 결과 집합을 닫으면 드라이버가 남은 행을 끝까지 읽어 버리므로, 클라이언트 연결이 끊기면 Statement.cancel()로
+ * 서버의 쿼리를 먼저 중단한 뒤 커넥션을 반환한다.
+ */
+@Service
+public class DataExportService {
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final EntityTableMapping tableMapping;
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataExportService(EntityTableMapping tableMapping,
+                             DataSource dataSource,
+                             @Value("${cms.export.fetch-size:1000}") int fetchSize) {
+        this.tableMapping = tableMapping;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(isMySql(dataSource) ? Integer.MIN_VALUE : fetchSize);
+    }
+
+    /**
+     * 조건에 맞는 행을 ID 순으로 출력 (출력 스트림은 닫지 않음)
+     *
+     * @return 출력한 행 수
+     */
+    public long export(ExportKind kind, ExportFormat format, ExportFilter filter, boolean gzip, OutputStream output)
+            throws IOException {
+        List<Object> parameters = new ArrayList<>();
+        String sql = switch (kind) {
+            case POSTS -> postsQuery(filter, parameters);
+            case COMMENTS -> commentsQuery(filter, parameters);
+            case CHAT_MESSAGES -> chatMessagesQuery(filter, parameters);
+        };
+
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(nonClosing(output), OUTPUT_BUFFER_SIZE) : null;
+        OutputStream buffered = new BufferedOutputStream(compressed != null ? compressed : nonClosing(output),
+                OUTPUT_BUFFER_SIZE);
+        ExportRowWriter writer = ExportRowWriter.of(format, buffered);
+        List<String> columns = columns(kind);
+        long[] rows = {0L};
+        PreparedStatement[] running = new PreparedStatement[1];
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                running[0] = statement;
+                return statement;
+            }, (ResultSet rs) -> {
+                try {
+                    if (rows[0] == 0) {
+                        writer.begin(columns);
+                    }
+                    Object[] values = new Object[columns.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = rs.getObject(i + 1);
+                    }
+                    writer.row(values);
+                    rows[0]++;
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료: 남은 행을 읽지 않도록 서버의 쿼리를 중단한 뒤 커넥션을 반환
+                    cancel(running[0]);
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (rows[0] == 0) {
+                writer.begin(columns);
+            }
+            writer.end();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        buffered.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        output.flush();
+        return rows[0];
+    }
+
+    private static void cancel(PreparedStatement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            // 이미 끝났거나 취소를 지원하지 않는 드라이버: 결과 집합을 닫으며 정리됨
+        }
+    }
+
+    /**
+     * 출력 컬럼 이름 (SELECT 순서와 같음)
+     */
+    static List<String> columns(ExportKind kind) {
+        return switch (kind) {
+            case POSTS -> List.of("id", "title", "content", "authorId", "authorName", "categoryId", "categoryName",
+                    "published", "createdAt");
+            case COMMENTS -> List.of("id", "postId", "parentCommentId", "authorId", "authorName", "content",
+                    "createdAt");
+            case CHAT_MESSAGES -> List.of("id", "chatRoomId", "senderId", "senderName", "messageType", "content",
+                    "sentAt", "readByRecipient");
+        };
+    }
+
+    private String postsQuery(ExportFilter filter, List<Object> parameters) {
+        String p = "p.";
+        String createdAt = p + tableMapping.column("Post", "createdAt");
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(p).append(tableMapping.idColumn("Post")).append(", ")
+                .append(p).append(tableMapping.column("Post", "title")).append(", ")
+                .append(p).append(tableMapping.column("Post", "content")).append(", ")
+                .append("u.").append(tableMapping.idColumn("User")).append(", ")
+                .append("u.").append(tableMapping.column("User", "name")).append(", ")
+                .append("c.").append(tableMapping.idColumn("Category")).append(", ")
+                .append("c.").append(tableMapping.column("Category", "name")).append(", ")
+                .append(p).append(tableMapping.column("Post", "published")).append(", ")
+                .append(createdAt)
+                .append(" FROM ").append(tableMapping.table("Post")).append(" p")
+                .append(" JOIN ").append(tableMapping.table("User")).append(" u ON u.")
+                .append(tableMapping.idColumn("User")).append(" = p.").append(tableMapping.column("Post", "author"))
+                .append(" LEFT JOIN ").append(tableMapping.table("Category")).append(" c ON c.")
+                .append(tableMapping.idColumn("Category")).append(" = p.").append(tableMapping.column("Post", "category"))
+                .append(" WHERE 1 = 1");
+        if (filter.published() != null) {
+            sql.append(" AND ").append(p).append(tableMapping.column("Post", "published")).append(" = ?");
+            parameters.add(filter.published());
+        }
+        appendRange(sql, createdAt, filter, parameters);
+        return sql.append(" ORDER BY ").append(p).append(tableMapping.idColumn("Post")).toString();
+    }
+
+    private String commentsQuery(ExportFilter filter, List<Object> parameters) {
+        String cm = "cm.";
+        String createdAt = cm + tableMapping.column("Comment", "createdAt");
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(cm).append(tableMapping.idColumn("Comment")).append(", ")
+                .append(cm).append(tableMapping.column("Comment", "post")).append(", ")
+                .append(cm).append(tableMapping.column("Comment", "parentComment")).append(", ")
+                .append("u.").append(tableMapping.idColumn("User")).append(", ")
+                .append("u.").append(tableMapping.column("User", "name")).append(", ")
+                .append(cm).append(tableMapping.column("Comment", "content")).append(", ")
+                .append(createdAt)
+                .append(" FROM ").append(tableMapping.table("Comment")).append(" cm")
+                .append(" JOIN ").append(tableMapping.table("User")).append(" u ON u.")
+                .append(tableMapping.idColumn("User")).append(" = cm.").append(tableMapping.column("Comment", "author"))
+                .append(" WHERE 1 = 1");
+        if (filter.postId() != null) {
+            sql.append(" AND ").append(cm).append(tableMapping.column("Comment", "post")).append(" = ?");
+            parameters.add(filter.postId());
+        }
+        appendRange(sql, createdAt, filter, parameters);
+        return sql.append(" ORDER BY ").append(cm).append(tableMapping.idColumn("Comment")).toString();
+    }
+
+    private String chatMessagesQuery(ExportFilter filter, List<Object> parameters) {
+        String m = "m.";
+        String sentAt = m + tableMapping.column("ChatMessage", "sentAt");
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(m).append(tableMapping.idColumn("ChatMessage")).append(", ")
+                .append(m).append(tableMapping.column("ChatMessage", "chatRoom")).append(", ")
+                .append("u.").append(tableMapping.idColumn("User")).append(", ")
+                .append("u.").append(tableMapping.column("User", "name")).append(", ")
+                .append(m).append(tableMapping.column("ChatMessage", "messageType")).append(", ")
+                .append(m).append(tableMapping.column("ChatMessage", "content")).append(", ")
+                .append(sentAt).append(", ")
+                .append(m).append(tableMapping.column("ChatMessage", "readByRecipient"))
+                .append(" FROM ").append(tableMapping.table("ChatMessage")).append(" m")
+                .append(" JOIN ").append(tableMapping.table("User")).append(" u ON u.")
+                .append(tableMapping.idColumn("User")).append(" = m.").append(tableMapping.column("ChatMessage", "sender"))
+                .append(" WHERE 1 = 1");
+        if (filter.chatRoomId() != null) {
+            sql.append(" AND ").append(m).append(tableMapping.column("ChatMessage", "chatRoom")).append(" = ?");
+            parameters.add(filter.chatRoomId());
+        }
+        appendRange(sql, sentAt, filter, parameters);
+        return sql.append(" ORDER BY ").append(m).append(tableMapping.idColumn("ChatMessage")).toString();
+    }
+
+    private static void appendRange(StringBuilder sql, String column, ExportFilter filter, List<Object> parameters) {
+        if (filter.from() != null) {
+            sql.append(" AND ").append(column).append(" >= ?");
+            parameters.add(filter.from());
+        }
+        if (filter.to() != null) {
+            sql.append(" AND ").append(column).append(" < ?");
+            parameters.add(filter.to());
+        }
+    }
+
+    /**
+     * 압축 스트림을 마무리해도 응답 스트림은 닫히지 않도록 감쌈
+     */
+    private static OutputStream nonClosing(OutputStream output) {
+        return new FilterOutputStream(output) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+                    metaData -> metaData.getDatabaseProductName().toLowerCase());
+            return product.contains("mysql") || product.contains("mariadb");
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+}
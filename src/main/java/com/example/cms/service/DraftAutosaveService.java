@@ -0,0 +1,402 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.DraftPatchRequest;
+import com.example.cms.dto.DraftStateDto;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostUpdatedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 임시저장(autosave)
+ * 편집 중인 임시저장 게시글의 제목/본문을 게시글별 버퍼에 모아 두고, 변경분이 올 때마다 저장하지 않고
+ * persist-interval마다 최대 한 번, 또는 명시적 저장/발행/편집 종료 시 마지막 상태만 데이터베이스에 반영한다.
+ * 변경분은 클라이언트가 마지막으로 받은 버전을 함께 보내며, 그 사이 다른 탭에서 바뀌었으면 충돌로 거부한다.
+ * 저장은 버퍼를 만든 시점의 수정 시각이 그대로일 때만 반영하며, 그 사이 다른 경로로 수정되었으면 덮어쓰지 않고
+ * 버퍼를 저장된 내용으로 다시 만든다. (이후 요청은 이전 버전 기준이므로 충돌로 거부되어 최신 내용을 받는다)
+ * 버퍼는 노드 메모리에 있으므로 편집 세션은 같은 노드로 연결되어야 한다(sticky session).
+ */
+@Service
+public class DraftAutosaveService {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftAutosaveService.class);
+
+    /**
+     * 버전 발급기 (기동 시각 기반이라 재기동이나 버퍼 재생성 후에도 이전 버전과 겹치지 않음)
+     */
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    private final Map<Long, DraftBuffer> buffers = new ConcurrentHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostRenderService postRenderService;
+    private final Duration persistInterval;
+    private final Duration idleTimeout;
+    private final int maxContentLength;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public DraftAutosaveService(PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                PostRenderService postRenderService,
+                                @Value("${cms.drafts.autosave.persist-interval-seconds:10}") long persistIntervalSeconds,
+                                @Value("${cms.drafts.autosave.idle-timeout-minutes:30}") long idleTimeoutMinutes,
+                                @Value("${cms.drafts.autosave.max-content-length:1000000}") int maxContentLength) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.postRenderService = postRenderService;
+        this.persistInterval = Duration.ofSeconds(persistIntervalSeconds);
+        this.idleTimeout = Duration.ofMinutes(idleTimeoutMinutes);
+        this.maxContentLength = maxContentLength;
+    }
+
+    /**
+     * 편집 세션 시작 (버퍼가 없으면 저장된 임시저장본으로 생성)
+     */
+    public DraftStateDto open(Long postId, String email) {
+        DraftBuffer buffer = buffers.get(postId);
+        if (buffer == null) {
+            buffer = load(postId, email);
+            DraftBuffer existing = buffers.putIfAbsent(postId, buffer);
+            if (existing != null) {
+                buffer = existing;
+            }
+        }
+        synchronized (buffer) {
+            checkOwner(buffer, email);
+            buffer.touch();
+            return buffer.toDto();
+        }
+    }
+
+    /**
+     * 변경분 반영 (메모리 버퍼에만 반영하고 저장은 주기적으로)
+     *
+     * @throws DraftConflictException baseVersion이 현재 버전과 다른 경우
+     */
+    public DraftStateDto patch(Long postId, String email, DraftPatchRequest request) {
+        DraftBuffer buffer = buffers.get(postId);
+        if (buffer == null) {
+            throw new IllegalArgumentException("편집 세션이 없습니다. 임시저장본을 다시 열어주세요.");
+        }
+        synchronized (buffer) {
+            checkOwner(buffer, email);
+            checkConflicted(buffer);
+            if (request.baseVersion() != buffer.version) {
+                throw new DraftConflictException(buffer.toDto());
+            }
+            String title = request.title() != null ? request.title() : buffer.title;
+            String content = request.content() != null ? request.content() : buffer.content;
+            if (request.splices() != null) {
+                content = applySplices(content, request.splices());
+            }
+            if (title.isBlank()) {
+                throw new IllegalArgumentException("제목을 입력해주세요.");
+            }
+            if (content.length() > maxContentLength) {
+                throw new IllegalArgumentException("본문이 너무 깁니다.");
+            }
+            buffer.touch();
+            if (!title.equals(buffer.title) || !content.equals(buffer.content)) {
+                buffer.title = title;
+                buffer.content = content;
+                buffer.version = versions.incrementAndGet();
+            }
+            return buffer.toDto();
+        }
+    }
+
+    /**
+     * 명시적 저장 (발행 직전에도 호출)
+     *
+     * @throws DraftConflictException 버퍼를 만든 뒤 다른 경로로 게시글이 수정된 경우
+     */
+    public DraftStateDto save(Long postId, String email) {
+        DraftBuffer buffer = buffers.get(postId);
+        if (buffer == null) {
+            return open(postId, email);
+        }
+        synchronized (buffer) {
+            checkOwner(buffer, email);
+        }
+        persist(buffer);
+        synchronized (buffer) {
+            checkConflicted(buffer);
+            return buffer.toDto();
+        }
+    }
+
+    /**
+     * 편집 세션 종료 (남은 변경분을 저장하고 버퍼 해제)
+     */
+    public void close(Long postId, String email) {
+        DraftBuffer buffer = buffers.get(postId);
+        if (buffer == null) {
+            return;
+        }
+        synchronized (buffer) {
+            checkOwner(buffer, email);
+        }
+        if (persist(buffer)) {
+            buffers.remove(postId, buffer);
+        }
+    }
+
+    /**
+     * 발행 등 게시글 서비스가 저장 전에 호출 (남은 변경분을 먼저 반영)
+     */
+    public void flush(Long postId) {
+        DraftBuffer buffer = buffers.get(postId);
+        if (buffer != null) {
+            persist(buffer);
+        }
+    }
+
+    /**
+     * 저장 주기가 지난 버퍼를 반영하고, 오래 사용하지 않은 버퍼는 해제
+     */
+    @Scheduled(fixedDelayString = "${cms.drafts.autosave.flush-interval-ms:1000}")
+    public void persistDue() {
+        LocalDateTime now = LocalDateTime.now();
+        buffers.forEach((postId, buffer) -> {
+            boolean due;
+            boolean idle;
+            synchronized (buffer) {
+                due = buffer.isDirty() && !buffer.persistedAt.plus(persistInterval).isAfter(now);
+                idle = buffer.lastTouchedAt.plus(idleTimeout).isBefore(now);
+            }
+            if ((due || idle) && persist(buffer) && idle) {
+                buffers.remove(postId, buffer);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        buffers.values().forEach(this::persist);
+    }
+
+    /**
+     * 다른 경로(게시글 수정 화면 등)로 수정된 경우 버퍼를 버리고 다음 요청에서 저장된 내용을 다시 읽음
+     * 버퍼에 아직 저장되지 않은 변경분이 있으면 유지하며, 저장 시 수정 시각 비교로 충돌이 감지된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        DraftBuffer buffer = buffers.get(event.postId());
+        if (buffer != null) {
+            synchronized (buffer) {
+                if (!buffer.isDirty() && !buffer.persisting) {
+                    buffers.remove(event.postId(), buffer);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        buffers.remove(event.postId());
+    }
+
+    boolean isBuffered(Long postId) {
+        return buffers.containsKey(postId);
+    }
+
+    /**
+     * 버퍼의 현재 상태를 저장
+     *
+     * @return 저장할 내용이 없었거나 저장에 성공하면 true
+     */
+    private boolean persist(DraftBuffer buffer) {
+        String title;
+        String content;
+        long version;
+        LocalDateTime baseUpdatedAt;
+        synchronized (buffer) {
+            if (!buffer.isDirty() || buffer.persisting || buffer.conflicted) {
+                return !buffer.isDirty() || buffer.conflicted;
+            }
+            buffer.persisting = true;
+            title = buffer.title;
+            content = buffer.content;
+            version = buffer.version;
+            baseUpdatedAt = buffer.baseUpdatedAt;
+        }
+
+        boolean saved = false;
+        LocalDateTime storedUpdatedAt = null;
+        try {
+            storedUpdatedAt = transactionTemplate.execute(status -> {
+                Query update = entityManager.createQuery(
+                                "UPDATE Post p SET p.title = :title, p.content = :content, p.updatedAt = :now " +
+                                "WHERE p.id = :postId AND p.published = false AND " +
+                                (baseUpdatedAt != null ? "p.updatedAt = :baseUpdatedAt" : "p.updatedAt IS NULL"))
+                        .setParameter("title", title)
+                        .setParameter("content", content)
+                        .setParameter("now", LocalDateTime.now())
+                        .setParameter("postId", buffer.postId);
+                if (baseUpdatedAt != null) {
+                    update.setParameter("baseUpdatedAt", baseUpdatedAt);
+                }
+                int count = update.executeUpdate();
+                if (count == 0) {
+                    return null;
+                }
+                postRenderService.renderAndStore(buffer.postId, content);
+                eventPublisher.publishEvent(new PostUpdatedEvent(buffer.postId));
+                // 컬럼 정밀도에 맞춰 잘린 값을 다음 비교 기준으로 사용
+                return entityManager.createQuery(
+                                "SELECT p.updatedAt FROM Post p WHERE p.id = :postId", LocalDateTime.class)
+                        .setParameter("postId", buffer.postId)
+                        .getSingleResult();
+            });
+            if (storedUpdatedAt == null) {
+                discardStale(buffer);
+            }
+            saved = true;
+        } catch (RuntimeException e) {
+            log.warn("임시저장 반영 실패, 다음 주기에 재시도: postId={}", buffer.postId, e);
+        } finally {
+            synchronized (buffer) {
+                buffer.persisting = false;
+                if (saved && !buffer.conflicted) {
+                    buffer.persistedVersion = Math.max(buffer.persistedVersion, version);
+                    buffer.persistedAt = LocalDateTime.now();
+                    buffer.baseUpdatedAt = storedUpdatedAt;
+                }
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 저장 조건에 맞지 않은 버퍼 정리
+     * 그 사이 발행되었거나 삭제되었으면 버퍼를 해제하고, 다른 경로로 수정되었으면 덮어쓰지 않고
+     * 저장된 내용으로 버퍼를 다시 만든다.
+     */
+    private void discardStale(DraftBuffer buffer) {
+        synchronized (buffer) {
+            buffer.conflicted = true;
+        }
+        DraftBuffer reloaded;
+        try {
+            reloaded = load(buffer.postId, buffer.ownerEmail);
+        } catch (IllegalArgumentException e) {
+            buffers.remove(buffer.postId, buffer);
+            log.info("임시저장 대상이 아니어서 버퍼 해제: postId={}", buffer.postId);
+            return;
+        }
+        buffers.replace(buffer.postId, buffer, reloaded);
+        log.warn("다른 경로로 수정된 게시글이라 임시저장 변경분을 반영하지 않음: postId={}", buffer.postId);
+    }
+
+    private DraftBuffer load(Long postId, String email) {
+        List<Object[]> rows = transactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT p.title, p.content, p.published, p.author.email, p.updatedAt FROM Post p " +
+                        "WHERE p.id = :postId",
+                        Object[].class)
+                .setParameter("postId", postId)
+                .getResultList());
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + postId);
+        }
+        Object[] row = rows.get(0);
+        if (Boolean.TRUE.equals(row[2])) {
+            throw new IllegalArgumentException("발행된 게시글은 임시저장할 수 없습니다.");
+        }
+        if (!Objects.equals(row[3], email)) {
+            throw new IllegalArgumentException("본인이 작성한 게시글만 편집할 수 있습니다.");
+        }
+        return new DraftBuffer(postId, email, (String) row[0], row[1] != null ? (String) row[1] : "",
+                versions.incrementAndGet(), (LocalDateTime) row[4]);
+    }
+
+    private static void checkOwner(DraftBuffer buffer, String email) {
+        if (!buffer.ownerEmail.equals(email)) {
+            throw new IllegalArgumentException("본인이 작성한 게시글만 편집할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 다른 경로의 수정으로 버려진 버퍼이면 다시 만든 버퍼의 상태로 충돌을 알림
+     */
+    private void checkConflicted(DraftBuffer buffer) {
+        if (buffer.conflicted) {
+            DraftBuffer current = buffers.get(buffer.postId);
+            throw new DraftConflictException(current != null ? current.toDto() : buffer.toDto());
+        }
+    }
+
+    static String applySplices(String content, List<DraftPatchRequest.Splice> splices) {
+        StringBuilder result = new StringBuilder(content);
+        for (DraftPatchRequest.Splice splice : splices) {
+            int end = splice.offset() + splice.deleteCount();
+            if (splice.offset() < 0 || splice.deleteCount() < 0 || end > result.length()) {
+                throw new IllegalArgumentException("변경 위치가 본문 범위를 벗어났습니다.");
+            }
+            result.replace(splice.offset(), end, splice.text() != null ? splice.text() : "");
+        }
+        return result.toString();
+    }
+
+    /**
+     * 게시글별 임시저장 버퍼 (필드는 버퍼 객체로 동기화)
+     */
+    private static final class DraftBuffer {
+        private final Long postId;
+        private final String ownerEmail;
+        private String title;
+        private String content;
+        private long version;
+        private long persistedVersion;
+        private LocalDateTime persistedAt = LocalDateTime.now();
+        private LocalDateTime lastTouchedAt = LocalDateTime.now();
+        private boolean persisting;
+        /** 다른 경로의 수정으로 더 이상 저장하지 않는 버퍼 */
+        private boolean conflicted;
+        /** 버퍼 내용의 기준이 된 게시글 수정 시각 (저장 조건) */
+        private LocalDateTime baseUpdatedAt;
+
+        DraftBuffer(Long postId, String ownerEmail, String title, String content, long version,
+                    LocalDateTime baseUpdatedAt) {
+            this.postId = postId;
+            this.ownerEmail = ownerEmail;
+            this.title = title;
+            this.content = content;
+            this.version = version;
+            this.persistedVersion = version;
+            this.baseUpdatedAt = baseUpdatedAt;
+        }
+
+        boolean isDirty() {
+            return version != persistedVersion;
+        }
+
+        void touch() {
+            lastTouchedAt = LocalDateTime.now();
+        }
+
+        DraftStateDto toDto() {
+            return new DraftStateDto(postId, version, persistedVersion, title, content, persistedAt);
+        }
+    }
+}
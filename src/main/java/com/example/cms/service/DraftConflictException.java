@@ -0,0 +1,22 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.DraftStateDto;
+
+/**
+ * 다른 탭/창에서 먼저 수정된 임시저장본에 이전 버전 기준의 변경분을 보낸 경우
+ */
+public class DraftConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient DraftStateDto current;
+
+    public DraftConflictException(DraftStateDto current) {
+        super("다른 창에서 먼저 수정되었습니다. 최신 내용을 확인해주세요.");
+        this.current = current;
+    }
+
+    public DraftStateDto getCurrent() {
+        return current;
+    }
+}
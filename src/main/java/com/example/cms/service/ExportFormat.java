@@ -0,0 +1,26 @@
+package com.example.cms.service;
+
+/**
+ * 데이터 내보내기 형식
+ * NDJSON은 한 줄에 JSON 객체 하나, CSV는 첫 행이 헤더인 RFC 4180 형식 (Excel 호환을 위해 UTF-8 BOM 포함)
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
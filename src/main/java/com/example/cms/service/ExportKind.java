@@ -0,0 +1,20 @@
+package com.example.cms.service;
+
+/**
+ * 데이터 내보내기 대상
+ */
+public enum ExportKind {
+    POSTS("posts"),
+    COMMENTS("comments"),
+    CHAT_MESSAGES("chat-messages");
+
+    private final String fileName;
+
+    ExportKind(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.cms.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 내보내기 행 출력기
+ * 행을 모으지 않고 받는 즉시 출력 스트림에 쓴다.
+ */
+interface ExportRowWriter {
+
+    void begin(List<String> columns) throws IOException;
+
+    void row(Object[] values) throws IOException;
+
+    void end() throws IOException;
+
+    static ExportRowWriter of(ExportFormat format, OutputStream output) throws IOException {
+        return format == ExportFormat.CSV ? new Csv(output) : new NdJson(output);
+    }
+
+    /**
+     * 날짜는 ISO-8601 문자열로 출력
+     */
+    static Object normalize(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : value;
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (Jackson 스트리밍 생성기 사용)
+     */
+    final class NdJson implements ExportRowWriter {
+
+        private final JsonGenerator generator;
+        private List<String> columns;
+
+        NdJson(OutputStream output) throws IOException {
+            this.generator = new JsonFactory().createGenerator(output, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void begin(List<String> columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = normalize(values[i]);
+                generator.writeFieldName(columns.get(i));
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Boolean bool) {
+                    generator.writeBoolean(bool);
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.toString());
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV (쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감쌈)
+     */
+    final class Csv implements ExportRowWriter {
+
+        private final Writer writer;
+
+        Csv(OutputStream output) {
+            this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void begin(List<String> columns) throws IOException {
+            writer.write('\uFEFF');
+            row(columns.toArray());
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = normalize(values[i]);
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void end() throws IOException {
+            writer.flush();
+        }
+    }
+}
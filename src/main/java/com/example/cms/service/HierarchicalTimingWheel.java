@@ -0,0 +1,156 @@
+package com.example.cms.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠
+ * 가장 아래 휠은 tickMillis 간격의 슬롯 wheelSize개로 (tickMillis × wheelSize) 이내의 작업을 담고,
+ * 그보다 먼 작업은 한 칸이 아래 휠 한 바퀴인 위 휠에 담는다 (필요할 때 단계가 추가됨).
+ * 위 휠의 슬롯이 만료되면 그 안의 작업을 다시 넣어 아래 휠로 내려보내므로, 등록/취소/만료 처리는 작업 수와 무관하게
+ * 일정 시간이 걸리고 만료 시각의 오차는 tickMillis 이내다.
+ * 동기화는 호출자 대신 이 클래스가 처리한다.
+ */
+final class HierarchicalTimingWheel<K> {
+
+    private final int wheelSize;
+    private final List<Level> levels = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2 이어야 합니다.");
+        }
+        this.wheelSize = wheelSize;
+        levels.add(new Level(tickMillis, startMillis));
+    }
+
+    /**
+     * 작업 등록 (같은 키가 있으면 만료 시각을 바꿈)
+     *
+     * @return 이미 만료 시각이 지나 바로 실행해야 하면 false (등록되지 않음)
+     */
+    synchronized boolean schedule(K key, long deadlineMillis) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, deadlineMillis);
+        if (!insert(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(key);
+        return true;
+    }
+
+    synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    synchronized Long deadlineOf(K key) {
+        Entry<K> entry = entries.get(key);
+        return entry != null ? entry.deadlineMillis : null;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 현재 시각까지 시계를 진행하고 만료된 작업의 키를 반환
+     */
+    synchronized List<K> advance(long nowMillis) {
+        List<Entry<K>> drained = new ArrayList<>();
+        for (Level level : levels) {
+            level.advance(nowMillis, drained);
+        }
+        List<K> expired = new ArrayList<>();
+        for (Entry<K> entry : drained) {
+            if (!insert(entry)) {
+                entries.remove(entry.key);
+                expired.add(entry.key);
+            }
+        }
+        return expired;
+    }
+
+    private boolean insert(Entry<K> entry) {
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level lower = levels.get(i - 1);
+                levels.add(new Level(lower.interval, lower.currentTime));
+            }
+            Level level = levels.get(i);
+            if (i == 0 && entry.deadlineMillis < level.currentTime + level.tick) {
+                return false;
+            }
+            if (entry.deadlineMillis < level.currentTime + level.interval) {
+                level.add(entry);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 휠 한 단계
+     */
+    private final class Level {
+        private final long tick;
+        private final long interval;
+        private final List<Map<K, Entry<K>>> buckets = new ArrayList<>();
+        private long currentTime;
+
+        Level(long tick, long startMillis) {
+            this.tick = tick;
+            this.interval = tick * wheelSize;
+            this.currentTime = startMillis - Math.floorMod(startMillis, tick);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new LinkedHashMap<>());
+            }
+        }
+
+        void add(Entry<K> entry) {
+            Map<K, Entry<K>> bucket = buckets.get((int) Math.floorMod(entry.deadlineMillis / tick, (long) wheelSize));
+            bucket.put(entry.key, entry);
+            entry.bucket = bucket;
+        }
+
+        /**
+         * 현재 시각까지 지난 칸을 비움 (한 바퀴 이상 지났으면 모든 칸을 한 번씩만 비움)
+         */
+        void advance(long nowMillis, List<Entry<K>> drained) {
+            long target = nowMillis - Math.floorMod(nowMillis, tick);
+            if (target <= currentTime) {
+                return;
+            }
+            long steps = Math.min((target - currentTime) / tick, wheelSize);
+            long slot = target / tick;
+            for (long i = 0; i < steps; i++) {
+                Map<K, Entry<K>> bucket = buckets.get((int) Math.floorMod(slot - i, (long) wheelSize));
+                drained.addAll(bucket.values());
+                bucket.clear();
+            }
+            currentTime = target;
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineMillis;
+        private Map<K, Entry<K>> bucket;
+
+        Entry(K key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.cms.service;
+
+/**
+ * 이미지 변환 크기 (긴 변 기준, 원본이 이보다 작으면 만들지 않고 원본을 사용)
+ */
+public enum ImageVariant {
+    THUMBNAIL(240),
+    MEDIUM(960);
+
+    private final int maxDimension;
+
+    ImageVariant(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+}
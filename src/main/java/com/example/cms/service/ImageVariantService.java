@@ -0,0 +1,343 @@
+package com.example.cms.service;
+
+import com.example.cms.entity.ImageVariantJob;
+import com.example.cms.entity.ImageVariantJobStatus;
+import com.example.cms.event.BlobStoredEvent;
+import com.example.cms.repository.ImageVariantJobRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 이미지 변환본 생성
+ * 이미지가 업로드되면 image_variant_jobs에 작업을 남기고 고정 크기 워커 풀에 넘긴다.
+ * 워커는 원본을 한 번만 디코딩해(큰 원본은 서브샘플링으로 읽음) 모든 변환 크기를 만들고,
+ * 변환본은 파일 해시 기준의 디스크 캐시에 저장되므로 게시글 이미지와 채팅 첨부가 같은 파일을 공유한다.
+ * 변환본이 준비되기 전까지는 원본이 제공된다.
+ * 완료/실패로 끝난 작업의 상태는 바뀌지 않으므로 메모리에 기억해 두고, 다운로드마다 작업을 다시 조회하지 않는다.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String STALE_ERROR = "변환 중 작업이 중단되어 최대 시도 횟수를 넘었습니다.";
+
+    private final ImageVariantJobRepository jobRepository;
+    private final BlobStore blobStore;
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate newTransaction;
+    private final Path root;
+    private final long maxPixels;
+    private final long staleAfterMillis;
+    private final Cache<String, ImageVariantJobStatus> settled;
+
+    public ImageVariantService(ImageVariantJobRepository jobRepository,
+                               BlobStore blobStore,
+                               @Qualifier("imageVariantExecutor") ThreadPoolExecutor executor,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${cms.images.variant-dir:${java.io.tmpdir}/cms-variants}") String directory,
+                               @Value("${cms.images.max-pixels:50000000}") long maxPixels,
+                               @Value("${cms.images.stale-after-ms:300000}") long staleAfterMillis,
+                               @Value("${cms.images.settled-cache-size:100000}") long settledCacheSize) {
+        this.jobRepository = jobRepository;
+        this.blobStore = blobStore;
+        this.executor = executor;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        this.maxPixels = maxPixels;
+        this.staleAfterMillis = staleAfterMillis;
+        this.settled = Caffeine.newBuilder()
+                .maximumSize(settledCacheSize)
+                .build();
+    }
+
+    /**
+     * 변환본을 만들 수 있는 형식인지 (ImageIO로 읽을 수 있는 형식)
+     */
+    public static boolean isSupported(String contentType) {
+        return contentType != null && ImageIO.getImageReadersByMIMEType(contentType).hasNext();
+    }
+
+    /**
+     * 준비된 변환본 (아직 없거나 원본이 충분히 작아 만들지 않은 경우 빈 값)
+     */
+    public Optional<VariantFile> find(String hash, ImageVariant variant) {
+        for (OutputFormat format : OutputFormat.values()) {
+            Path path = path(hash, variant, format);
+            if (Files.isRegularFile(path)) {
+                return Optional.of(new VariantFile(path, format.contentType));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 변환본이 아직 만들어질 수 있는지 (작업이 대기/실행 중이거나 이번에 새로 요청한 경우 true)
+     * 작업이 완료되었는데 변환본이 없으면 원본이 충분히 작은 경우이고, 실패했으면 다시 시도하지 않으므로 false이다.
+     */
+    public boolean isPending(String hash, String contentType) {
+        if (!isSupported(contentType) || settled.getIfPresent(hash) != null) {
+            return false;
+        }
+        ImageVariantJobStatus status = jobRepository.findStatus(hash).orElse(null);
+        if (status == null) {
+            request(hash, contentType);
+            return true;
+        }
+        if (status == ImageVariantJobStatus.DONE || status == ImageVariantJobStatus.FAILED) {
+            settled.put(hash, status);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 변환 요청 (작업이 없을 때만 새로 만들어 워커에 넘김)
+     */
+    public void request(String hash, String contentType) {
+        if (!isSupported(contentType)) {
+            return;
+        }
+        boolean created;
+        try {
+            created = Boolean.TRUE.equals(newTransaction.execute(status -> {
+                if (jobRepository.existsById(hash)) {
+                    return false;
+                }
+                jobRepository.saveAndFlush(new ImageVariantJob(hash));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 이미지의 작업을 먼저 만듦
+            created = false;
+        }
+        if (created) {
+            dispatch(hash);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlobStored(BlobStoredEvent event) {
+        request(event.hash(), event.contentType());
+    }
+
+    /**
+     * 대기열이 가득 차서 넘기지 못했거나 중단된 노드가 잡고 있던 작업을 다시 워커에 넘김
+     */
+    @Scheduled(initialDelayString = "${cms.images.poll-interval-ms:10000}",
+               fixedDelayString = "${cms.images.poll-interval-ms:10000}")
+    public void dispatchPending() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusNanos(staleAfterMillis * 1_000_000);
+        newTransaction.executeWithoutResult(status -> {
+            int failed = jobRepository.failStale(staleBefore, MAX_ATTEMPTS, STALE_ERROR, now);
+            if (failed > 0) {
+                log.warn("최대 시도 횟수 동안 완료되지 않은 이미지 변환 작업 실패 처리: {}건", failed);
+            }
+            jobRepository.releaseStale(staleBefore, MAX_ATTEMPTS, now);
+        });
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity <= 0) {
+            return;
+        }
+        newTransaction.execute(status -> jobRepository.findPendingHashes(PageRequest.of(0, capacity)))
+                .forEach(this::dispatch);
+    }
+
+    /**
+     * 작업 실행 (선점한 경우에만 변환)
+     *
+     * @return 이 호출로 작업을 완료했으면 true
+     */
+    boolean process(String hash) {
+        Integer claimed = newTransaction.execute(status -> jobRepository.claim(hash, MAX_ATTEMPTS, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return false;
+        }
+        try {
+            generate(hash);
+            finish(hash, ImageVariantJobStatus.DONE, null);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            int attempts = newTransaction.execute(status -> jobRepository.findById(hash)
+                    .map(ImageVariantJob::getAttempts)
+                    .orElse(MAX_ATTEMPTS));
+            ImageVariantJobStatus next = attempts >= MAX_ATTEMPTS
+                    ? ImageVariantJobStatus.FAILED
+                    : ImageVariantJobStatus.PENDING;
+            log.warn("이미지 변환 실패: hash={}, attempts={}, next={}", hash, attempts, next, e);
+            String error = String.valueOf(e.getMessage());
+            finish(hash, next, error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            return false;
+        }
+    }
+
+    private void dispatch(String hash) {
+        try {
+            executor.execute(() -> process(hash));
+        } catch (RejectedExecutionException e) {
+            log.debug("이미지 변환 대기열이 가득 참, 다음 조회 때 실행: hash={}", hash);
+        }
+    }
+
+    private void finish(String hash, ImageVariantJobStatus status, String error) {
+        newTransaction.executeWithoutResult(tx -> jobRepository.finish(hash, status, error, LocalDateTime.now()));
+    }
+
+    /**
+     * 원본보다 작은 변환 크기만 생성
+     */
+    private void generate(String hash) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(blobStore.resolve(hash).toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("이미지를 읽을 수 없습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("이미지가 너무 큽니다: " + width + "x" + height);
+                }
+                int longest = Math.max(width, height);
+                List<ImageVariant> variants = Arrays.stream(ImageVariant.values())
+                        .filter(variant -> longest > variant.getMaxDimension())
+                        .toList();
+                if (variants.isEmpty()) {
+                    return;
+                }
+
+                // 가장 큰 변환 크기의 2배 이상은 유지하는 선에서 서브샘플링해 디코딩 메모리를 줄임
+                int largest = variants.stream().mapToInt(ImageVariant::getMaxDimension).max().orElseThrow();
+                int subsampling = Math.max(1, longest / (largest * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                for (ImageVariant variant : variants) {
+                    write(hash, variant, scale(image, variant.getMaxDimension()));
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension이 되도록 축소 (한 번에 크게 줄이면 품질이 떨어지므로 절반씩 단계적으로 줄임)
+     */
+    private static BufferedImage scale(BufferedImage source, int maxDimension) {
+        boolean alpha = source.getColorModel().hasAlpha();
+        double ratio = (double) maxDimension / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 옮겨서, 준비되지 않은 변환본이 제공되지 않도록 함
+     */
+    private void write(String hash, ImageVariant variant, BufferedImage image) throws IOException {
+        OutputFormat format = image.getColorModel().hasAlpha() ? OutputFormat.PNG : OutputFormat.JPEG;
+        Path target = path(hash, variant, format);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), hash, ".part");
+        try {
+            if (!ImageIO.write(image, format.formatName, temp.toFile())) {
+                throw new IOException("변환본을 쓸 수 없습니다: " + format.formatName);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path path(String hash, ImageVariant variant, OutputFormat format) {
+        if (!BlobStore.isValidHash(hash)) {
+            throw new IllegalArgumentException("잘못된 파일 해시입니다: " + hash);
+        }
+        return root.resolve(variant.name().toLowerCase(Locale.ROOT))
+                .resolve(hash.substring(0, 2))
+                .resolve(hash + "." + format.extension);
+    }
+
+    /**
+     * 변환본 파일
+     */
+    public record VariantFile(Path path, String contentType) {
+    }
+
+    /**
+     * 변환본 저장 형식 (투명도가 있으면 PNG, 없으면 JPEG)
+     */
+    private enum OutputFormat {
+        JPEG("jpeg", "jpg", "image/jpeg"),
+        PNG("png", "png", "image/png");
+
+        private final String formatName;
+        private final String extension;
+        private final String contentType;
+
+        OutputFormat(String formatName, String extension, String contentType) {
+            this.formatName = formatName;
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.cms.service;
+
+/**
+ * 대량 가져오기 파일 형식
+ * JSONL은 한 줄에 JSON 객체 하나, CSV는 첫 행이 헤더(필드 이름)인 RFC 4180 형식
+ */
+public enum ImportFormat {
+    JSONL,
+    CSV
+}
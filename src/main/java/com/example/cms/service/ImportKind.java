@@ -0,0 +1,20 @@
+package com.example.cms.service;
+
+/**
+ * 대량 가져오기 대상
+ */
+public enum ImportKind {
+    USERS("사용자"),
+    POSTS("게시글"),
+    COMMENTS("댓글");
+
+    private final String displayName;
+
+    ImportKind(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
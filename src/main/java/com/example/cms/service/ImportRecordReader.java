@@ -0,0 +1,153 @@
+package com.example.cms.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져오기 파일 순차 읽기
+ * 파일 전체를 메모리에 올리지 않고 레코드 단위로 읽는다.
+ * JSONL은 줄을 그대로 넘겨 파싱을 병렬 검증 단계에 맡기고, CSV는 따옴표 안의 줄바꿈 때문에 여기서 필드를 나눈다.
+ */
+final class ImportRecordReader implements Closeable {
+
+    /**
+     * 읽은 레코드 (number는 1부터 시작하는 레코드 번호, CSV 헤더 제외)
+     * JSONL이면 line, CSV면 fields가 채워진다.
+     */
+    record RawRecord(long number, String line, Map<String, String> fields) {
+    }
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final List<String> header;
+    private long number;
+
+    private ImportRecordReader(BufferedReader reader, ImportFormat format) throws IOException {
+        this.reader = reader;
+        this.format = format;
+        this.header = format == ImportFormat.CSV ? readCsvRow() : null;
+        if (format == ImportFormat.CSV) {
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            header.set(0, header.get(0).replace("\uFEFF", ""));
+        }
+    }
+
+    static ImportRecordReader open(Path file, ImportFormat format) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            return new ImportRecordReader(reader, format);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 앞쪽 레코드 건너뛰기 (체크포인트 재개)
+     */
+    void skip(long records) {
+        while (number < records && next() != null) {
+            // 이미 반영된 레코드
+        }
+    }
+
+    /**
+     * 최대 size개의 레코드 읽기 (파일 끝이면 빈 목록)
+     */
+    List<RawRecord> nextBatch(int size) {
+        List<RawRecord> batch = new ArrayList<>(size);
+        RawRecord record;
+        while (batch.size() < size && (record = next()) != null) {
+            batch.add(record);
+        }
+        return batch;
+    }
+
+    private RawRecord next() {
+        try {
+            if (format == ImportFormat.JSONL) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        return new RawRecord(++number, line, null);
+                    }
+                }
+                return null;
+            }
+            List<String> row;
+            while ((row = readCsvRow()) != null) {
+                if (row.size() == 1 && row.get(0).isEmpty()) {
+                    continue;
+                }
+                Map<String, String> fields = new LinkedHashMap<>();
+                for (int i = 0; i < header.size() && i < row.size(); i++) {
+                    fields.put(header.get(i).trim(), row.get(i));
+                }
+                return new RawRecord(++number, null, fields);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * RFC 4180 행 하나 읽기 (따옴표 필드 안의 쉼표, 줄바꿈, "" 이스케이프 지원)
+     */
+    private List<String> readCsvRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (following != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+        row.add(field.toString());
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.ArchiveMonthDto;
+import com.example.cms.dto.PostSummaryDto;
+import com.example.cms.event.BulkImportCompletedEvent;
+import com.example.cms.event.PostCategoryChangedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import com.example.cms.repository.PostRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 월별 게시글 보관함
+ * 발행된 게시글을 (월, 카테고리)별 버킷에 최신순 ID 목록으로 메모리에 유지한다.
+ * 버킷은 변경 시 새 배열로 교체(copy-on-write)되므로 월 목록/게시글 수 조회와 페이지 범위 추출은 잠금 없이 일정 시간에 끝난다.
+ * 발행/발행 취소/카테고리 변경/삭제 이벤트로 갱신되며, 기동 시와 주기적으로 데이터베이스에서 다시 만든다.
+ */
+@Service
+public class PostArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostArchiveService.class);
+
+    /** 전체 카테고리 버킷 키 (카테고리 ID는 1부터 발급됨) */
+    private static final long ALL_CATEGORIES = 0L;
+
+    private static final Comparator<ArchiveEntry> NEWEST_FIRST =
+            Comparator.comparing(ArchiveEntry::createdAt).thenComparing(ArchiveEntry::postId).reversed();
+
+    private final PostRepositoryCustom postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /** 카테고리 → (월 → 버킷), 월은 최신순 */
+    private final Map<Long, NavigableMap<YearMonth, List<ArchiveEntry>>> buckets = new ConcurrentHashMap<>();
+    /** 보관함에 있는 게시글 위치 */
+    private final Map<Long, ArchiveEntry> entries = new HashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PostArchiveService(PostRepositoryCustom postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 게시글이 있는 월과 월별 게시글 수 (최신순, categoryId가 null이면 전체)
+     */
+    public List<ArchiveMonthDto> getMonths(Long categoryId) {
+        NavigableMap<YearMonth, List<ArchiveEntry>> months = buckets.get(key(categoryId));
+        if (months == null) {
+            return List.of();
+        }
+        List<ArchiveMonthDto> result = new ArrayList<>(months.size());
+        months.forEach((month, bucket) ->
+                result.add(new ArchiveMonthDto(month.getYear(), month.getMonthValue(), bucket.size())));
+        return result;
+    }
+
+    /**
+     * 월별 게시글 수
+     */
+    public long countPosts(YearMonth month, Long categoryId) {
+        return bucket(month, categoryId).size();
+    }
+
+    /**
+     * 월별 게시글 ID (최신순, 범위 추출)
+     */
+    public List<Long> getPostIds(YearMonth month, Long categoryId, int offset, int limit) {
+        List<ArchiveEntry> bucket = bucket(month, categoryId);
+        int from = Math.min(Math.max(offset, 0), bucket.size());
+        int to = Math.min(from + Math.max(limit, 0), bucket.size());
+        List<Long> postIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            postIds.add(bucket.get(i).postId());
+        }
+        return postIds;
+    }
+
+    /**
+     * 월별 보관함 페이지 (게시글 정보는 해당 페이지 ID만 조회)
+     */
+    public Page<PostSummaryDto> getPosts(YearMonth month, Long categoryId, Pageable pageable) {
+        List<Long> postIds = getPostIds(month, categoryId, (int) pageable.getOffset(), pageable.getPageSize());
+        List<PostSummaryDto> posts = postIds.isEmpty()
+                ? List.of()
+                : readOnlyTransaction.execute(status -> postRepository.findPostSummariesByIds(postIds));
+        return new PageImpl<>(posts, pageable, countPosts(month, categoryId));
+    }
+
+    /**
+     * 데이터베이스의 발행된 게시글로 보관함 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${cms.posts.archive.rebuild-interval-ms:21600000}",
+               fixedDelayString = "${cms.posts.archive.rebuild-interval-ms:21600000}")
+    public synchronized void rebuild() {
+        Map<Long, ArchiveEntry> loaded = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> entityManager.createQuery(
+                        "SELECT p.id, c.id, p.createdAt FROM Post p LEFT JOIN p.category c WHERE p.published = true",
+                        Object[].class)
+                .getResultStream()
+                .forEach(row -> loaded.put((Long) row[0],
+                        new ArchiveEntry((Long) row[0], (Long) row[1], (LocalDateTime) row[2]))));
+
+        Map<Long, Map<YearMonth, List<ArchiveEntry>>> grouped = new HashMap<>();
+        loaded.values().forEach(entry -> {
+            YearMonth month = YearMonth.from(entry.createdAt());
+            grouped.computeIfAbsent(ALL_CATEGORIES, k -> new HashMap<>())
+                    .computeIfAbsent(month, m -> new ArrayList<>()).add(entry);
+            if (entry.categoryId() != null) {
+                grouped.computeIfAbsent(entry.categoryId(), k -> new HashMap<>())
+                        .computeIfAbsent(month, m -> new ArrayList<>()).add(entry);
+            }
+        });
+
+        Map<Long, NavigableMap<YearMonth, List<ArchiveEntry>>> rebuilt = new HashMap<>();
+        grouped.forEach((categoryId, months) -> {
+            NavigableMap<YearMonth, List<ArchiveEntry>> sorted = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+            months.forEach((month, bucket) -> {
+                bucket.sort(NEWEST_FIRST);
+                sorted.put(month, Collections.unmodifiableList(bucket));
+            });
+            rebuilt.put(categoryId, sorted);
+        });
+
+        buckets.keySet().retainAll(rebuilt.keySet());
+        buckets.putAll(rebuilt);
+        entries.clear();
+        entries.putAll(loaded);
+        log.debug("게시글 보관함 재구성: posts={}", loaded.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        if (event.published()) {
+            add(new ArchiveEntry(event.postId(), event.categoryId(), event.createdAt()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostPublicationChanged(PostPublicationChangedEvent event) {
+        if (event.published()) {
+            add(new ArchiveEntry(event.postId(), event.categoryId(), event.createdAt()));
+        } else {
+            remove(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostCategoryChanged(PostCategoryChangedEvent event) {
+        ArchiveEntry entry = entries.get(event.postId());
+        if (entry != null) {
+            add(new ArchiveEntry(entry.postId(), event.categoryId(), entry.createdAt()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        remove(event.postId());
+    }
+
+    /**
+     * 대량 가져오기로 추가된 게시글은 개별 이벤트가 없으므로 다시 구성
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        if (event.kind() == ImportKind.POSTS) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 게시글 추가 (이미 있으면 위치 갱신)
+     */
+    synchronized void add(ArchiveEntry entry) {
+        if (entry.createdAt() == null) {
+            return;
+        }
+        remove(entry.postId());
+        YearMonth month = YearMonth.from(entry.createdAt());
+        update(ALL_CATEGORIES, month, bucket -> insert(bucket, entry));
+        if (entry.categoryId() != null) {
+            update(entry.categoryId(), month, bucket -> insert(bucket, entry));
+        }
+        entries.put(entry.postId(), entry);
+    }
+
+    synchronized void remove(Long postId) {
+        ArchiveEntry entry = entries.remove(postId);
+        if (entry == null) {
+            return;
+        }
+        YearMonth month = YearMonth.from(entry.createdAt());
+        update(ALL_CATEGORIES, month, bucket -> without(bucket, postId));
+        if (entry.categoryId() != null) {
+            update(entry.categoryId(), month, bucket -> without(bucket, postId));
+        }
+    }
+
+    private void update(long categoryId, YearMonth month, UnaryOperator<List<ArchiveEntry>> change) {
+        NavigableMap<YearMonth, List<ArchiveEntry>> months = buckets.computeIfAbsent(categoryId,
+                k -> new ConcurrentSkipListMap<>(Comparator.reverseOrder()));
+        List<ArchiveEntry> updated = change.apply(months.getOrDefault(month, List.of()));
+        if (updated.isEmpty()) {
+            months.remove(month);
+        } else {
+            months.put(month, updated);
+        }
+    }
+
+    private static List<ArchiveEntry> insert(List<ArchiveEntry> bucket, ArchiveEntry entry) {
+        int index = Collections.binarySearch(bucket, entry, NEWEST_FIRST);
+        List<ArchiveEntry> copy = new ArrayList<>(bucket.size() + 1);
+        copy.addAll(bucket);
+        copy.add(index < 0 ? -index - 1 : index, entry);
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static List<ArchiveEntry> without(List<ArchiveEntry> bucket, Long postId) {
+        List<ArchiveEntry> copy = new ArrayList<>(bucket);
+        copy.removeIf(entry -> entry.postId().equals(postId));
+        return Collections.unmodifiableList(copy);
+    }
+
+    private List<ArchiveEntry> bucket(YearMonth month, Long categoryId) {
+        NavigableMap<YearMonth, List<ArchiveEntry>> months = buckets.get(key(categoryId));
+        return months != null ? months.getOrDefault(month, List.of()) : List.of();
+    }
+
+    private static long key(Long categoryId) {
+        return categoryId != null ? categoryId : ALL_CATEGORIES;
+    }
+
+    /**
+     * 보관함의 게시글 (작성 월 기준)
+     */
+    record ArchiveEntry(Long postId, Long categoryId, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.cms.service;
+
+/**
+ * 게시글 일괄 관리 작업 종류
+ */
+public enum PostBulkAction {
+    PUBLISH("발행"),
+    UNPUBLISH("발행 취소"),
+    RECATEGORIZE("카테고리 변경"),
+    DELETE("삭제");
+
+    private final String displayName;
+
+    PostBulkAction(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostBulkFilter;
+import com.example.cms.dto.PostBulkJobDto;
+import com.example.cms.dto.PostBulkRequest;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.event.PostCategoryChangedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import com.example.cms.event.PostUpdatedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 일괄 관리 서비스
+ * 선택한 게시글을 엔티티로 로딩하지 않고, 일정 크기의 묶음(chunk)마다 IN 조건 벌크 UPDATE/DELETE로 처리한다.
+ * 묶음마다 별도 트랜잭션으로 커밋하므로 트랜잭션 크기와 잠금 시간이 선택 건수와 무관하게 제한되며,
+ * 진행 상황은 작업 ID로 조회할 수 있다.
+ * 카운터/캐시가 어긋나지 않도록 변경된 게시글마다 기존 게시글 이벤트를 발행한다.
+ */
+@Service
+public class PostBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostBulkService.class);
+
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService bulkJobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile String tagJoinDeleteSql;
+
+    public PostBulkService(ApplicationEventPublisher eventPublisher,
+                           @Qualifier("bulkJobExecutor") ExecutorService bulkJobExecutor,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${cms.posts.bulk.chunk-size:500}") int chunkSize) {
+        this.eventPublisher = eventPublisher;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 일괄 작업 등록 (백그라운드 실행)
+     */
+    public PostBulkJobDto submit(PostBulkRequest request) {
+        validate(request);
+        removeExpiredJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), request);
+        jobs.put(job.id, job);
+        bulkJobExecutor.execute(() -> run(job));
+        return job.toDto();
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public Optional<PostBulkJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toDto);
+    }
+
+    private void validate(PostBulkRequest request) {
+        if (request == null || request.action() == null) {
+            throw new IllegalArgumentException("작업 종류를 지정해야 합니다.");
+        }
+        boolean hasIds = request.postIds() != null && !request.postIds().isEmpty();
+        boolean hasFilter = request.filter() != null && !request.filter().isEmpty();
+        if (hasIds == hasFilter) {
+            throw new IllegalArgumentException("게시글 ID 목록 또는 조건 중 하나만 지정해야 합니다.");
+        }
+        if (request.action() == PostBulkAction.RECATEGORIZE) {
+            if (request.categoryId() == null) {
+                throw new IllegalArgumentException("변경할 카테고리를 지정해야 합니다.");
+            }
+            Long exists = entityManager.createQuery("SELECT COUNT(c) FROM Category c WHERE c.id = :id", Long.class)
+                    .setParameter("id", request.categoryId())
+                    .getSingleResult();
+            if (exists == 0) {
+                throw new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + request.categoryId());
+            }
+        }
+    }
+
+    void run(Job job) {
+        job.status = "RUNNING";
+        try {
+            PostBulkRequest request = job.request;
+            if (request.postIds() != null && !request.postIds().isEmpty()) {
+                List<Long> ids = new ArrayList<>(new TreeSet<>(request.postIds()));
+                job.total = ids.size();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    processChunk(job, ids.subList(from, Math.min(from + chunkSize, ids.size())));
+                }
+            } else {
+                job.total = countMatching(request.filter());
+                long afterId = 0L;
+                List<Long> chunk;
+                while (!(chunk = nextMatching(request.filter(), afterId)).isEmpty()) {
+                    processChunk(job, chunk);
+                    afterId = chunk.get(chunk.size() - 1);
+                }
+            }
+            job.status = "COMPLETED";
+        } catch (RuntimeException e) {
+            job.status = "FAILED";
+            job.message = e.getMessage();
+            log.error("게시글 일괄 작업 실패: jobId={}, action={}, processed={}",
+                    job.id, job.request.action(), job.processed.get(), e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private void processChunk(Job job, List<Long> postIds) {
+        Integer affected = transactionTemplate.execute(status -> switch (job.request.action()) {
+            case PUBLISH -> changePublication(postIds, true);
+            case UNPUBLISH -> changePublication(postIds, false);
+            case RECATEGORIZE -> changeCategory(postIds, job.request.categoryId());
+            case DELETE -> delete(postIds);
+        });
+        job.processed.addAndGet(postIds.size());
+        job.affected.addAndGet(affected != null ? affected : 0);
+    }
+
+    private int changePublication(List<Long> postIds, boolean published) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT p.id, p.author.id, c.id, p.createdAt FROM Post p LEFT JOIN p.category c " +
+                        "WHERE p.id IN :ids AND p.published <> :published", Object[].class)
+                .setParameter("ids", postIds)
+                .setParameter("published", published)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        entityManager.createQuery(
+                        "UPDATE Post p SET p.published = :published, p.updatedAt = :now " +
+                        "WHERE p.id IN :ids AND p.published <> :published")
+                .setParameter("published", published)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("ids", ids(rows))
+                .executeUpdate();
+        rows.forEach(row -> eventPublisher.publishEvent(new PostPublicationChangedEvent(
+                (Long) row[0], (Long) row[1], (Long) row[2], published, (LocalDateTime) row[3])));
+        return rows.size();
+    }
+
+    private int changeCategory(List<Long> postIds, Long categoryId) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT p.id, c.id, p.published FROM Post p LEFT JOIN p.category c " +
+                        "WHERE p.id IN :ids AND (c IS NULL OR c.id <> :categoryId)", Object[].class)
+                .setParameter("ids", postIds)
+                .setParameter("categoryId", categoryId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        entityManager.createQuery(
+                        "UPDATE Post p SET p.category = (SELECT c FROM Category c WHERE c.id = :categoryId), " +
+                        "p.updatedAt = :now WHERE p.id IN :ids")
+                .setParameter("categoryId", categoryId)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("ids", ids(rows))
+                .executeUpdate();
+        rows.forEach(row -> {
+            Long postId = (Long) row[0];
+            eventPublisher.publishEvent(new PostCategoryChangedEvent(
+                    postId, (Long) row[1], categoryId, (Boolean) row[2]));
+            eventPublisher.publishEvent(new PostUpdatedEvent(postId));
+        });
+        return rows.size();
+    }
+
+    /**
+     * 댓글 → 태그 연결 → 게시글 순으로 삭제
+     */
+    private int delete(List<Long> postIds) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT p.id, p.author.id, c.id, p.published, p.createdAt FROM Post p LEFT JOIN p.category c " +
+                        "WHERE p.id IN :ids", Object[].class)
+                .setParameter("ids", postIds)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = ids(rows);
+
+        Map<Long, Long> commentCounts = new HashMap<>();
+        entityManager.createQuery(
+                        "SELECT cm.post.id, COUNT(cm) FROM Comment cm WHERE cm.post.id IN :ids GROUP BY cm.post.id",
+                        Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(row -> commentCounts.put((Long) row[0], (Long) row[1]));
+        if (!commentCounts.isEmpty()) {
+            // 답글이 여러 단계로 이어질 수 있어 부모 참조(자기 참조 FK)를 먼저 끊고 한 번에 삭제
+            entityManager.createQuery("UPDATE Comment cm SET cm.parentComment = NULL " +
+                            "WHERE cm.post.id IN :ids AND cm.parentComment IS NOT NULL")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM Comment cm WHERE cm.post.id IN :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+        }
+        entityManager.createNativeQuery(tagJoinDeleteSql())
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM Post p WHERE p.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        rows.forEach(row -> {
+            Long postId = (Long) row[0];
+            Long comments = commentCounts.get(postId);
+            if (comments != null) {
+                eventPublisher.publishEvent(new CommentDeletedEvent(null, postId, comments.intValue()));
+            }
+            eventPublisher.publishEvent(new PostDeletedEvent(
+                    postId, (Long) row[1], (Long) row[2], (Boolean) row[3], (LocalDateTime) row[4]));
+        });
+        return rows.size();
+    }
+
+    /**
+     * 게시글-태그 연결 테이블 삭제 SQL (테이블/컬럼 이름은 매핑 정보에서 조회)
+     */
+    private String tagJoinDeleteSql() {
+        String sql = tagJoinDeleteSql;
+        if (sql == null) {
+            AbstractCollectionPersister tags = (AbstractCollectionPersister) entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getCollectionDescriptor("com.example.cms.entity.Post.tags");
+            sql = "DELETE FROM " + tags.getTableName() + " WHERE " + tags.getKeyColumnNames()[0] + " IN (:ids)";
+            tagJoinDeleteSql = sql;
+        }
+        return sql;
+    }
+
+    private long countMatching(PostBulkFilter filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(filter, parameters);
+        TypedQuery<Long> query = entityManager.createQuery("SELECT COUNT(p) FROM Post p WHERE " + where, Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    /**
+     * 조건에 맞는 다음 묶음의 ID (ID 순 keyset 조회)
+     * 변경된 게시글이 조건에서 빠져도 다음 묶음 위치가 밀리지 않는다.
+     */
+    private List<Long> nextMatching(PostBulkFilter filter, long afterId) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(filter, parameters);
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT p.id FROM Post p WHERE " + where + " AND p.id > :afterId ORDER BY p.id", Long.class);
+        parameters.forEach(query::setParameter);
+        return query.setParameter("afterId", afterId)
+                .setMaxResults(chunkSize)
+                .getResultList();
+    }
+
+    private String where(PostBulkFilter filter, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("1 = 1");
+        if (filter.authorId() != null) {
+            conditions.add("p.author.id = :authorId");
+            parameters.put("authorId", filter.authorId());
+        }
+        if (filter.categoryId() != null) {
+            conditions.add("p.category.id = :categoryId");
+            parameters.put("categoryId", filter.categoryId());
+        }
+        if (filter.published() != null) {
+            conditions.add("p.published = :published");
+            parameters.put("published", filter.published());
+        }
+        if (filter.createdFrom() != null) {
+            conditions.add("p.createdAt >= :createdFrom");
+            parameters.put("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            conditions.add("p.createdAt < :createdTo");
+            parameters.put("createdTo", filter.createdTo());
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    private static List<Long> ids(List<Object[]> rows) {
+        return rows.stream().map(row -> (Long) row[0]).toList();
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    /**
+     * 실행 중인 일괄 작업 상태
+     */
+    static final class Job {
+        private final String id;
+        private final PostBulkRequest request;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong affected = new AtomicLong();
+        private volatile String status = "PENDING";
+        private volatile long total;
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String id, PostBulkRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        PostBulkJobDto toDto() {
+            return new PostBulkJobDto(id, request.action(), status, total, processed.get(), affected.get(),
+                    message, startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.cms.service;
+
+import com.example.cms.entity.PostCommentCount;
+import com.example.cms.event.BulkImportCompletedEvent;
+import com.example.cms.event.CommentCreatedEvent;
+import com.example.cms.event.CommentDeletedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.repository.PostCommentCountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게시글 댓글 수 관리
+ * 댓글 작성/삭제 이벤트를 같은 트랜잭션에서 받아 단일 UPDATE로 증감하므로, 댓글과 댓글 수가 항상 함께 커밋되거나 롤백된다.
+ * 삭제 이벤트의 삭제 건수에는 함께 지워진 답글이 포함된다.
+ * 목록 요약 조회(PostRepositoryImpl)는 이 값을 조인해 읽으므로 게시글마다 댓글을 세지 않는다.
+ */
+@Service
+public class PostCommentCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostCommentCountService.class);
+
+    private final PostCommentCountRepository postCommentCountRepository;
+    private final TransactionTemplate newTransaction;
+
+    public PostCommentCountService(PostCommentCountRepository postCommentCountRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.postCommentCountRepository = postCommentCountRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 게시글 댓글 수 (/comments/post/{id}의 totalComments)
+     */
+    @Transactional(readOnly = true)
+    public long getCommentCount(Long postId) {
+        Long count = postCommentCountRepository.findCount(postId);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 댓글 존재 여부
+     */
+    public boolean hasComments(Long postId) {
+        return getCommentCount(postId) > 0;
+    }
+
+    /**
+     * 여러 게시글의 댓글 수 (한 번의 조회)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getCommentCounts(Collection<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+        postCommentCountRepository.findByPostIdIn(postIds)
+                .forEach(count -> counts.put(count.getPostId(), count.getCommentCount()));
+        postIds.forEach(postId -> counts.putIfAbsent(postId, 0L));
+        return counts;
+    }
+
+    @EventListener
+    @Transactional
+    public void onPostCreated(PostCreatedEvent event) {
+        if (!postCommentCountRepository.existsById(event.postId())) {
+            postCommentCountRepository.save(new PostCommentCount(event.postId(), 0L));
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onCommentCreated(CommentCreatedEvent event) {
+        adjust(event.postId(), 1);
+    }
+
+    @EventListener
+    @Transactional
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        // 게시글과 함께 지워진 댓글은 게시글 삭제 이벤트에서 행을 지운다.
+        if (event.commentId() != null) {
+            adjust(event.postId(), -event.deletedCount());
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onPostDeleted(PostDeletedEvent event) {
+        postCommentCountRepository.findById(event.postId()).ifPresent(postCommentCountRepository::delete);
+    }
+
+    /**
+     * 대량 가져오기로 추가된 게시글/댓글은 개별 이벤트가 없으므로 데이터베이스 값으로 보정
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        if (event.kind() == ImportKind.POSTS || event.kind() == ImportKind.COMMENTS) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 댓글 수를 실제 댓글 수와 맞춘다. (기동 시 기존 게시글 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int reconcile() {
+        int inserted = postCommentCountRepository.insertMissing();
+        int corrected = postCommentCountRepository.correctDrift();
+        if (inserted > 0 || corrected > 0) {
+            log.info("게시글 댓글 수 보정: 추가 {}건, 수정 {}건", inserted, corrected);
+        }
+        return inserted + corrected;
+    }
+
+    /**
+     * 댓글 수 증감
+     * 행은 게시글 작성 이벤트와 기동 보정에서 만들어지므로, 행이 없는 게시글(기동 보정 전 기존 게시글 등)만 이 트랜잭션이
+     * 커밋된 뒤 별도 트랜잭션에서 커밋된 댓글 수로 행을 만든다.
+     * 댓글 트랜잭션 안에서 별도 트랜잭션으로 댓글을 세면, 아직 커밋되지 않은 댓글 INSERT의 잠금을 기다리며 교착될 수 있다.
+     */
+    private void adjust(Long postId, long delta) {
+        if (delta == 0 || postCommentCountRepository.increment(postId, delta) > 0) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                createMissing(postId);
+            }
+        });
+    }
+
+    /**
+     * 행이 없으면 커밋된 댓글 수로 만들고, 다른 요청이 먼저 만들었으면 그 사이 커밋된 댓글을 반영하도록 다시 센다.
+     */
+    private void createMissing(Long postId) {
+        try {
+            Integer inserted = newTransaction.execute(status -> postCommentCountRepository.insertMissing(postId));
+            if (inserted != null && inserted > 0) {
+                return;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 행을 만듦
+        }
+        newTransaction.execute(status -> postCommentCountRepository.correctDrift(postId));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.cms.service;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CKEditor 본문 HTML 렌더러
+ * 허용 목록 기반으로 위험한 태그/속성/URL을 제거하고(sanitize), 출력 형식을 정규화한 뒤
+ * 외부 링크에는 rel/target을, 이미지에는 지연 로딩 속성을 붙인다.
+ * style 속성은 CKEditor 이미지 크기 조절(image_resized)이 쓰는 figure/img의 width 선언만 남긴다.
+ * 결과는 게시글 저장 시 한 번만 만들어 보관하므로, 조회마다 이 작업을 반복하지 않는다.
+ */
+@Component
+public class PostContentRenderer {
+
+    /**
+     * 렌더링 규칙 버전 (규칙이 바뀌면 올려서 저장된 결과를 다시 렌더링하게 함)
+     */
+    public static final int VERSION = 2;
+
+    private static final Set<String> FIGURE_CLASSES = Set.of(
+            "image", "table", "media", "image-style-side", "image-style-align-left",
+            "image-style-align-right", "image-style-align-center", "image_resized");
+
+    private static final Pattern WIDTH = Pattern.compile(
+            "^\\s*width\\s*:\\s*(\\d{1,4}(\\.\\d{1,4})?(px|%|em|rem))\\s*$", Pattern.CASE_INSENSITIVE);
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("figure", "figcaption", "s", "hr", "mark", "oembed")
+            .addAttributes("figure", "class", "style")
+            .addAttributes("oembed", "url")
+            .addAttributes("a", "target", "rel")
+            .addAttributes("img", "loading", "decoding", "style")
+            .addAttributes("td", "rowspan")
+            .addAttributes("th", "rowspan", "scope")
+            .addProtocols("oembed", "url", "http", "https")
+            .addProtocols("img", "src", "http", "https")
+            .preserveRelativeLinks(true);
+
+    private final Set<String> internalHosts;
+
+    public PostContentRenderer(@Value("${cms.render.internal-hosts:localhost}") Set<String> internalHosts) {
+        this.internalHosts = internalHosts;
+    }
+
+    /**
+     * 원본 HTML을 게시글 화면용 HTML로 렌더링
+     */
+    public String render(String sourceHtml) {
+        if (sourceHtml == null || sourceHtml.isBlank()) {
+            return "";
+        }
+        // 상대 경로 링크를 보존하려면 기준 URI가 필요하며, 결과에는 원래의 상대 경로가 그대로 남는다.
+        Document dirty = Jsoup.parseBodyFragment(sourceHtml, "http://localhost/");
+        Document clean = new Cleaner(SAFELIST).clean(dirty);
+        clean.outputSettings().prettyPrint(false);
+
+        for (Element figure : clean.select("figure[class]")) {
+            String classes = figure.classNames().stream()
+                    .filter(FIGURE_CLASSES::contains)
+                    .reduce((a, b) -> a + " " + b)
+                    .orElse("");
+            if (classes.isEmpty()) {
+                figure.removeAttr("class");
+            } else {
+                figure.attr("class", classes);
+            }
+        }
+        for (Element element : clean.select("figure[style], img[style]")) {
+            String width = width(element.attr("style"));
+            if (width == null) {
+                element.removeAttr("style");
+            } else {
+                element.attr("style", "width:" + width);
+            }
+        }
+        for (Element link : clean.select("a[href]")) {
+            if (isExternal(link.attr("href"))) {
+                link.attr("rel", "nofollow noopener noreferrer");
+                link.attr("target", "_blank");
+            } else {
+                link.removeAttr("target");
+                link.removeAttr("rel");
+            }
+        }
+        for (Element image : clean.select("img")) {
+            image.attr("loading", "lazy");
+            image.attr("decoding", "async");
+        }
+        clean.select("p").forEach(paragraph -> {
+            if (paragraph.children().isEmpty() && paragraph.wholeText().isBlank()) {
+                paragraph.remove();
+            }
+        });
+        return clean.body().html().trim();
+    }
+
+    /**
+     * style 속성에서 width 값만 추출 (허용하지 않는 값이면 null)
+     */
+    private static String width(String style) {
+        String width = null;
+        for (String declaration : style.split(";")) {
+            Matcher matcher = WIDTH.matcher(declaration);
+            if (matcher.matches()) {
+                width = matcher.group(1).toLowerCase(Locale.ROOT);
+            }
+        }
+        return width;
+    }
+
+    private boolean isExternal(String href) {
+        try {
+            URI uri = new URI(href.trim());
+            String host = uri.getHost();
+            return host != null && !internalHosts.contains(host.toLowerCase(Locale.ROOT));
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.cms.service;
+
+import com.example.cms.event.BulkImportCompletedEvent;
+import com.example.cms.event.PostCategoryChangedEvent;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작성자/카테고리별 게시글 수 카운터
+ * 프로필, 대시보드, 카테고리 페이지에서 countByAuthorAndPublishedTrue 등의 집계 쿼리를 매번 실행하지 않도록
+ * 작성자별 발행/임시저장 수와 카테고리별 발행 수를 메모리에 유지한다.
+ * 값은 커밋된 게시글 이벤트로 증감되며, 주기적인 보정 작업이 GROUP BY 쿼리 결과와 비교해 어긋난 값을 바로잡는다.
+ * 카운터는 노드마다 메모리에 따로 유지되고 이벤트는 그 노드에서 커밋된 변경만 반영하므로,
+ * 다른 노드의 변경은 다음 보정 때 반영된다. 보정 사이의 값은 근사치이며 정확한 수가 필요한 곳에는 쓰지 않는다.
+ */
+@Service
+public class PostCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostCountService.class);
+
+    private static final String AUTHOR_COUNTS_QUERY =
+            "SELECT p.author.id, p.published, COUNT(p) FROM Post p GROUP BY p.author.id, p.published";
+    private static final String CATEGORY_COUNTS_QUERY =
+            "SELECT p.category.id, COUNT(p) FROM Post p WHERE p.published = true AND p.category IS NOT NULL "
+                    + "GROUP BY p.category.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Long, Counter> publishedByAuthor = new ConcurrentHashMap<>();
+    private final Map<Long, Counter> draftsByAuthor = new ConcurrentHashMap<>();
+    private final Map<Long, Counter> publishedByCategory = new ConcurrentHashMap<>();
+
+    private volatile boolean seeded;
+
+    public PostCountService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 작성자의 발행된 게시글 수 (countByAuthorAndPublishedTrue)
+     */
+    public long countPublishedByAuthor(Long authorId) {
+        return get(publishedByAuthor, authorId);
+    }
+
+    /**
+     * 작성자의 임시저장 게시글 수 (countDraftsByAuthor)
+     */
+    public long countDraftsByAuthor(Long authorId) {
+        return get(draftsByAuthor, authorId);
+    }
+
+    /**
+     * 카테고리의 발행된 게시글 수 (countByCategoryAndPublishedTrue)
+     */
+    public long countPublishedByCategory(Long categoryId) {
+        return get(publishedByCategory, categoryId);
+    }
+
+    /**
+     * 기동 시 데이터베이스 값으로 카운터 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void seed() {
+        if (seeded) {
+            return;
+        }
+        reconcile();
+        seeded = true;
+    }
+
+    /**
+     * 카운터를 데이터베이스 집계 값과 보정
+     * 집계 쿼리 실행 중 이벤트가 반영된 키는 그 이벤트가 집계 결과에 이미 포함되었는지 알 수 없으므로,
+     * 이미 적재된 뒤라면 이번 보정을 건너뛰고 다음 주기에 다시 시도한다.
+     * 커밋 후 리스너 실행이 집계 완료 이후까지 지연되면 한 번 중복 반영될 수 있으며, 이 역시 다음 보정에서 바로잡힌다.
+     *
+     * @return 보정된 카운터 수
+     */
+    @Scheduled(initialDelayString = "${cms.post-counts.reconcile-interval-ms:600000}",
+               fixedDelayString = "${cms.post-counts.reconcile-interval-ms:600000}")
+    public synchronized int reconcile() {
+        Map<Long, Fence> publishedBefore = fence(publishedByAuthor);
+        Map<Long, Fence> draftsBefore = fence(draftsByAuthor);
+        Map<Long, Fence> categoryBefore = fence(publishedByCategory);
+
+        ActualCounts actual = queryCounts();
+
+        int corrected = reconcile(publishedByAuthor, publishedBefore, actual.publishedByAuthor())
+                + reconcile(draftsByAuthor, draftsBefore, actual.draftsByAuthor())
+                + reconcile(publishedByCategory, categoryBefore, actual.publishedByCategory());
+        if (seeded && corrected > 0) {
+            log.info("게시글 수 카운터 보정: corrected={}", corrected);
+        }
+        return corrected;
+    }
+
+    /**
+     * 데이터베이스 집계 값 조회
+     */
+    ActualCounts queryCounts() {
+        Map<Long, Long> publishedActual = new HashMap<>();
+        Map<Long, Long> draftsActual = new HashMap<>();
+        Map<Long, Long> categoryActual = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            entityManager.createQuery(AUTHOR_COUNTS_QUERY, Object[].class).getResultList().forEach(row ->
+                    (Boolean.TRUE.equals(row[1]) ? publishedActual : draftsActual)
+                            .put((Long) row[0], (Long) row[2]));
+            entityManager.createQuery(CATEGORY_COUNTS_QUERY, Object[].class).getResultList().forEach(row ->
+                    categoryActual.put((Long) row[0], (Long) row[1]));
+        });
+        return new ActualCounts(publishedActual, draftsActual, categoryActual);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        if (event.published()) {
+            add(publishedByAuthor, event.authorId(), 1);
+            add(publishedByCategory, event.categoryId(), 1);
+        } else {
+            add(draftsByAuthor, event.authorId(), 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostPublicationChanged(PostPublicationChangedEvent event) {
+        int delta = event.published() ? 1 : -1;
+        add(publishedByAuthor, event.authorId(), delta);
+        add(draftsByAuthor, event.authorId(), -delta);
+        add(publishedByCategory, event.categoryId(), delta);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCategoryChanged(PostCategoryChangedEvent event) {
+        if (event.published()) {
+            add(publishedByCategory, event.previousCategoryId(), -1);
+            add(publishedByCategory, event.categoryId(), 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (event.wasPublished()) {
+            add(publishedByAuthor, event.authorId(), -1);
+            add(publishedByCategory, event.categoryId(), -1);
+        } else {
+            add(draftsByAuthor, event.authorId(), -1);
+        }
+    }
+
+    /**
+     * 대량 가져오기로 추가된 게시글은 개별 이벤트가 없으므로 즉시 보정
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        if (event.kind() == ImportKind.POSTS) {
+            reconcile();
+        }
+    }
+
+    private long get(Map<Long, Counter> counters, Long key) {
+        if (!seeded) {
+            seed();
+        }
+        Counter counter = key != null ? counters.get(key) : null;
+        return counter != null ? counter.value.sum() : 0L;
+    }
+
+    private void add(Map<Long, Counter> counters, Long key, long delta) {
+        if (key != null) {
+            Counter counter = counters.computeIfAbsent(key, id -> new Counter());
+            // 순번을 먼저 올려, 보정이 읽은 조회 전 값에 일부만 반영된 증감도 fence에 걸리도록 한다.
+            counter.sequence.incrementAndGet();
+            counter.value.add(delta);
+        }
+    }
+
+    /**
+     * 키별 순번과 값 (순번을 먼저 읽는다)
+     */
+    private Map<Long, Fence> fence(Map<Long, Counter> counters) {
+        Map<Long, Fence> fences = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            long sequence = counter.sequence.get();
+            fences.put(key, new Fence(sequence, counter.value.sum()));
+        });
+        return fences;
+    }
+
+    /**
+     * 집계 결과에 없는 키는 실제 값 0으로 본다.
+     */
+    private int reconcile(Map<Long, Counter> counters, Map<Long, Fence> before, Map<Long, Long> actual) {
+        Set<Long> keys = new HashSet<>(before.keySet());
+        keys.addAll(actual.keySet());
+        int corrected = 0;
+        for (Long key : keys) {
+            Fence fence = before.getOrDefault(key, Fence.EMPTY);
+            Counter counter = counters.get(key);
+            if (seeded && counter != null && counter.sequence.get() != fence.sequence()) {
+                log.debug("게시글 수 보정 중 이벤트 반영, 다음 주기에 다시 보정: key={}", key);
+                continue;
+            }
+            long drift = actual.getOrDefault(key, 0L) - fence.value();
+            if (drift != 0) {
+                add(counters, key, drift);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 키별 카운터와 이벤트 반영 순번 (보정 중 이벤트가 반영되었는지 판단하는 fence)
+     */
+    private static final class Counter {
+        private final LongAdder value = new LongAdder();
+        private final AtomicLong sequence = new AtomicLong();
+    }
+
+    private record Fence(long sequence, long value) {
+        static final Fence EMPTY = new Fence(0, 0);
+    }
+
+    record ActualCounts(Map<Long, Long> publishedByAuthor,
+                        Map<Long, Long> draftsByAuthor,
+                        Map<Long, Long> publishedByCategory) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.cms.service;
+
+import com.example.cms.entity.PostRenderedContent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.repository.PostRenderedContentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 본문 렌더링 결과 관리
+ * PostService.createPost/updatePost가 같은 트랜잭션에서 renderAndStore를 호출해 렌더링 결과를 원본과 함께 저장하고,
+ * 게시글 화면은 getRenderedHtml로 저장된 HTML을 그대로 출력한다.
+ * 렌더링 결과가 없거나 렌더러 버전이 바뀐 게시글은 처음 조회될 때 한 번 렌더링해 저장한다.
+ * 이 저장은 별도 트랜잭션에서 하며, 같은 게시글을 동시에 조회한 요청이 먼저 저장했으면 그 결과를 그대로 둔다.
+ */
+@Service
+public class PostRenderService {
+
+    private final PostContentRenderer renderer;
+    private final PostRenderedContentRepository renderedContentRepository;
+    private final TransactionTemplate newTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PostRenderService(PostContentRenderer renderer,
+                             PostRenderedContentRepository renderedContentRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.renderer = renderer;
+        this.renderedContentRepository = renderedContentRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 원본 본문을 렌더링해 저장 (원본과 렌더러 버전이 같으면 건너뜀)
+     *
+     * @return 렌더링된 HTML
+     */
+    @Transactional
+    public String renderAndStore(Long postId, String sourceHtml) {
+        String sourceHash = hash(sourceHtml);
+        PostRenderedContent stored = renderedContentRepository.findById(postId).orElse(null);
+        if (stored != null && stored.isCurrent(sourceHash, PostContentRenderer.VERSION)) {
+            return stored.getHtml();
+        }
+
+        String html = renderer.render(sourceHtml);
+        store(stored, postId, html, sourceHash);
+        return html;
+    }
+
+    /**
+     * 게시글 화면용 HTML (저장된 결과가 없으면 원본을 읽어 렌더링 후 저장)
+     */
+    public String getRenderedHtml(Long postId) {
+        Optional<String> stored = renderedContentRepository.findHtml(postId, PostContentRenderer.VERSION);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        List<String> source = entityManager
+                .createQuery("SELECT p.content FROM Post p WHERE p.id = :postId", String.class)
+                .setParameter("postId", postId)
+                .getResultList();
+        if (source.isEmpty()) {
+            return "";
+        }
+
+        String sourceHash = hash(source.get(0));
+        String html = renderer.render(source.get(0));
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    store(renderedContentRepository.findById(postId).orElse(null), postId, html, sourceHash));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 원본을 동시에 렌더링한 요청이 먼저 저장함 (결과는 같음)
+        }
+        return html;
+    }
+
+    private void store(PostRenderedContent stored, Long postId, String html, String sourceHash) {
+        if (stored == null) {
+            renderedContentRepository.saveAndFlush(
+                    new PostRenderedContent(postId, html, sourceHash, PostContentRenderer.VERSION));
+        } else {
+            stored.update(html, sourceHash, PostContentRenderer.VERSION);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (renderedContentRepository.existsById(event.postId())) {
+            renderedContentRepository.deleteById(event.postId());
+        }
+    }
+
+    static String hash(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest((source != null ? source : "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
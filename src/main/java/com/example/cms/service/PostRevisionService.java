@@ -0,0 +1,216 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostRevisionDiffDto;
+import com.example.cms.dto.PostRevisionDto;
+import com.example.cms.entity.PostRevision;
+import com.example.cms.event.PostCreatedEvent;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostUpdatedEvent;
+import com.example.cms.repository.PostRevisionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 게시글 리비전 기록
+ * 게시글이 생성/수정될 때마다 제목과 본문을 리비전으로 남기되, snapshot-interval개마다 한 번만 본문 전체를 저장하고
+ * 그 사이에는 직전 리비전과의 델타만 저장한다. 따라서 어떤 리비전이든 스냅샷 1개와 최대 (snapshot-interval - 1)개의
+ * 델타만 적용하면 복원된다. 게시글별로 최근 max-per-post개만 보관하며, 잘려 나가는 구간의 다음 리비전은 스냅샷으로 바꾼다.
+ */
+@Service
+public class PostRevisionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostRevisionService.class);
+
+    private final PostRevisionRepository revisionRepository;
+    private final TransactionTemplate newTransaction;
+    private final int snapshotInterval;
+    private final int maxPerPost;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PostRevisionService(PostRevisionRepository revisionRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${cms.posts.revisions.snapshot-interval:10}") int snapshotInterval,
+                               @Value("${cms.posts.revisions.max-per-post:50}") int maxPerPost) {
+        this.revisionRepository = revisionRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.maxPerPost = Math.max(1, maxPerPost);
+    }
+
+    /**
+     * 현재 제목/본문을 새 리비전으로 기록 (마지막 리비전과 같으면 기록하지 않음)
+     *
+     * @return 기록된 리비전 번호 (변경이 없으면 마지막 리비전 번호, 게시글이 없으면 빈 값)
+     */
+    @Transactional
+    public Optional<Integer> record(Long postId) {
+        List<Object[]> rows = entityManager
+                .createQuery("SELECT p.title, p.content FROM Post p WHERE p.id = :postId", Object[].class)
+                .setParameter("postId", postId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        String title = (String) rows.get(0)[0];
+        String content = rows.get(0)[1] != null ? (String) rows.get(0)[1] : "";
+        return Optional.of(record(postId, title, content));
+    }
+
+    int record(Long postId, String title, String content) {
+        String contentHash = PostRenderService.hash(content);
+        PostRevision latest = revisionRepository.findTopByPostIdOrderByRevisionNumberDesc(postId).orElse(null);
+        if (latest == null) {
+            revisionRepository.save(PostRevision.snapshot(postId, 1, title, content, contentHash));
+            return 1;
+        }
+        if (latest.getContentHash().equals(contentHash) && Objects.equals(latest.getTitle(), title)) {
+            return latest.getRevisionNumber();
+        }
+
+        int number = latest.getRevisionNumber() + 1;
+        PostRevision revision = null;
+        if (number - latest.getBaseRevision() < snapshotInterval) {
+            String delta = TextDelta.encode(reconstruct(latest), content);
+            if (delta.length() < content.length() / 2) {
+                revision = PostRevision.delta(postId, number, latest.getBaseRevision(), title, delta, contentHash,
+                        content.length());
+            }
+        }
+        if (revision == null) {
+            revision = PostRevision.snapshot(postId, number, title, content, contentHash);
+        }
+        revisionRepository.save(revision);
+        prune(postId, number);
+        return number;
+    }
+
+    /**
+     * 리비전 조회 권한 (관리자 또는 작성자)
+     */
+    @Transactional(readOnly = true)
+    public boolean canView(Long postId, String email, boolean admin) {
+        if (admin) {
+            return true;
+        }
+        Long count = entityManager.createQuery(
+                        "SELECT COUNT(p) FROM Post p WHERE p.id = :postId AND p.author.email = :email", Long.class)
+                .setParameter("postId", postId)
+                .setParameter("email", email)
+                .getSingleResult();
+        return count > 0;
+    }
+
+    /**
+     * 리비전 목록 (최신순, 본문 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<PostRevisionDto> getRevisions(Long postId) {
+        return revisionRepository.findSummaries(postId);
+    }
+
+    /**
+     * 리비전 본문 복원
+     */
+    @Transactional(readOnly = true)
+    public PostRevisionDto getRevision(Long postId, int revisionNumber) {
+        PostRevision revision = find(postId, revisionNumber);
+        return new PostRevisionDto(postId, revisionNumber, revision.getTitle(), reconstruct(revision),
+                revision.getContentLength(), revision.getCreatedAt());
+    }
+
+    /**
+     * 두 리비전 사이의 차이
+     */
+    @Transactional(readOnly = true)
+    public PostRevisionDiffDto diff(Long postId, int fromRevision, int toRevision) {
+        PostRevision from = find(postId, fromRevision);
+        PostRevision to = find(postId, toRevision);
+        return new PostRevisionDiffDto(postId, fromRevision, toRevision, from.getTitle(), to.getTitle(),
+                TextDelta.diff(reconstruct(from), reconstruct(to)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        recordAfterCommit(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        recordAfterCommit(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        newTransaction.executeWithoutResult(status -> revisionRepository.deleteByPostId(event.postId()));
+    }
+
+    /**
+     * 게시글 트랜잭션 커밋 후 별도 트랜잭션에서 기록 (실패해도 게시글 저장에는 영향 없음)
+     */
+    private void recordAfterCommit(Long postId) {
+        try {
+            newTransaction.executeWithoutResult(status -> record(postId));
+        } catch (RuntimeException e) {
+            log.warn("게시글 리비전 기록 실패: postId={}", postId, e);
+        }
+    }
+
+    private PostRevision find(Long postId, int revisionNumber) {
+        return revisionRepository.findByPostIdAndRevisionNumber(postId, revisionNumber)
+                .orElseThrow(() -> new IllegalArgumentException("리비전을 찾을 수 없습니다: " + revisionNumber));
+    }
+
+    /**
+     * 기준 스냅샷에 이후 델타를 차례로 적용해 본문 복원
+     */
+    private String reconstruct(PostRevision revision) {
+        if (revision.isSnapshot()) {
+            return revision.getData();
+        }
+        List<PostRevision> chain = revisionRepository.findByPostIdAndRevisionNumberBetweenOrderByRevisionNumber(
+                revision.getPostId(), revision.getBaseRevision(), revision.getRevisionNumber());
+        if (chain.isEmpty() || !chain.get(0).isSnapshot()) {
+            throw new IllegalStateException("기준 스냅샷이 없습니다: postId=" + revision.getPostId()
+                    + ", revision=" + revision.getRevisionNumber());
+        }
+        String content = chain.get(0).getData();
+        for (int i = 1; i < chain.size(); i++) {
+            content = TextDelta.apply(content, chain.get(i).getData());
+        }
+        return content;
+    }
+
+    /**
+     * 보관 개수를 넘는 오래된 리비전 정리
+     * 남는 가장 오래된 리비전이 델타이면 스냅샷으로 바꾸고, 그 리비전을 기준으로 하던 델타들의 기준을 옮긴다.
+     */
+    private void prune(Long postId, int latestNumber) {
+        int cutoff = latestNumber - maxPerPost + 1;
+        if (cutoff <= 1 || revisionRepository.countByPostId(postId) <= maxPerPost) {
+            return;
+        }
+        revisionRepository.findByPostIdAndRevisionNumber(postId, cutoff)
+                .filter(oldest -> !oldest.isSnapshot())
+                .ifPresent(oldest -> {
+                    oldest.convertToSnapshot(reconstruct(oldest));
+                    revisionRepository.rebase(postId, cutoff);
+                });
+        revisionRepository.deleteOlderThan(postId, cutoff);
+    }
+}
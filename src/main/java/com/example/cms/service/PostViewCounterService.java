@@ -0,0 +1,227 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostViewRankDto;
+import com.example.cms.event.PostDeletedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 서비스
+ * 조회 1건마다 UPDATE하지 않고 게시글별 LongAdder에 누적했다가 주기적으로 일괄(batch) 반영한다.
+ * 전체 조회수도 메모리에 유지하므로 게시글 조회수와 "많이 본 글" 순위는 데이터베이스 조회 없이 제공된다.
+ * 정상 종료 시 남은 누적분을 반영한다.
+ */
+@Service
+public class PostViewCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewCounterService.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE post_view_counts SET view_count = view_count + ? WHERE post_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO post_view_counts (post_id, view_count) VALUES (?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT post_id, view_count FROM post_view_counts";
+    private static final String DELETE_SQL =
+            "DELETE FROM post_view_counts WHERE post_id = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int rankingSize;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> totals = new ConcurrentHashMap<>();
+    private final Set<Long> persistedPostIds = ConcurrentHashMap.newKeySet();
+    private volatile List<PostViewRankDto> ranking = List.of();
+
+    public PostViewCounterService(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${cms.post-views.ranking-size:100}") int rankingSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rankingSize = rankingSize;
+    }
+
+    /**
+     * 조회 1건 기록
+     */
+    public void recordView(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        totals.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 게시글 조회수 (미반영분 포함)
+     */
+    public long getViewCount(Long postId) {
+        LongAdder total = totals.get(postId);
+        return total != null ? total.sum() : 0L;
+    }
+
+    /**
+     * 많이 본 게시글 순위 (마지막 반영 시점 기준, 최대 ranking-size개)
+     */
+    public List<PostViewRankDto> getMostViewed(int limit) {
+        List<PostViewRankDto> current = ranking;
+        return current.subList(0, Math.min(Math.max(limit, 0), current.size()));
+    }
+
+    /**
+     * 기동 시 저장된 조회수 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            long postId = rs.getLong(1);
+            persistedPostIds.add(postId);
+            adjustTotal(postId, rs.getLong(2));
+        });
+        refreshRanking();
+    }
+
+    /**
+     * 저장된 조회수로 메모리 값 보정
+     * 여러 노드가 같은 테이블에 반영하므로, 다른 노드의 조회수를 주기적으로 가져온다.
+     */
+    @Scheduled(initialDelayString = "${cms.post-views.reload-interval-ms:300000}",
+               fixedDelayString = "${cms.post-views.reload-interval-ms:300000}")
+    public synchronized void reload() {
+        load();
+    }
+
+    /**
+     * 누적된 조회수를 일괄 반영
+     * 이미 행이 있는 게시글은 UPDATE, 처음 조회된 게시글은 INSERT를 각각 batch로 실행하며, 두 단계는 한 트랜잭션으로 묶는다.
+     * 실패하면 아무것도 커밋되지 않으므로 이번 분량 전체를 다음 주기로 넘겨도 중복 반영되지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${cms.post-views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                pending.remove(postId, adder);
+            } else {
+                deltas.put(postId, delta);
+            }
+        });
+
+        if (!deltas.isEmpty()) {
+            try {
+                write(deltas);
+            } catch (RuntimeException e) {
+                if (e instanceof DuplicateKeyException) {
+                    // 다른 노드가 먼저 행을 만든 경우: 다음 주기에는 UPDATE로 반영
+                    markPersisted(deltas.keySet());
+                }
+                deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+                log.warn("조회수 반영 실패, 다음 주기에 재시도: posts={}", deltas.size(), e);
+            }
+        }
+        refreshRanking();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 게시글 삭제 시 조회수 제거
+     * flush와 같은 잠금으로 실행해, 진행 중인 반영이 삭제된 게시글의 행을 다시 만들지 않도록 한다.
+     * 행은 다른 노드가 만들었을 수도 있으므로 항상 삭제한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        Long postId = event.postId();
+        pending.remove(postId);
+        totals.remove(postId);
+        persistedPostIds.remove(postId);
+        jdbcTemplate.update(DELETE_SQL, postId);
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> updates = new ArrayList<>();
+        List<Map.Entry<Long, Long>> inserts = new ArrayList<>();
+        deltas.entrySet().forEach(entry ->
+                (persistedPostIds.contains(entry.getKey()) ? updates : inserts).add(entry));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, BATCH_SIZE, (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, BATCH_SIZE, (ps, entry) -> {
+                    ps.setLong(1, entry.getKey());
+                    ps.setLong(2, entry.getValue());
+                });
+            }
+        });
+        inserts.forEach(entry -> persistedPostIds.add(entry.getKey()));
+    }
+
+    /**
+     * 이미 행이 있는 게시글을 UPDATE 대상으로 표시
+     */
+    private void markPersisted(Set<Long> postIds) {
+        try {
+            String placeholders = String.join(",", Collections.nCopies(postIds.size(), "?"));
+            jdbcTemplate.query("SELECT post_id FROM post_view_counts WHERE post_id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> persistedPostIds.add(rs.getLong(1)), postIds.toArray());
+        } catch (RuntimeException e) {
+            log.warn("조회수 행 확인 실패", e);
+        }
+    }
+
+    /**
+     * 메모리 전체 조회수를 (저장값 + 미반영분)으로 맞춤
+     */
+    private void adjustTotal(Long postId, long persisted) {
+        LongAdder unflushed = pending.get(postId);
+        long expected = persisted + (unflushed != null ? unflushed.sum() : 0L);
+        LongAdder total = totals.computeIfAbsent(postId, id -> new LongAdder());
+        total.add(expected - total.sum());
+    }
+
+    private void refreshRanking() {
+        PriorityQueue<PostViewRankDto> top = new PriorityQueue<>(Comparator.comparingLong(PostViewRankDto::viewCount));
+        totals.forEach((postId, total) -> {
+            top.offer(new PostViewRankDto(postId, total.sum()));
+            if (top.size() > rankingSize) {
+                top.poll();
+            }
+        });
+        List<PostViewRankDto> sorted = new ArrayList<>(top);
+        sorted.sort(Comparator.comparingLong(PostViewRankDto::viewCount).reversed()
+                .thenComparing(PostViewRankDto::postId));
+        ranking = List.copyOf(sorted);
+    }
+}
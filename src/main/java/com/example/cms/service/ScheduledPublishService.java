@@ -0,0 +1,272 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.ScheduledPublicationDto;
+import com.example.cms.entity.ScheduledPublication;
+import com.example.cms.event.PostDeletedEvent;
+import com.example.cms.event.PostPublicationChangedEvent;
+import com.example.cms.repository.ScheduledPublicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 예약 발행
+ * 예약은 scheduled_publications에 저장하고, 각 노드는 기동 시 전체 예약을 계층형 타이밍 휠에 적재해
+ * tick-ms 간격으로 시계를 진행하며 만료된 예약을 발행한다. 다른 노드에서 등록/변경/취소된 예약은 주기적으로 다시 읽어 맞춘다.
+ * 여러 노드가 같은 예약을 동시에 실행해도 예약 행 삭제(claim)에 성공한 노드만 발행하며,
+ * 발행 시각이 바뀐 예약은 이전 시각으로 등록된 휠 항목으로는 선점되지 않는다.
+ */
+@Service
+public class ScheduledPublishService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledPublishService.class);
+
+    private final ScheduledPublicationRepository scheduledPublicationRepository;
+    private final DraftAutosaveService draftAutosaveService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService tickExecutor;
+    private final ExecutorService publishExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+    private final long tickMillis;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+
+    private volatile ScheduledFuture<?> ticker;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ScheduledPublishService(ScheduledPublicationRepository scheduledPublicationRepository,
+                                   DraftAutosaveService draftAutosaveService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Qualifier("publishTickExecutor") ScheduledExecutorService tickExecutor,
+                                   @Qualifier("publishExecutor") ExecutorService publishExecutor,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${cms.posts.scheduled-publish.tick-ms:100}") long tickMillis,
+                                   @Value("${cms.posts.scheduled-publish.wheel-size:64}") int wheelSize) {
+        this.scheduledPublicationRepository = scheduledPublicationRepository;
+        this.draftAutosaveService = draftAutosaveService;
+        this.eventPublisher = eventPublisher;
+        this.tickExecutor = tickExecutor;
+        this.publishExecutor = publishExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tickMillis = tickMillis;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 기동 시 저장된 예약을 적재하고 시계 진행 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        reload();
+        if (ticker == null) {
+            ticker = tickExecutor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 저장된 예약과 휠을 맞춤 (다른 노드에서 등록/변경/취소된 예약 반영)
+     */
+    @Scheduled(initialDelayString = "${cms.posts.scheduled-publish.reload-interval-ms:30000}",
+               fixedDelayString = "${cms.posts.scheduled-publish.reload-interval-ms:30000}")
+    public synchronized void reload() {
+        Map<Long, LocalDateTime> stored = new HashMap<>();
+        transactionTemplate.execute(status -> scheduledPublicationRepository.findAll())
+                .forEach(publication -> stored.put(publication.getPostId(), publication.getPublishAt()));
+
+        scheduled.keySet().stream()
+                .filter(postId -> !stored.containsKey(postId))
+                .toList()
+                .forEach(this::unregister);
+        stored.forEach((postId, publishAt) -> {
+            if (!publishAt.equals(scheduled.get(postId))) {
+                register(postId, publishAt);
+            }
+        });
+    }
+
+    /**
+     * 예약 등록/변경
+     */
+    public ScheduledPublicationDto schedule(Long postId, LocalDateTime publishAt, String email, boolean admin) {
+        if (publishAt == null || !publishAt.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("발행 시각은 현재 이후여야 합니다.");
+        }
+        ScheduledPublication saved = transactionTemplate.execute(status -> {
+            checkEditable(postId, email, admin);
+            ScheduledPublication publication = scheduledPublicationRepository.findById(postId)
+                    .orElseGet(() -> new ScheduledPublication(postId, publishAt, email));
+            publication.reschedule(publishAt, email);
+            return scheduledPublicationRepository.save(publication);
+        });
+        register(postId, saved.getPublishAt());
+        return toDto(saved);
+    }
+
+    /**
+     * 예약 취소
+     */
+    public boolean cancel(Long postId, String email, boolean admin) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            checkEditable(postId, email, admin);
+            return scheduledPublicationRepository.deleteByPostId(postId);
+        });
+        unregister(postId);
+        return deleted != null && deleted > 0;
+    }
+
+    public Optional<ScheduledPublicationDto> getSchedule(Long postId) {
+        return transactionTemplate.execute(status -> scheduledPublicationRepository.findById(postId).map(this::toDto));
+    }
+
+    boolean isRegistered(Long postId) {
+        return wheel.contains(postId);
+    }
+
+    /**
+     * 시계를 진행하고 만료된 예약을 발행 스레드에 넘김
+     */
+    void tick() {
+        try {
+            for (Long postId : wheel.advance(System.currentTimeMillis())) {
+                dispatch(postId);
+            }
+        } catch (RuntimeException e) {
+            log.error("예약 발행 시계 진행 실패", e);
+        }
+    }
+
+    /**
+     * 예약 실행 (예약 행을 선점한 경우에만 발행)
+     *
+     * @return 이 호출로 발행되었으면 true
+     */
+    boolean publish(Long postId, LocalDateTime publishAt) {
+        draftAutosaveService.flush(postId);
+        Boolean published = transactionTemplate.execute(status -> {
+            if (scheduledPublicationRepository.claim(postId, publishAt) == 0) {
+                return false;
+            }
+            List<Object[]> rows = entityManager.createQuery(
+                            "SELECT p.author.id, c.id, p.createdAt FROM Post p LEFT JOIN p.category c " +
+                            "WHERE p.id = :postId AND p.published = false", Object[].class)
+                    .setParameter("postId", postId)
+                    .getResultList();
+            if (rows.isEmpty()) {
+                return false;
+            }
+            entityManager.createQuery(
+                            "UPDATE Post p SET p.published = true, p.updatedAt = :now " +
+                            "WHERE p.id = :postId AND p.published = false")
+                    .setParameter("now", LocalDateTime.now())
+                    .setParameter("postId", postId)
+                    .executeUpdate();
+            Object[] row = rows.get(0);
+            eventPublisher.publishEvent(new PostPublicationChangedEvent(
+                    postId, (Long) row[0], (Long) row[1], true, (LocalDateTime) row[2]));
+            return true;
+        });
+        if (Boolean.TRUE.equals(published)) {
+            log.info("예약 발행: postId={}, publishAt={}, delayMs={}", postId, publishAt,
+                    ChronoUnit.MILLIS.between(publishAt, LocalDateTime.now()));
+        }
+        return Boolean.TRUE.equals(published);
+    }
+
+    /**
+     * 직접 발행/발행 취소된 게시글의 예약 해제
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostPublicationChanged(PostPublicationChangedEvent event) {
+        if (event.published() && scheduled.containsKey(event.postId())) {
+            newTransaction.executeWithoutResult(status -> scheduledPublicationRepository.deleteByPostId(event.postId()));
+            unregister(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (scheduled.containsKey(event.postId())) {
+            newTransaction.executeWithoutResult(status -> scheduledPublicationRepository.deleteByPostId(event.postId()));
+            unregister(event.postId());
+        }
+    }
+
+    private void register(Long postId, LocalDateTime publishAt) {
+        scheduled.put(postId, publishAt);
+        long deadline = publishAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!wheel.schedule(postId, deadline)) {
+            dispatch(postId);
+        }
+    }
+
+    private void unregister(Long postId) {
+        scheduled.remove(postId);
+        wheel.cancel(postId);
+    }
+
+    private void dispatch(Long postId) {
+        LocalDateTime publishAt = scheduled.remove(postId);
+        if (publishAt == null) {
+            return;
+        }
+        publishExecutor.execute(() -> {
+            try {
+                publish(postId, publishAt);
+            } catch (RuntimeException e) {
+                log.error("예약 발행 실패, 다음 적재 때 재시도: postId={}", postId, e);
+            }
+        });
+    }
+
+    private void checkEditable(Long postId, String email, boolean admin) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT p.published, p.author.email FROM Post p WHERE p.id = :postId", Object[].class)
+                .setParameter("postId", postId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + postId);
+        }
+        if (!admin && !Objects.equals(rows.get(0)[1], email)) {
+            throw new IllegalArgumentException("본인이 작성한 게시글만 예약할 수 있습니다.");
+        }
+        if (Boolean.TRUE.equals(rows.get(0)[0])) {
+            throw new IllegalArgumentException("이미 발행된 게시글입니다.");
+        }
+    }
+
+    private ScheduledPublicationDto toDto(ScheduledPublication publication) {
+        return new ScheduledPublicationDto(publication.getPostId(), publication.getPublishAt(),
+                publication.getScheduledBy());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.cms.service;
+
+import com.example.cms.event.TagDeletedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 태그 이름 → ID 일괄 해석
+ * 게시글 작성/수정 시 태그마다 findByName/save를 호출하지 않고,
+ * 캐시에 없는 이름을 IN 쿼리 한 번으로 조회한 뒤 없는 태그만 한 번에 INSERT한다.
+ * 태그 생성은 별도 트랜잭션에서 수행하므로 다른 요청과 같은 태그를 동시에 만들다 유니크 제약에 걸려도
+ * 게시글 트랜잭션은 영향을 받지 않는다.
+ * 태그 이름 컬럼은 대소문자를 구분하지 않는 collation이므로 캐시와 조회 결과는 소문자로 바꾼 이름을 키로 쓴다.
+ */
+@Service
+public class TagResolver {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate newTransaction;
+    private final Cache<String, Long> tagIds;
+
+    public TagResolver(PlatformTransactionManager transactionManager,
+                       @Value("${cms.tags.cache-size:50000}") long cacheSize) {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tagIds = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * 태그 이름을 ID로 해석 (없는 태그는 생성)
+     * 이름은 normalize와 같이 정리하므로(대소문자만 다른 이름은 처음 이름만 유지) 결과에 같은 ID가 두 번 나오지 않으며,
+     * 결과는 입력 순서를 따른다.
+     * 호출자는 결과의 각 ID를 entityManager.getReference(Tag.class, id)로 추가 조회 없이 연관관계로 맺을 수 있다.
+     */
+    public Map<String, Long> resolveIds(Collection<String> tagNames) {
+        Set<String> names = normalize(tagNames);
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> resolved = new HashMap<>(tagIds.getAllPresent(names.stream().map(TagResolver::key).toList()));
+        List<String> unknown = names.stream()
+                .filter(name -> !resolved.containsKey(key(name)))
+                .toList();
+        if (!unknown.isEmpty()) {
+            Map<String, Long> found = findIds(unknown);
+            List<String> missing = unknown.stream().filter(name -> !found.containsKey(key(name))).toList();
+            if (!missing.isEmpty()) {
+                found.putAll(createMissing(missing));
+            }
+            tagIds.putAll(found);
+            resolved.putAll(found);
+        }
+
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (String name : names) {
+            Long id = resolved.get(key(name));
+            if (id == null) {
+                throw new IllegalStateException("태그 ID를 해석하지 못했습니다: " + name);
+            }
+            ordered.put(name, id);
+        }
+        return ordered;
+    }
+
+    /**
+     * 이름 캐시 무효화 (태그 이름 변경 시)
+     */
+    public void evict(String tagName) {
+        tagIds.invalidate(key(tagName.trim()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagDeleted(TagDeletedEvent event) {
+        evict(event.name());
+    }
+
+    /**
+     * 게시글 한 건의 태그 목록 정리 (공백 제거, 빈 이름 제외, 대소문자만 다른 중복은 처음 이름만 유지)
+     */
+    static Set<String> normalize(Collection<String> tagNames) {
+        Map<String, String> byKey = new LinkedHashMap<>();
+        trim(tagNames).forEach(name -> byKey.putIfAbsent(key(name), name));
+        return new LinkedHashSet<>(byKey.values());
+    }
+
+    private static Set<String> trim(Collection<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>();
+        if (tagNames != null) {
+            for (String tagName : tagNames) {
+                if (tagName != null && !tagName.isBlank()) {
+                    names.add(tagName.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 캐시/조회 결과 키 (대소문자를 구분하지 않는 collation과 같은 기준)
+     */
+    static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private Map<String, Long> findIds(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        entityManager.createQuery("SELECT t.name, t.id FROM Tag t WHERE t.name IN :names", Object[].class)
+                .setParameter("names", names)
+                .getResultList()
+                .forEach(row -> ids.put(key((String) row[0]), (Long) row[1]));
+        return ids;
+    }
+
+    /**
+     * 없는 태그를 별도 트랜잭션에서 생성하고 ID 조회
+     * 한 번의 다중 행 INSERT가 동시 생성과 겹쳐 실패하면 이름별로 다시 시도하며, 이미 있는 이름은 건너뛴다.
+     */
+    private Map<String, Long> createMissing(List<String> missing) {
+        try {
+            newTransaction.executeWithoutResult(status -> insert(missing));
+        } catch (PersistenceException | DataAccessException | TransactionException e) {
+            for (String name : missing) {
+                try {
+                    newTransaction.executeWithoutResult(status -> insert(List.of(name)));
+                } catch (PersistenceException | DataAccessException | TransactionException duplicate) {
+                    // 다른 요청이 먼저 생성함
+                }
+            }
+        }
+        Map<String, Long> created = newTransaction.execute(status -> findIds(missing));
+        if (created == null || !missing.stream().allMatch(name -> created.containsKey(key(name)))) {
+            throw new IllegalStateException("태그를 생성하지 못했습니다: " + missing);
+        }
+        return created;
+    }
+
+    private void insert(List<String> names) {
+        StringBuilder hql = new StringBuilder("INSERT INTO Tag (name) VALUES ");
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                hql.append(", ");
+            }
+            hql.append("(:name").append(i).append(')');
+            parameters.add("name" + i);
+        }
+        Query query = entityManager.createQuery(hql.toString());
+        for (int i = 0; i < names.size(); i++) {
+            query.setParameter(parameters.get(i), names.get(i));
+        }
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.cms.service;
+
+import com.example.cms.dto.PostRevisionDiffDto.Segment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 본문 차이 계산과 델타 인코딩
+ * HTML을 태그와 (앞 공백을 포함한) 단어 단위로 나눠 Myers 알고리즘으로 비교한다.
+ * 델타는 "=n"(n글자 유지), "-n"(n글자 삭제), "+n:text"(n글자 삽입) 연산을 이어 붙인 문자열이다.
+ * 편집 거리가 MAX_EDIT_DISTANCE를 넘으면 공통 앞/뒤 부분을 제외한 가운데를 통째로 교체한 것으로 본다.
+ */
+final class TextDelta {
+
+    static final int MAX_EDIT_DISTANCE = 500;
+
+    private TextDelta() {
+    }
+
+    /**
+     * from → to 차이 (같은 종류의 인접 조각은 합쳐짐)
+     */
+    static List<Segment> diff(String from, String to) {
+        List<String> a = ContentDictionaryTrainer.tokenize(from != null ? from : "");
+        List<String> b = ContentDictionaryTrainer.tokenize(to != null ? to : "");
+
+        int prefix = 0;
+        while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.size() - prefix && suffix < b.size() - prefix
+                && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<Segment> tokens = new ArrayList<>();
+        add(tokens, Segment.EQUAL, a.subList(0, prefix));
+        List<String> middleA = a.subList(prefix, a.size() - suffix);
+        List<String> middleB = b.subList(prefix, b.size() - suffix);
+        List<Segment> middle = myers(middleA, middleB);
+        if (middle == null) {
+            add(tokens, Segment.DELETE, middleA);
+            add(tokens, Segment.INSERT, middleB);
+        } else {
+            tokens.addAll(middle);
+        }
+        add(tokens, Segment.EQUAL, a.subList(a.size() - suffix, a.size()));
+        return merge(tokens);
+    }
+
+    /**
+     * from을 to로 바꾸는 델타
+     */
+    static String encode(String from, String to) {
+        StringBuilder delta = new StringBuilder();
+        for (Segment segment : diff(from, to)) {
+            switch (segment.type()) {
+                case Segment.EQUAL -> delta.append('=').append(segment.text().length());
+                case Segment.DELETE -> delta.append('-').append(segment.text().length());
+                default -> delta.append('+').append(segment.text().length()).append(':').append(segment.text());
+            }
+        }
+        return delta.toString();
+    }
+
+    /**
+     * base에 델타 적용
+     */
+    static String apply(String base, String delta) {
+        StringBuilder result = new StringBuilder(base.length() + 64);
+        int position = 0;
+        int i = 0;
+        while (i < delta.length()) {
+            char op = delta.charAt(i++);
+            int start = i;
+            while (i < delta.length() && Character.isDigit(delta.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                throw new IllegalStateException("델타 형식이 올바르지 않습니다.");
+            }
+            int length = Integer.parseInt(delta, start, i, 10);
+            switch (op) {
+                case '=' -> {
+                    result.append(base, position, position + length);
+                    position += length;
+                }
+                case '-' -> position += length;
+                case '+' -> {
+                    if (i >= delta.length() || delta.charAt(i) != ':') {
+                        throw new IllegalStateException("델타 형식이 올바르지 않습니다.");
+                    }
+                    result.append(delta, i + 1, i + 1 + length);
+                    i += 1 + length;
+                }
+                default -> throw new IllegalStateException("델타 형식이 올바르지 않습니다.");
+            }
+        }
+        if (position != base.length()) {
+            throw new IllegalStateException("델타가 기준 본문과 맞지 않습니다.");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Myers 차이 (편집 거리가 상한을 넘으면 null)
+     */
+    private static List<Segment> myers(List<String> a, List<String> b) {
+        int n = a.size();
+        int m = b.size();
+        int maxD = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = maxD + 1;
+        int[] v = new int[2 * maxD + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= maxD; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(a, b, trace, offset);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Segment> backtrack(List<String> a, List<String> b, List<int[]> trace, int offset) {
+        List<Segment> reversed = new ArrayList<>();
+        int x = a.size();
+        int y = b.size();
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int previousK = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) ? k + 1 : k - 1;
+            int previousX = v[offset + previousK];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                reversed.add(new Segment(Segment.EQUAL, a.get(--x)));
+                y--;
+            }
+            if (d > 0) {
+                if (x == previousX) {
+                    reversed.add(new Segment(Segment.INSERT, b.get(--y)));
+                } else {
+                    reversed.add(new Segment(Segment.DELETE, a.get(--x)));
+                }
+            }
+        }
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static void add(List<Segment> tokens, String type, List<String> texts) {
+        texts.forEach(text -> tokens.add(new Segment(type, text)));
+    }
+
+    /**
+     * 토큰 단위 조각을 같은 종류끼리 합침
+     */
+    private static List<Segment> merge(List<Segment> tokens) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        String type = null;
+        for (Segment token : tokens) {
+            if (!token.type().equals(type)) {
+                if (type != null) {
+                    segments.add(new Segment(type, text.toString()));
+                }
+                type = token.type();
+                text.setLength(0);
+            }
+            text.append(token.text());
+        }
+        if (type != null) {
+            segments.add(new Segment(type, text.toString()));
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * 관리자 대시보드 실시간 갱신
+ *
+ * 통계 값을 표시하는 요소에 data-dashboard-metric 속성(예: data-dashboard-metric="TOTAL_USERS")을 지정하고,
+ * 연결된 STOMP 클라이언트로 AdminDashboardLive.start(stompClient, options)를 호출한다.
+ * 실시간 구독이 유지되는 동안에는 페이지의 주기적 새로고침(polling)을 멈추면 된다.
+ *
+ * options.onLive()        - 전체 값 수신 후 호출 (polling 중지 시점)
+ * options.onDisconnect()  - stop() 호출 시 (polling 재개 시점)
+ */
+const AdminDashboardLive = (function () {
+    'use strict';
+
+    const SNAPSHOT_DESTINATION = '/app/admin/dashboard';
+    const UPDATE_DESTINATION = '/topic/admin/dashboard';
+
+    let client = null;
+    let settings = {};
+    let sequence = -1;
+    let pending = [];
+    let subscriptions = [];
+
+    function start(stompClient, options) {
+        stop();
+        client = stompClient;
+        settings = options || {};
+        subscriptions.push(client.subscribe(UPDATE_DESTINATION, onUpdate));
+        requestSnapshot();
+    }
+
+    function stop() {
+        subscriptions.forEach(function (subscription) {
+            subscription.unsubscribe();
+        });
+        subscriptions = [];
+        if (client && settings.onDisconnect) {
+            settings.onDisconnect();
+        }
+        client = null;
+        sequence = -1;
+        pending = [];
+    }
+
+    function requestSnapshot() {
+        sequence = -1;
+        const subscription = client.subscribe(SNAPSHOT_DESTINATION, function (message) {
+            subscription.unsubscribe();
+            const snapshot = JSON.parse(message.body);
+            apply(snapshot);
+            sequence = snapshot.sequence;
+
+            // 전체 값을 기다리는 동안 받은 변경분 중 이후 것만 적용
+            const buffered = pending;
+            pending = [];
+            buffered.forEach(handleUpdate);
+
+            if (settings.onLive) {
+                settings.onLive();
+            }
+        });
+    }
+
+    function onUpdate(message) {
+        handleUpdate(JSON.parse(message.body));
+    }
+
+    function handleUpdate(update) {
+        if (sequence < 0) {
+            pending.push(update);
+            return;
+        }
+        if (update.sequence <= sequence) {
+            return;
+        }
+        if (update.sequence !== sequence + 1) {
+            // 변경분 누락: 전체 값을 다시 받는다
+            requestSnapshot();
+            return;
+        }
+        apply(update);
+        sequence = update.sequence;
+    }
+
+    function apply(update) {
+        Object.keys(update.values || {}).forEach(function (metric) {
+            document.querySelectorAll('[data-dashboard-metric="' + metric + '"]').forEach(function (element) {
+                element.textContent = Number(update.values[metric]).toLocaleString();
+            });
+        });
+
+        const stale = update.staleMetrics || [];
+        document.querySelectorAll('[data-dashboard-metric]').forEach(function (element) {
+            const isStale = stale.indexOf(element.dataset.dashboardMetric) >= 0;
+            element.classList.toggle('text-muted', isStale);
+            element.title = isStale ? '최신 값을 가져오지 못해 이전 값을 표시하고 있습니다.' : '';
+        });
+
+        if (update.lastUpdated) {
+            document.querySelectorAll('[data-dashboard-last-updated]').forEach(function (element) {
+                element.textContent = new Date(update.lastUpdated).toLocaleString();
+            });
+        }
+    }
+
+    return {
+        start: start,
+        stop: stop
+    };
+})();